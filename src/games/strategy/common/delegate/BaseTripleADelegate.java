@@ -13,8 +13,6 @@ import games.strategy.triplea.attachments.TriggerAttachment;
 import games.strategy.triplea.delegate.PoliticsDelegate;
 import games.strategy.triplea.player.ITripleAPlayer;
 import games.strategy.triplea.ui.display.ITripleADisplay;
-import games.strategy.util.CompositeMatchAnd;
-import games.strategy.util.Match;
 
 /**
  * Base class designed to make writing custom TripleA delegates simpler.
@@ -90,11 +88,9 @@ public abstract class BaseTripleADelegate extends AbstractDelegate implements ID
     final GameData data = getData();
     if (games.strategy.triplea.Properties.getTriggers(data)) {
       final String stepName = data.getSequence().getStep().getName();
-      // we use AND in order to make sure there are uses and when is set correctly.
-      final Match<TriggerAttachment> baseDelegateWhenTriggerMatch = new CompositeMatchAnd<TriggerAttachment>(
-          TriggerAttachment.availableUses, TriggerAttachment.whenOrDefaultMatch(beforeOrAfter, stepName));
+      // collectAndFireTriggers only looks at the triggers whose when is set for this step, so just check the uses.
       TriggerAttachment.collectAndFireTriggers(new HashSet<PlayerID>(data.getPlayerList().getPlayers()),
-          baseDelegateWhenTriggerMatch, m_bridge, beforeOrAfter, stepName);
+          TriggerAttachment.availableUses, m_bridge, beforeOrAfter, stepName);
     }
     PoliticsDelegate.chainAlliancesTogether(m_bridge);
   }
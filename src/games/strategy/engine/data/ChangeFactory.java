@@ -3,9 +3,11 @@ package games.strategy.engine.data;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -229,6 +231,123 @@ public class ChangeFactory {
   public static Change markNoMovementChange(final Unit unit) {
     return unitPropertyChange(unit, TripleAUnit.get(unit).getMaxMovementAllowed(), TripleAUnit.ALREADY_MOVED);
   }
+
+  /**
+   * Makes a change that has the same effect as performing the given changes one after the other, but that is usually
+   * much smaller, so it is quick to perform and to invert.
+   * <p>
+   * Units added to and removed from a unit holder are netted out, so a unit that moved through several territories is
+   * only removed from where it started and added to where it ended up. Changes to a property of a unit are merged
+   * with the changes to the same property that follow them, up to the next change of another kind. All other changes
+   * are kept, in their order.
+   * <p>
+   * Units may end up in a different order in their holders than performing the changes would leave them in.
+   */
+  public static Change squash(final List<Change> changes) {
+    final List<Change> squashed = new ArrayList<Change>();
+    final Map<String, UnitHolderDelta> unitDeltas = new LinkedHashMap<String, UnitHolderDelta>();
+    final Map<List<Object>, ObjectPropertyChange[]> propertyChanges =
+        new LinkedHashMap<List<Object>, ObjectPropertyChange[]>();
+    squash(changes, squashed, unitDeltas, propertyChanges);
+    addPropertyChanges(propertyChanges, squashed);
+    for (final UnitHolderDelta delta : unitDeltas.values()) {
+      final Collection<Unit> removed = delta.getUnits(-1);
+      if (!removed.isEmpty()) {
+        squashed.add(new RemoveUnits(delta.m_name, delta.m_type, removed));
+      }
+    }
+    for (final UnitHolderDelta delta : unitDeltas.values()) {
+      final Collection<Unit> added = delta.getUnits(1);
+      if (!added.isEmpty()) {
+        squashed.add(new AddUnits(delta.m_name, delta.m_type, added));
+      }
+    }
+    return new CompositeChange(squashed);
+  }
+
+  private static void squash(final List<Change> changes, final List<Change> squashed,
+      final Map<String, UnitHolderDelta> unitDeltas, final Map<List<Object>, ObjectPropertyChange[]> propertyChanges) {
+    for (final Change change : changes) {
+      if (change instanceof CompositeChange) {
+        squash(((CompositeChange) change).getChanges(), squashed, unitDeltas, propertyChanges);
+      } else if (change instanceof AddUnits) {
+        final AddUnits add = (AddUnits) change;
+        getUnitHolderDelta(unitDeltas, add.getName(), add.getType()).add(add.getUnits(), 1);
+      } else if (change instanceof RemoveUnits) {
+        final RemoveUnits remove = (RemoveUnits) change;
+        getUnitHolderDelta(unitDeltas, remove.getName(), remove.getType()).add(remove.getUnits(), -1);
+      } else if (change instanceof ObjectPropertyChange && ((ObjectPropertyChange) change).getObject() instanceof Unit) {
+        final ObjectPropertyChange propertyChange = (ObjectPropertyChange) change;
+        final List<Object> key = Arrays.asList(propertyChange.getObject(), propertyChange.getProperty());
+        final ObjectPropertyChange[] firstAndLast = propertyChanges.get(key);
+        if (firstAndLast == null) {
+          propertyChanges.put(key, new ObjectPropertyChange[] {propertyChange, propertyChange});
+        } else {
+          firstAndLast[1] = propertyChange;
+        }
+      } else if (!change.isEmpty()) {
+        // the change may depend on the properties set so far, or set them itself
+        addPropertyChanges(propertyChanges, squashed);
+        squashed.add(change);
+      }
+    }
+  }
+
+  private static void addPropertyChanges(final Map<List<Object>, ObjectPropertyChange[]> propertyChanges,
+      final List<Change> squashed) {
+    for (final ObjectPropertyChange[] firstAndLast : propertyChanges.values()) {
+      if (firstAndLast[0] == firstAndLast[1]) {
+        squashed.add(firstAndLast[0]);
+      } else {
+        squashed.add(new ObjectPropertyChange(firstAndLast[0].getObject(), firstAndLast[0].getProperty(),
+            firstAndLast[1].getNewValue(), firstAndLast[0].getOldValue()));
+      }
+    }
+    propertyChanges.clear();
+  }
+
+  private static UnitHolderDelta getUnitHolderDelta(final Map<String, UnitHolderDelta> unitDeltas, final String name,
+      final String type) {
+    final String key = type + ":" + name;
+    UnitHolderDelta delta = unitDeltas.get(key);
+    if (delta == null) {
+      delta = new UnitHolderDelta(name, type);
+      unitDeltas.put(key, delta);
+    }
+    return delta;
+  }
+
+  /**
+   * The units added to and removed from one unit holder.
+   */
+  private static class UnitHolderDelta {
+    private final String m_name;
+    private final String m_type;
+    // 1 if the unit was added, -1 if it was removed, 0 if it is back where it started
+    private final Map<Unit, Integer> m_units = new LinkedHashMap<Unit, Integer>();
+
+    UnitHolderDelta(final String name, final String type) {
+      m_name = name;
+      m_type = type;
+    }
+
+    void add(final Collection<Unit> units, final int count) {
+      for (final Unit unit : units) {
+        final Integer current = m_units.get(unit);
+        m_units.put(unit, current == null ? count : current + count);
+      }
+    }
+
+    Collection<Unit> getUnits(final int count) {
+      final List<Unit> units = new ArrayList<Unit>();
+      for (final Map.Entry<Unit, Integer> entry : m_units.entrySet()) {
+        if (entry.getValue() == count) {
+          units.add(entry.getKey());
+        }
+      }
+      return units;
+    }
+  }
 }
 
 
@@ -409,6 +528,18 @@ class AddUnits extends Change {
     return new RemoveUnits(m_name, m_type, m_units);
   }
 
+  String getName() {
+    return m_name;
+  }
+
+  String getType() {
+    return m_type;
+  }
+
+  Collection<Unit> getUnits() {
+    return m_units;
+  }
+
   @Override
   protected void perform(final GameData data) {
     final UnitHolder holder = data.getUnitHolder(m_name, m_type);
@@ -443,6 +574,18 @@ class RemoveUnits extends Change {
     return new AddUnits(m_name, m_type, m_units);
   }
 
+  String getName() {
+    return m_name;
+  }
+
+  String getType() {
+    return m_type;
+  }
+
+  Collection<Unit> getUnits() {
+    return m_units;
+  }
+
   @Override
   protected void perform(final GameData data) {
     final UnitHolder holder = data.getUnitHolder(m_name, m_type);
@@ -1056,6 +1199,22 @@ class ObjectPropertyChange extends Change {
     return new ObjectPropertyChange(m_object, m_property, m_oldValue, m_newValue);
   }
 
+  Object getObject() {
+    return m_object;
+  }
+
+  String getProperty() {
+    return m_property;
+  }
+
+  Object getNewValue() {
+    return m_newValue;
+  }
+
+  Object getOldValue() {
+    return m_oldValue;
+  }
+
   @Override
   protected void perform(final GameData data) {
     PropertyUtil.set(m_property, m_newValue, m_object);
@@ -19,6 +19,7 @@ import games.strategy.engine.data.events.GameDataChangeListener;
 import games.strategy.engine.data.events.GameMapListener;
 import games.strategy.engine.data.events.TerritoryListener;
 import games.strategy.engine.data.properties.GameProperties;
+import games.strategy.engine.framework.GameDataSnapshot;
 import games.strategy.engine.framework.IGameLoader;
 import games.strategy.engine.framework.message.PlayerListing;
 import games.strategy.engine.history.History;
@@ -93,6 +94,7 @@ public class GameData implements java.io.Serializable {
   private IGameLoader loader;
   private final History gameHistory = new History(this);
   private volatile transient boolean testLockIsHeld = false;
+  private volatile transient long changeCount = 0;
   private final List<Tuple<IAttachment, ArrayList<Tuple<String, String>>>> attachmentOrderAndValues =
       new ArrayList<Tuple<IAttachment, ArrayList<Tuple<String, String>>>>();
   private final Hashtable<String, TerritoryEffect> territoryEffectList = new Hashtable<String, TerritoryEffect>();
@@ -340,6 +342,19 @@ public class GameData implements java.io.Serializable {
     return gameHistory;
   }
 
+  /**
+   * Takes a snapshot of the current state of this game data, without its delegates or history, from which private
+   * copies can be made cheaply (for example one per battle calculator or AI worker).
+   */
+  public GameDataSnapshot snapshot() throws IOException {
+    acquireReadLock();
+    try {
+      return new GameDataSnapshot(this, false, false);
+    } finally {
+      releaseReadLock();
+    }
+  }
+
   /**
    * Not to be called by mere mortals.
    */
@@ -492,9 +507,18 @@ public class GameData implements java.io.Serializable {
     try {
       acquireWriteLock();
       change.perform(this);
+      changeCount++;
     } finally {
       releaseWriteLock();
     }
     notifyGameDataChanged(change);
   }
+
+  /**
+   * @return the number of changes performed on this game data since it was made, loaded or copied, so that anything
+   *         worked out from the game data can be kept until the next change
+   */
+  public long getChangeCount() {
+    return changeCount;
+  }
 }
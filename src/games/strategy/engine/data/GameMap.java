@@ -33,6 +33,10 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
   // otherwise, m_gridDimensions.length is the number of dimensions,
   // and each element is the size of a dimension
   private int[] m_gridDimensions = null;
+  // territory ordinals, and distances for the common movement conditions, built on first use and thrown away whenever
+  // territories or connections change
+  private transient volatile TerritoryOrdinals m_ordinals = null;
+  private transient volatile TerritoryDistanceIndex m_distanceIndex = null;
 
   GameMap(final GameData data) {
     super(data);
@@ -93,6 +97,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
 
   protected void reorderTerritoryList() {
     Collections.sort(m_territories, TERRITORY_GRID_ORDERING);
+    clearOrdinals();
   }
 
   private static Comparator<Territory> TERRITORY_GRID_ORDERING = new Comparator<Territory>() {
@@ -171,6 +176,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     m_territories.add(t1);
     m_connections.put(t1, Collections.<Territory>emptySet());
     m_territoryLookup.put(t1.getName(), t1);
+    clearOrdinals();
   }
 
   protected void removeTerritory(final Territory t1) {
@@ -194,6 +200,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     for (final Entry<Territory, Set<Territory>> entry : tempConnections.entrySet()) {
       m_connections.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
     }
+    clearOrdinals();
   }
 
   /**
@@ -237,6 +244,7 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     final Set<Territory> modified = new HashSet<Territory>(current);
     modified.add(to);
     m_connections.put(from, Collections.unmodifiableSet(modified));
+    clearOrdinals();
   }
 
   /**
@@ -308,6 +316,10 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (distance == 1) {
       return start;
     }
+    final TerritoryDistanceIndex index = getDistanceIndex(null, territory, territory);
+    if (index != null) {
+      return index.getNeighbors(territory, distance, null);
+    }
     final Set<Territory> neighbors = getNeighbors(start, new HashSet<Territory>(start), --distance);
     neighbors.remove(territory);
     return neighbors;
@@ -332,6 +344,10 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (distance == 1) {
       return start;
     }
+    final TerritoryDistanceIndex index = getDistanceIndex(cond, territory, territory);
+    if (index != null) {
+      return index.getNeighbors(territory, distance, cond);
+    }
     final Set<Territory> neighbors = getNeighbors(start, new HashSet<Territory>(start), --distance, cond);
     neighbors.remove(territory);
     return neighbors;
@@ -538,6 +554,10 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     if (t1.equals(t2)) {
       return 0;
     }
+    final TerritoryDistanceIndex index = getDistanceIndex(cond, t1, t2);
+    if (index != null) {
+      return index.getDistance(t1, t2, cond);
+    }
     final Set<Territory> frontier = new HashSet<Territory>();
     frontier.add(t1);
     return getDistance(0, new HashSet<Territory>(), frontier, t2, cond);
@@ -555,6 +575,10 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
    *         or -1 if they are not connected. (Distance includes to the end)
    */
   public int getDistance_IgnoreEndForCondition(final Territory t1, final Territory t2, final Match<Territory> cond) {
+    final TerritoryDistanceIndex index = getDistanceIndex(cond, t1, t2);
+    if (index != null) {
+      return index.getDistanceIgnoringEnd(t1, t2, cond);
+    }
     return getDistance(t1, t2, new CompositeMatchOr<Territory>(Matches.territoryIs(t2), cond));
   }
 
@@ -591,6 +615,70 @@ public class GameMap extends GameDataComponent implements Iterable<Territory> {
     return getDistance(distance + 1, searched, newFrontier, target, cond);
   }
 
+  /**
+   * Returns the distance index if it can answer questions about the given territories and condition, or null if the
+   * distance has to be searched for.
+   */
+  private TerritoryDistanceIndex getDistanceIndex(final Match<Territory> cond, final Territory t1,
+      final Territory t2) {
+    if (!TerritoryDistanceIndex.isIndexed(cond)) {
+      return null;
+    }
+    final TerritoryDistanceIndex index = getDistanceIndex();
+    if (index == null || !index.contains(t1) || !index.contains(t2)) {
+      return null;
+    }
+    return index;
+  }
+
+  /**
+   * Returns the distance index, building it if needed, or null if the map is too big to be indexed.
+   */
+  TerritoryDistanceIndex getDistanceIndex() {
+    if (m_territories.size() > TerritoryDistanceIndex.MAX_TERRITORIES) {
+      return null;
+    }
+    TerritoryDistanceIndex index = m_distanceIndex;
+    if (index == null) {
+      index = new TerritoryDistanceIndex(getTerritoryOrdinals());
+      m_distanceIndex = index;
+    }
+    return index;
+  }
+
+  /**
+   * @return the territories of this map numbered from 0, and the connections between them, for code that wants to
+   *         keep per territory data in arrays instead of hash maps
+   */
+  public TerritoryOrdinals getTerritoryOrdinals() {
+    TerritoryOrdinals ordinals = m_ordinals;
+    if (ordinals == null) {
+      ordinals = new TerritoryOrdinals(m_territories, m_connections);
+      m_ordinals = ordinals;
+    }
+    return ordinals;
+  }
+
+  /**
+   * @return the ordinal of the territory, from 0 to the number of territories - 1, or -1 if the territory is not on
+   *         this map. Ordinals only change when territories are added or removed, or when the territories of a grid
+   *         map are put back in grid order.
+   */
+  public int getOrdinal(final Territory t) {
+    final int ordinal = getTerritoryOrdinals().getOrdinal(t);
+    if (ordinal == -1 && m_territoryLookup.get(t.getName()) == t) {
+      // the territory has been numbered by another map since, so number it again
+      clearOrdinals();
+      return getTerritoryOrdinals().getOrdinal(t);
+    }
+    return ordinal;
+  }
+
+  private void clearOrdinals() {
+    m_ordinals = null;
+    m_distanceIndex = null;
+  }
+
   public IntegerMap<Territory> getDistance(final Territory target, final Collection<Territory> territories,
       final Match<Territory> condition) {
     final IntegerMap<Territory> rVal = new IntegerMap<Territory>();
@@ -8,6 +8,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -21,6 +22,10 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -56,6 +61,9 @@ public class GameParser {
   private GameData data;
   private final Collection<SAXParseException> errorsSAX = new ArrayList<SAXParseException>();
   public static final String DTD_FILE_NAME = "game.dtd";
+  // the parts of the game xml that are needed to select a game, all that is read when parsing is delayed
+  private static final Set<String> SELECTION_ELEMENTS =
+      new HashSet<String>(Arrays.asList("info", "loader", "triplea", "diceSides", "playerList", "propertyList"));
   private static HashMap<String, String> newClassesForOldNames;
 
   public GameParser() {}
@@ -80,7 +88,7 @@ public class GameParser {
     }
     Document doc = null;
     try {
-      doc = getDocument(stream);
+      doc = delayParsing ? getSelectionDocument(stream) : getDocument(stream, true);
     } catch (final IOException e) {
       throw new IllegalStateException(e);
     } catch (final ParserConfigurationException e) {
@@ -245,16 +253,19 @@ public class GameParser {
   }
 
   public Document getDocument(final InputStream input) throws SAXException, IOException, ParserConfigurationException {
+    return getDocument(input, false);
+  }
+
+  /**
+   * @param ignoreWhitespace
+   *        should whitespace between elements be left out of the document? Nothing we parse looks at it, but it can
+   *        take up as many nodes as the elements do.
+   */
+  private Document getDocument(final InputStream input, final boolean ignoreWhitespace)
+      throws SAXException, IOException, ParserConfigurationException {
     final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
     factory.setValidating(true);
-    // get the dtd location
-    final String dtdFile = "/games/strategy/engine/xml/" + DTD_FILE_NAME;
-    final URL url = GameParser.class.getResource(dtdFile);
-    if (url == null) {
-      throw new RuntimeException(String.format("Could not find in classpath %s", dtdFile));
-    }
-    final String dtdSystem = url.toExternalForm();
-    final String system = dtdSystem.substring(0, dtdSystem.length() - 8);
+    factory.setIgnoringElementContentWhitespace(ignoreWhitespace);
     final DocumentBuilder builder = factory.newDocumentBuilder();
     builder.setErrorHandler(new ErrorHandler() {
       @Override
@@ -272,7 +283,88 @@ public class GameParser {
         errorsSAX.add(exception);
       }
     });
-    return builder.parse(input, system);
+    return builder.parse(input, getDtdSystemId());
+  }
+
+  /**
+   * Streams through the game xml and makes a document holding only the parts needed to select a game, see
+   * SELECTION_ELEMENTS. The map, units, attachments and the rest are read past without being kept, so this costs a
+   * fraction of the memory and time of making the whole document, which adds up for the game chooser and for headless
+   * servers that look through every map they have.
+   * <p>
+   * The document is not validated, the whole game xml is validated when the game is parsed for play.
+   */
+  private Document getSelectionDocument(final InputStream input)
+      throws SAXException, ParserConfigurationException {
+    final Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    try {
+      final XMLInputFactory factory = XMLInputFactory.newInstance();
+      factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+      final XMLStreamReader reader = factory.createXMLStreamReader(getDtdSystemId(), input);
+      try {
+        Node current = doc;
+        int depth = 0;
+        // how deep we are inside an element that is not kept, 0 if we are not inside one
+        int skipped = 0;
+        while (reader.hasNext()) {
+          switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+              depth++;
+              if (skipped > 0 || (depth == 2 && !SELECTION_ELEMENTS.contains(reader.getLocalName()))) {
+                skipped++;
+              } else {
+                final Element element = doc.createElement(reader.getLocalName());
+                for (int i = 0; i < reader.getAttributeCount(); i++) {
+                  element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                }
+                current.appendChild(element);
+                current = element;
+              }
+              break;
+            case XMLStreamConstants.END_ELEMENT:
+              depth--;
+              if (skipped > 0) {
+                skipped--;
+              } else {
+                current = current.getParentNode();
+              }
+              break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+              if (skipped == 0 && current != doc) {
+                current.appendChild(doc.createTextNode(reader.getText()));
+              }
+              break;
+            case XMLStreamConstants.COMMENT:
+              // kept since getNonTextNodes counts them
+              if (skipped == 0 && current != doc) {
+                current.appendChild(doc.createComment(reader.getText()));
+              }
+              break;
+            default:
+              break;
+          }
+        }
+      } finally {
+        reader.close();
+      }
+    } catch (final XMLStreamException e) {
+      throw new SAXException(e);
+    }
+    return doc;
+  }
+
+  /**
+   * @return the system id to parse game xmls with, so the dtd they refer to is found on the classpath
+   */
+  private static String getDtdSystemId() {
+    final String dtdFile = "/games/strategy/engine/xml/" + DTD_FILE_NAME;
+    final URL url = GameParser.class.getResource(dtdFile);
+    if (url == null) {
+      throw new RuntimeException(String.format("Could not find in classpath %s", dtdFile));
+    }
+    final String dtdSystem = url.toExternalForm();
+    return dtdSystem.substring(0, dtdSystem.length() - 8);
   }
 
   /**
@@ -97,6 +97,36 @@ public class GameSequence extends GameDataComponent implements Iterable<GameStep
     m_currentIndex = newIndex;
   }
 
+  /**
+   * The round, the current step and how many times each step has run. These change as the game goes on without any
+   * Change being made, so a game restored by replaying changes must restore them with setPosition(...).
+   */
+  public int[] getPosition() {
+    synchronized (m_currentStepMutex) {
+      final int[] position = new int[2 + m_steps.size()];
+      position[0] = m_round;
+      position[1] = m_currentIndex;
+      for (int i = 0; i < m_steps.size(); i++) {
+        position[2 + i] = m_steps.get(i).getRunCount();
+      }
+      return position;
+    }
+  }
+
+  public void setPosition(final int[] position) {
+    synchronized (m_currentStepMutex) {
+      if (position.length != 2 + m_steps.size()) {
+        throw new IllegalArgumentException("Position is for " + (position.length - 2) + " steps, but there are "
+            + m_steps.size());
+      }
+      m_round = position[0];
+      setStepIndex(position[1]);
+      for (int i = 0; i < m_steps.size(); i++) {
+        m_steps.get(i).setRunCount(position[2 + i]);
+      }
+    }
+  }
+
   /**
    * @return boolean wether the round has changed
    */
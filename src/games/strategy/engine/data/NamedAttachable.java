@@ -1,12 +1,16 @@
 package games.strategy.engine.data;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class NamedAttachable extends DefaultNamed implements Attachable {
   private static final long serialVersionUID = 8597712929519099255L;
   private final Map<String, IAttachment> m_attachments = new HashMap<String, IAttachment>();
+  // the attachments of each type asked for, forgotten whenever an attachment is added or removed
+  private transient Map<Class<?>, List<?>> m_attachmentsByType;
 
   /** Creates new NamedAttachable */
   public NamedAttachable(final String name, final GameData data) {
@@ -23,13 +27,38 @@ public class NamedAttachable extends DefaultNamed implements Attachable {
     return Collections.unmodifiableMap(m_attachments);
   }
 
+  /**
+   * @return the attachments that are instances of the given type, as an unmodifiable list. The list is worked out once
+   *         and kept until an attachment is added or removed, so asking for it again costs nothing.
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized <T extends IAttachment> List<T> getAttachments(final Class<T> type) {
+    if (m_attachmentsByType == null) {
+      m_attachmentsByType = new HashMap<Class<?>, List<?>>();
+    }
+    List<T> attachments = (List<T>) m_attachmentsByType.get(type);
+    if (attachments == null) {
+      final List<T> matching = new ArrayList<T>();
+      for (final IAttachment attachment : m_attachments.values()) {
+        if (type.isInstance(attachment)) {
+          matching.add(type.cast(attachment));
+        }
+      }
+      attachments = Collections.unmodifiableList(matching);
+      m_attachmentsByType.put(type, attachments);
+    }
+    return attachments;
+  }
+
   @Override
-  public void addAttachment(final String key, final IAttachment value) {
+  public synchronized void addAttachment(final String key, final IAttachment value) {
     m_attachments.put(key, value);
+    m_attachmentsByType = null;
   }
 
   @Override
-  public void removeAttachment(final String keyString) {
+  public synchronized void removeAttachment(final String keyString) {
     m_attachments.remove(keyString);
+    m_attachmentsByType = null;
   }
 }
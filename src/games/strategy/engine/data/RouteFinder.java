@@ -1,71 +1,194 @@
 package games.strategy.engine.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 
 import games.strategy.util.Match;
 
+/**
+ * Finds a shortest route between two territories, where every territory stepped into matches a condition.
+ * <p>
+ * For the conditions kept by the map's distance index (any territory, land, water), the route is read back from the
+ * indexed distances. For other conditions, a breadth first search is run from both ends at once over the territory
+ * ordinals, which looks at far fewer territories than searching from the start alone. The arrays used by the search
+ * are kept per thread and reused, so a search allocates almost nothing.
+ */
 // TODO this class doesn't take movementcost into account... typically the shortest route is the fastest route, but not
 // always...
 public class RouteFinder {
+  private static final ThreadLocal<SearchState> s_searchState = new ThreadLocal<SearchState>() {
+    @Override
+    protected SearchState initialValue() {
+      return new SearchState();
+    }
+  };
   private final GameMap m_map;
   private final Match<Territory> m_condition;
-  private final Map<Territory, Territory> m_previous;
 
   public RouteFinder(final GameMap map, final Match<Territory> condition) {
     m_map = map;
     m_condition = condition;
-    m_previous = new HashMap<Territory, Territory>();
   }
 
   public Route findRoute(final Territory start, final Territory end) {
-    final Set<Territory> startSet = m_map.getNeighbors(start, m_condition);
-    for (final Territory t : startSet) {
-      m_previous.put(t, start);
+    final int startOrdinal = m_map.getOrdinal(start);
+    final int endOrdinal = m_map.getOrdinal(end);
+    if (startOrdinal == -1 || endOrdinal == -1) {
+      return null;
+    }
+    if (startOrdinal == endOrdinal) {
+      return new Route(start);
+    }
+    if (TerritoryDistanceIndex.isIndexed(m_condition)) {
+      final TerritoryDistanceIndex index = m_map.getDistanceIndex();
+      if (index != null) {
+        return index.getRoute(start, end, m_condition);
+      }
+    }
+    SearchState state = s_searchState.get();
+    if (state.m_inUse) {
+      // the condition is looking for a route itself
+      state = new SearchState();
     }
-    if (calculate(startSet, end)) {
-      return getRoute(start, end);
+    state.m_inUse = true;
+    try {
+      return state.findRoute(m_map.getTerritoryOrdinals(), startOrdinal, endOrdinal, m_condition);
+    } finally {
+      state.m_inUse = false;
     }
-    return null;
   }
 
-  private boolean calculate(final Set<Territory> startSet, final Territory end) {
-    final Set<Territory> nextSet = new HashSet<Territory>();
-    for (final Territory t : startSet) {
-      final Set<Territory> neighbors = m_map.getNeighbors(t, m_condition);
-      for (final Territory neighbor : neighbors) {
-        if (!m_previous.containsKey(neighbor)) {
-          m_previous.put(neighbor, t);
-          if (neighbor.equals(end)) {
-            return true;
-          }
-          nextSet.add(neighbor);
-        }
+  /**
+   * The arrays used by one thread's searches. Instead of being cleared before each search, entries are stamped with
+   * the number of the search that wrote them, and entries with an older stamp count as empty.
+   */
+  private static final class SearchState {
+    private boolean m_inUse = false;
+    private int m_search = 0;
+    // when each territory was reached from the start, and from which territory
+    private int[] m_forwardStamp = new int[0];
+    private int[] m_previous = new int[0];
+    // when each territory was reached from the end, and which territory it leads to
+    private int[] m_backwardStamp = new int[0];
+    private int[] m_next = new int[0];
+    // when the condition was checked for each territory, and whether it matched
+    private int[] m_conditionStamp = new int[0];
+    private boolean[] m_conditionMatched = new boolean[0];
+    private int[] m_forwardQueue = new int[0];
+    private int[] m_backwardQueue = new int[0];
+
+    private void prepare(final int size) {
+      if (m_forwardStamp.length < size) {
+        m_forwardStamp = new int[size];
+        m_previous = new int[size];
+        m_backwardStamp = new int[size];
+        m_next = new int[size];
+        m_conditionStamp = new int[size];
+        m_conditionMatched = new boolean[size];
+        m_forwardQueue = new int[size];
+        m_backwardQueue = new int[size];
+        m_search = 0;
+      }
+      m_search++;
+      if (m_search == Integer.MAX_VALUE) {
+        // start the stamps again, rather than let an old stamp look current
+        Arrays.fill(m_forwardStamp, 0);
+        Arrays.fill(m_backwardStamp, 0);
+        Arrays.fill(m_conditionStamp, 0);
+        m_search = 1;
       }
     }
-    if (nextSet.isEmpty()) {
-      return false;
+
+    private boolean matches(final TerritoryOrdinals ordinals, final int territory, final Match<Territory> condition) {
+      if (m_conditionStamp[territory] != m_search) {
+        m_conditionStamp[territory] = m_search;
+        m_conditionMatched[territory] = condition == null || condition.match(ordinals.getTerritory(territory));
+      }
+      return m_conditionMatched[territory];
     }
-    return calculate(nextSet, end);
-  }
 
-  private Route getRoute(final Territory start, final Territory destination) {
-    final List<Territory> route = new ArrayList<Territory>();
-    Territory current = destination;
-    while (current != start) {
-      if (current == null) {
+    Route findRoute(final TerritoryOrdinals ordinals, final int start, final int end,
+        final Match<Territory> condition) {
+      prepare(ordinals.size());
+      final int[] connectionOffsets = ordinals.getConnectionOffsets();
+      final int[] connections = ordinals.getConnections();
+      final int[] connectedFromOffsets = ordinals.getConnectedFromOffsets();
+      final int[] connectedFrom = ordinals.getConnectedFrom();
+      // the end is stepped into, so it has to match
+      if (!matches(ordinals, end, condition)) {
         return null;
       }
-      route.add(current);
-      current = m_previous.get(current);
+      m_forwardStamp[start] = m_search;
+      m_previous[start] = -1;
+      m_backwardStamp[end] = m_search;
+      m_next[end] = -1;
+      int forwardHead = 0;
+      int forwardTail = 0;
+      int backwardHead = 0;
+      int backwardTail = 0;
+      m_forwardQueue[forwardTail++] = start;
+      m_backwardQueue[backwardTail++] = end;
+      // grow whichever side has the smaller frontier by one whole level at a time, and stop as soon as the two sides
+      // meet, which is then along a shortest route
+      while (forwardHead < forwardTail && backwardHead < backwardTail) {
+        if (forwardTail - forwardHead <= backwardTail - backwardHead) {
+          final int levelEnd = forwardTail;
+          while (forwardHead < levelEnd) {
+            final int current = m_forwardQueue[forwardHead++];
+            for (int k = connectionOffsets[current]; k < connectionOffsets[current + 1]; k++) {
+              final int neighbor = connections[k];
+              if (m_forwardStamp[neighbor] == m_search || !matches(ordinals, neighbor, condition)) {
+                continue;
+              }
+              m_forwardStamp[neighbor] = m_search;
+              m_previous[neighbor] = current;
+              if (m_backwardStamp[neighbor] == m_search) {
+                return getRoute(ordinals, neighbor);
+              }
+              m_forwardQueue[forwardTail++] = neighbor;
+            }
+          }
+        } else {
+          final int levelEnd = backwardTail;
+          while (backwardHead < levelEnd) {
+            final int current = m_backwardQueue[backwardHead++];
+            for (int k = connectedFromOffsets[current]; k < connectedFromOffsets[current + 1]; k++) {
+              final int previous = connectedFrom[k];
+              if (m_backwardStamp[previous] == m_search) {
+                continue;
+              }
+              // everything but the start is stepped into
+              if (previous != start && !matches(ordinals, previous, condition)) {
+                continue;
+              }
+              m_backwardStamp[previous] = m_search;
+              m_next[previous] = current;
+              if (m_forwardStamp[previous] == m_search) {
+                return getRoute(ordinals, previous);
+              }
+              m_backwardQueue[backwardTail++] = previous;
+            }
+          }
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Joins the route from the start to the given territory with the route from it to the end.
+     */
+    private Route getRoute(final TerritoryOrdinals ordinals, final int meeting) {
+      final List<Territory> route = new ArrayList<Territory>();
+      for (int current = meeting; current != -1; current = m_previous[current]) {
+        route.add(ordinals.getTerritory(current));
+      }
+      Collections.reverse(route);
+      for (int current = m_next[meeting]; current != -1; current = m_next[current]) {
+        route.add(ordinals.getTerritory(current));
+      }
+      return new Route(route);
     }
-    route.add(start);
-    Collections.reverse(route);
-    return new Route(route);
   }
 }
@@ -9,6 +9,8 @@ public class Territory extends NamedAttachable implements NamedUnitHolder, Seria
   private final UnitCollection m_units;
   // In a grid-based game, stores the coordinate of the Territory
   private final int[] m_coordinate;
+  // position in the map's territory list, set by TerritoryOrdinals, see GameMap.getOrdinal
+  private transient int m_ordinal;
 
   /** Creates new Territory */
   public Territory(final String name, final boolean water, final GameData data) {
@@ -34,6 +36,14 @@ public class Territory extends NamedAttachable implements NamedUnitHolder, Seria
     return m_water;
   }
 
+  int getOrdinal() {
+    return m_ordinal;
+  }
+
+  void setOrdinal(final int ordinal) {
+    m_ordinal = ordinal;
+  }
+
   /**
    * May be null if not owned.
    */
@@ -0,0 +1,163 @@
+package games.strategy.engine.data;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of the territories of one map, kept as one bit per territory ordinal.
+ * <p>
+ * Checking, adding and removing territories costs no hashing, and combining two sets of the same map only combines
+ * their bits. Territories that are not on the map are never contained, and can not be added.
+ * <p>
+ * The set belongs to the map as it was when the set was made. It must not be used after territories are added to or
+ * removed from the map.
+ */
+public class TerritoryBitSet extends AbstractSet<Territory> {
+  private final TerritoryOrdinals m_ordinals;
+  private final BitSet m_bits;
+
+  public TerritoryBitSet(final GameMap map) {
+    this(map.getTerritoryOrdinals());
+  }
+
+  public TerritoryBitSet(final GameMap map, final Collection<Territory> territories) {
+    this(map);
+    addAll(territories);
+  }
+
+  TerritoryBitSet(final TerritoryOrdinals ordinals) {
+    m_ordinals = ordinals;
+    m_bits = new BitSet(ordinals.size());
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    if (!(o instanceof Territory)) {
+      return false;
+    }
+    final int ordinal = m_ordinals.getOrdinal((Territory) o);
+    return ordinal != -1 && m_bits.get(ordinal);
+  }
+
+  public boolean containsOrdinal(final int ordinal) {
+    return m_bits.get(ordinal);
+  }
+
+  @Override
+  public boolean add(final Territory t) {
+    return addOrdinal(getOrdinal(t));
+  }
+
+  public boolean addOrdinal(final int ordinal) {
+    if (m_bits.get(ordinal)) {
+      return false;
+    }
+    m_bits.set(ordinal);
+    return true;
+  }
+
+  @Override
+  public boolean remove(final Object o) {
+    if (!(o instanceof Territory)) {
+      return false;
+    }
+    final int ordinal = m_ordinals.getOrdinal((Territory) o);
+    if (ordinal == -1 || !m_bits.get(ordinal)) {
+      return false;
+    }
+    m_bits.clear(ordinal);
+    return true;
+  }
+
+  @Override
+  public boolean addAll(final Collection<? extends Territory> c) {
+    if (isSameMap(c)) {
+      final int before = m_bits.cardinality();
+      m_bits.or(((TerritoryBitSet) c).m_bits);
+      return m_bits.cardinality() != before;
+    }
+    return super.addAll(c);
+  }
+
+  @Override
+  public boolean retainAll(final Collection<?> c) {
+    if (isSameMap(c)) {
+      final int before = m_bits.cardinality();
+      m_bits.and(((TerritoryBitSet) c).m_bits);
+      return m_bits.cardinality() != before;
+    }
+    return super.retainAll(c);
+  }
+
+  @Override
+  public boolean removeAll(final Collection<?> c) {
+    if (isSameMap(c)) {
+      final int before = m_bits.cardinality();
+      m_bits.andNot(((TerritoryBitSet) c).m_bits);
+      return m_bits.cardinality() != before;
+    }
+    return super.removeAll(c);
+  }
+
+  @Override
+  public int size() {
+    return m_bits.cardinality();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return m_bits.isEmpty();
+  }
+
+  @Override
+  public void clear() {
+    m_bits.clear();
+  }
+
+  @Override
+  public Iterator<Territory> iterator() {
+    return new Iterator<Territory>() {
+      private int m_next = m_bits.nextSetBit(0);
+      private int m_last = -1;
+
+      @Override
+      public boolean hasNext() {
+        return m_next != -1;
+      }
+
+      @Override
+      public Territory next() {
+        if (m_next == -1) {
+          throw new NoSuchElementException();
+        }
+        m_last = m_next;
+        m_next = m_bits.nextSetBit(m_next + 1);
+        return m_ordinals.getTerritory(m_last);
+      }
+
+      @Override
+      public void remove() {
+        if (m_last == -1) {
+          throw new IllegalStateException();
+        }
+        m_bits.clear(m_last);
+        m_last = -1;
+      }
+    };
+  }
+
+  private boolean isSameMap(final Collection<?> c) {
+    return c instanceof TerritoryBitSet && ((TerritoryBitSet) c).m_ordinals == m_ordinals;
+  }
+
+  private int getOrdinal(final Territory t) {
+    final int ordinal = m_ordinals.getOrdinal(t);
+    if (ordinal == -1) {
+      throw new IllegalArgumentException("Territory is not on the map: " + t);
+    }
+    return ordinal;
+  }
+}
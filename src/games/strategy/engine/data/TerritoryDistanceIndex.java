@@ -0,0 +1,203 @@
+package games.strategy.engine.data;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.util.Match;
+
+/**
+ * Distances between the territories of a map, for the conditions that do not change during a game: any territory,
+ * land only and water only.
+ * <p>
+ * The distances from a territory are worked out with one breadth first search the first time they are needed, and
+ * kept as a row of shorts indexed by territory ordinal. Each row also keeps the territories in the order they were
+ * reached, so finding every territory within a distance only looks at those territories.
+ * <p>
+ * The index does not notice changes to the map. GameMap throws it away whenever territories or connections change.
+ */
+class TerritoryDistanceIndex {
+  /**
+   * Maps bigger than this are not indexed, so a single index never takes more than a few megabytes per condition.
+   */
+  static final int MAX_TERRITORIES = 2048;
+  private static final short UNREACHABLE = -1;
+  private static final int ANY = 0;
+  private static final int LAND = 1;
+  private static final int WATER = 2;
+  private final TerritoryOrdinals m_ordinals;
+  private final boolean[] m_water;
+  // [condition][from territory], null until needed
+  private final short[][][] m_distances = new short[3][][];
+  private final short[][][] m_reachedOrder = new short[3][][];
+
+  TerritoryDistanceIndex(final TerritoryOrdinals ordinals) {
+    final int count = ordinals.size();
+    if (count > MAX_TERRITORIES) {
+      throw new IllegalArgumentException("Too many territories to index: " + count);
+    }
+    m_ordinals = ordinals;
+    m_water = new boolean[count];
+    for (int i = 0; i < count; i++) {
+      m_water[i] = ordinals.getTerritory(i).isWater();
+    }
+    for (int condition = 0; condition < m_distances.length; condition++) {
+      m_distances[condition] = new short[count][];
+      m_reachedOrder[condition] = new short[count][];
+    }
+  }
+
+  /**
+   * Returns whether distances over territories matching the given condition can be answered by the index.
+   */
+  static boolean isIndexed(final Match<Territory> cond) {
+    return getCondition(cond) != -1;
+  }
+
+  boolean contains(final Territory t) {
+    return m_ordinals.getOrdinal(t) != -1;
+  }
+
+  /**
+   * Same as GameMap.getDistance(from, to, cond): the number of steps from one territory to the other, where every
+   * territory stepped into matches the condition, or -1 if there is no such route.
+   * Both territories must be on the map, and the condition must be indexed.
+   */
+  int getDistance(final Territory from, final Territory to, final Match<Territory> cond) {
+    final int condition = getCondition(cond);
+    return getDistances(condition, m_ordinals.getOrdinal(from))[m_ordinals.getOrdinal(to)];
+  }
+
+  /**
+   * Same as GameMap.getDistance_IgnoreEndForCondition(from, to, cond): like getDistance, except that the last
+   * territory does not have to match the condition.
+   */
+  int getDistanceIgnoringEnd(final Territory from, final Territory to, final Match<Territory> cond) {
+    final int condition = getCondition(cond);
+    final int fromOrdinal = m_ordinals.getOrdinal(from);
+    final int toOrdinal = m_ordinals.getOrdinal(to);
+    if (fromOrdinal == toOrdinal) {
+      return 0;
+    }
+    final short[] distances = getDistances(condition, fromOrdinal);
+    final int[] offsets = m_ordinals.getConnectedFromOffsets();
+    final int[] connectedFrom = m_ordinals.getConnectedFrom();
+    int best = UNREACHABLE;
+    for (int k = offsets[toOrdinal]; k < offsets[toOrdinal + 1]; k++) {
+      final int last = connectedFrom[k];
+      if (distances[last] != UNREACHABLE && (best == UNREACHABLE || distances[last] + 1 < best)) {
+        best = distances[last] + 1;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Returns a shortest route from one territory to the other, where every territory stepped into matches the
+   * condition, or null if there is no such route. The route is read back from the distances from the start, so no
+   * searching is needed once those are known.
+   */
+  Route getRoute(final Territory from, final Territory to, final Match<Territory> cond) {
+    final int condition = getCondition(cond);
+    final short[] distances = getDistances(condition, m_ordinals.getOrdinal(from));
+    final int[] offsets = m_ordinals.getConnectedFromOffsets();
+    final int[] connectedFrom = m_ordinals.getConnectedFrom();
+    int current = m_ordinals.getOrdinal(to);
+    if (distances[current] == UNREACHABLE) {
+      return null;
+    }
+    final Territory[] route = new Territory[distances[current] + 1];
+    while (distances[current] > 0) {
+      route[distances[current]] = m_ordinals.getTerritory(current);
+      for (int k = offsets[current]; k < offsets[current + 1]; k++) {
+        if (distances[connectedFrom[k]] == distances[current] - 1) {
+          current = connectedFrom[k];
+          break;
+        }
+      }
+    }
+    route[0] = from;
+    return new Route(Arrays.asList(route));
+  }
+
+  /**
+   * Same as GameMap.getNeighbors(territory, distance, cond): every territory at least one and at most distance steps
+   * away, where every territory stepped into matches the condition.
+   */
+  Set<Territory> getNeighbors(final Territory territory, final int distance, final Match<Territory> cond) {
+    final int condition = getCondition(cond);
+    final int fromOrdinal = m_ordinals.getOrdinal(territory);
+    final short[] distances = getDistances(condition, fromOrdinal);
+    final short[] reachedOrder = m_reachedOrder[condition][fromOrdinal];
+    final Set<Territory> neighbors = new HashSet<Territory>();
+    // the first territory reached is the start territory itself
+    for (int i = 1; i < reachedOrder.length && distances[reachedOrder[i]] <= distance; i++) {
+      neighbors.add(m_ordinals.getTerritory(reachedOrder[i]));
+    }
+    return neighbors;
+  }
+
+  private short[] getDistances(final int condition, final int fromOrdinal) {
+    synchronized (m_distances) {
+      short[] distances = m_distances[condition][fromOrdinal];
+      if (distances == null) {
+        distances = search(condition, fromOrdinal);
+        m_distances[condition][fromOrdinal] = distances;
+      }
+      return distances;
+    }
+  }
+
+  /**
+   * Breadth first search from the given territory, over territories matching the condition.
+   */
+  private short[] search(final int condition, final int fromOrdinal) {
+    final int[] offsets = m_ordinals.getConnectionOffsets();
+    final int[] connections = m_ordinals.getConnections();
+    final short[] distances = new short[m_ordinals.size()];
+    Arrays.fill(distances, UNREACHABLE);
+    final short[] queue = new short[m_ordinals.size()];
+    int head = 0;
+    int tail = 0;
+    distances[fromOrdinal] = 0;
+    queue[tail++] = (short) fromOrdinal;
+    while (head < tail) {
+      final int current = queue[head++];
+      final short nextDistance = (short) (distances[current] + 1);
+      for (int k = offsets[current]; k < offsets[current + 1]; k++) {
+        final int neighbor = connections[k];
+        if (distances[neighbor] == UNREACHABLE && matches(condition, neighbor)) {
+          distances[neighbor] = nextDistance;
+          queue[tail++] = (short) neighbor;
+        }
+      }
+    }
+    m_reachedOrder[condition][fromOrdinal] = Arrays.copyOf(queue, tail);
+    return distances;
+  }
+
+  private boolean matches(final int condition, final int ordinal) {
+    switch (condition) {
+      case LAND:
+        return !m_water[ordinal];
+      case WATER:
+        return m_water[ordinal];
+      default:
+        return true;
+    }
+  }
+
+  private static int getCondition(final Match<Territory> cond) {
+    if (cond == null || cond == Matches.TerritoryIsLandOrWater) {
+      return ANY;
+    }
+    if (cond == Matches.TerritoryIsLand) {
+      return LAND;
+    }
+    if (cond == Matches.TerritoryIsWater) {
+      return WATER;
+    }
+    return -1;
+  }
+}
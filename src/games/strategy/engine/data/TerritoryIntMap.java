@@ -0,0 +1,117 @@
+package games.strategy.engine.data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import games.strategy.util.IntegerMap;
+
+/**
+ * Like IntegerMap&lt;Territory&gt;, but kept as an int array indexed by territory ordinal, so getting and adding
+ * values costs no hashing or boxing.
+ * <p>
+ * As with IntegerMap, territories that have not been put in the map have a value of 0. Territories that are not on
+ * the map can be asked for, but can not be put in.
+ * <p>
+ * The map belongs to the game map as it was when the map was made. It must not be used after territories are added
+ * to or removed from the game map.
+ */
+public class TerritoryIntMap {
+  private final TerritoryOrdinals m_ordinals;
+  private final int[] m_values;
+  private final TerritoryBitSet m_keys;
+
+  public TerritoryIntMap(final GameMap map) {
+    m_ordinals = map.getTerritoryOrdinals();
+    m_values = new int[m_ordinals.size()];
+    m_keys = new TerritoryBitSet(m_ordinals);
+  }
+
+  public int getInt(final Territory t) {
+    final int ordinal = m_ordinals.getOrdinal(t);
+    return ordinal == -1 ? 0 : m_values[ordinal];
+  }
+
+  public int getInt(final int ordinal) {
+    return m_values[ordinal];
+  }
+
+  public void put(final Territory t, final int value) {
+    put(getOrdinal(t), value);
+  }
+
+  public void put(final int ordinal, final int value) {
+    m_values[ordinal] = value;
+    m_keys.addOrdinal(ordinal);
+  }
+
+  public void add(final Territory t, final int value) {
+    add(getOrdinal(t), value);
+  }
+
+  public void add(final int ordinal, final int value) {
+    m_values[ordinal] += value;
+    m_keys.addOrdinal(ordinal);
+  }
+
+  public boolean containsKey(final Territory t) {
+    return m_keys.contains(t);
+  }
+
+  public void removeKey(final Territory t) {
+    final int ordinal = m_ordinals.getOrdinal(t);
+    if (ordinal != -1) {
+      m_values[ordinal] = 0;
+      m_keys.remove(t);
+    }
+  }
+
+  /**
+   * @return the territories that have been put in this map, as an unmodifiable set
+   */
+  public Set<Territory> keySet() {
+    return Collections.unmodifiableSet(m_keys);
+  }
+
+  public int size() {
+    return m_keys.size();
+  }
+
+  public boolean isEmpty() {
+    return m_keys.isEmpty();
+  }
+
+  public int totalValues() {
+    int total = 0;
+    for (final int value : m_values) {
+      total += value;
+    }
+    return total;
+  }
+
+  public void clear() {
+    Arrays.fill(m_values, 0);
+    m_keys.clear();
+  }
+
+  public IntegerMap<Territory> toIntegerMap() {
+    final IntegerMap<Territory> map = new IntegerMap<Territory>(m_keys.size());
+    for (final Territory t : m_keys) {
+      map.put(t, getInt(t));
+    }
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return toIntegerMap().toString();
+  }
+
+  private int getOrdinal(final Territory t) {
+    final int ordinal = m_ordinals.getOrdinal(t);
+    if (ordinal == -1) {
+      throw new IllegalArgumentException("Territory is not on the map: " + t);
+    }
+    return ordinal;
+  }
+}
@@ -0,0 +1,96 @@
+package games.strategy.engine.data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The territories of a map numbered from 0, in the order of the map's territory list, together with the connections
+ * between them as compressed rows of ordinals.
+ * <p>
+ * The territories that territory i connects to are connections[offsets[i]] up to, but not including,
+ * connections[offsets[i + 1]]. The territories that connect to territory i are stored the same way, which only
+ * differs from the first when the map has one way connections.
+ * <p>
+ * This is a snapshot. GameMap makes a new one whenever territories or connections change, so the ordinal of a
+ * territory stays the same for as long as the map does. The arrays returned by the getters are shared and must not
+ * be changed.
+ */
+public final class TerritoryOrdinals {
+  private final Territory[] m_territories;
+  private final int[] m_connectionOffsets;
+  private final int[] m_connections;
+  private final int[] m_connectedFromOffsets;
+  private final int[] m_connectedFrom;
+
+  TerritoryOrdinals(final List<Territory> territories, final Map<Territory, Set<Territory>> connections) {
+    final int count = territories.size();
+    m_territories = territories.toArray(new Territory[count]);
+    for (int i = 0; i < count; i++) {
+      m_territories[i].setOrdinal(i);
+    }
+    m_connectionOffsets = new int[count + 1];
+    final int[] connectedFromCounts = new int[count];
+    int total = 0;
+    for (int i = 0; i < count; i++) {
+      m_connectionOffsets[i] = total;
+      total += connections.get(m_territories[i]).size();
+    }
+    m_connectionOffsets[count] = total;
+    m_connections = new int[total];
+    for (int i = 0; i < count; i++) {
+      int next = m_connectionOffsets[i];
+      for (final Territory neighbor : connections.get(m_territories[i])) {
+        final int ordinal = neighbor.getOrdinal();
+        m_connections[next++] = ordinal;
+        connectedFromCounts[ordinal]++;
+      }
+    }
+    m_connectedFromOffsets = new int[count + 1];
+    for (int i = 0; i < count; i++) {
+      m_connectedFromOffsets[i + 1] = m_connectedFromOffsets[i] + connectedFromCounts[i];
+      connectedFromCounts[i] = m_connectedFromOffsets[i];
+    }
+    m_connectedFrom = new int[total];
+    for (int i = 0; i < count; i++) {
+      for (int k = m_connectionOffsets[i]; k < m_connectionOffsets[i + 1]; k++) {
+        m_connectedFrom[connectedFromCounts[m_connections[k]]++] = i;
+      }
+    }
+  }
+
+  public int size() {
+    return m_territories.length;
+  }
+
+  /**
+   * @return the ordinal of the territory, or -1 if it is not on the map this snapshot was taken of
+   */
+  public int getOrdinal(final Territory t) {
+    final int ordinal = t.getOrdinal();
+    if (ordinal < 0 || ordinal >= m_territories.length || m_territories[ordinal] != t) {
+      return -1;
+    }
+    return ordinal;
+  }
+
+  public Territory getTerritory(final int ordinal) {
+    return m_territories[ordinal];
+  }
+
+  public int[] getConnectionOffsets() {
+    return m_connectionOffsets;
+  }
+
+  public int[] getConnections() {
+    return m_connections;
+  }
+
+  public int[] getConnectedFromOffsets() {
+    return m_connectedFromOffsets;
+  }
+
+  public int[] getConnectedFrom() {
+    return m_connectedFrom;
+  }
+}
@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -33,6 +34,34 @@ public class GameProperties extends GameDataComponent {
   // This list is used to keep track of order properties were
   // added.
   private final List<String> ordering = new ArrayList<String>();
+  // by key index, where each key's value comes from: the editable property, the constant value, or NOT_SET.
+  // Filled in as keys are used, and thrown away whenever a property is set or added.
+  private transient volatile Object[] keyedValues;
+  private static final Object NOT_SET = new Object();
+
+  /**
+   * The name of a property, made once so that the property can be looked up by index rather than by name.
+   * Keys are meant to be kept in static fields by the code that reads the property often.
+   */
+  public static final class Key {
+    private static final AtomicInteger s_count = new AtomicInteger();
+    private final String m_name;
+    private final int m_index;
+
+    public Key(final String name) {
+      m_name = name;
+      m_index = s_count.getAndIncrement();
+    }
+
+    public String getName() {
+      return m_name;
+    }
+
+    @Override
+    public String toString() {
+      return m_name;
+    }
+  }
 
   /**
    * Creates a new instance of Properties
@@ -62,6 +91,7 @@ public class GameProperties extends GameDataComponent {
       constantProperties.put(key, value);
       ordering.add(key);
     }
+    keyedValues = null;
   }
 
   /**
@@ -77,6 +107,53 @@ public class GameProperties extends GameDataComponent {
     return constantProperties.get(key);
   }
 
+  /**
+   * Same as get(key.getName()), but only looks the property up by name the first time the key is used after a property
+   * was set or added.
+   */
+  public Object get(final Key key) {
+    Object[] values = keyedValues;
+    if (values == null || key.m_index >= values.length) {
+      values = new Object[Key.s_count.get()];
+      keyedValues = values;
+    }
+    Object source = values[key.m_index];
+    if (source == null) {
+      // editable properties are changed in place, so keep the property rather than its value
+      source = editableProperties.get(key.m_name);
+      if (source == null) {
+        source = constantProperties.get(key.m_name);
+      }
+      if (source == null) {
+        source = NOT_SET;
+      }
+      values[key.m_index] = source;
+    }
+    if (source == NOT_SET) {
+      return null;
+    }
+    if (source instanceof IEditableProperty) {
+      return ((IEditableProperty) source).getValue();
+    }
+    return source;
+  }
+
+  public boolean get(final Key key, final boolean defaultValue) {
+    final Object value = get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+    return (Boolean) value;
+  }
+
+  public int get(final Key key, final int defaultValue) {
+    final Object value = get(key);
+    if (value == null) {
+      return defaultValue;
+    }
+    return (Integer) value;
+  }
+
   public boolean get(final String key, final boolean defaultValue) {
     final Object value = get(key);
     if (value == null) {
@@ -113,6 +190,7 @@ public class GameProperties extends GameDataComponent {
     // add to the editable properties
     editableProperties.put(property.getName(), property);
     ordering.add(property.getName());
+    keyedValues = null;
   }
 
   /**
@@ -0,0 +1,179 @@
+package games.strategy.engine.framework;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes autosaves on a background thread, so the game only waits for the game data to be copied into a snapshot, and
+ * not for the snapshot to be compressed and written to disk.
+ * <p>
+ * Writes to a file happen one at a time, in the order they were made. A write that replaces the whole file goes to a
+ * temporary file next to it first, which is synced to disk and then renamed over the file, so the file always holds
+ * either the old or the new save. If such a write is made before the earlier writes to the same file have happened,
+ * the earlier writes are skipped.
+ */
+class AutoSaveWriter {
+  private final Map<File, List<Write>> m_pending = new HashMap<File, List<Write>>();
+  private final ExecutorService m_executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+    @Override
+    public Thread newThread(final Runnable r) {
+      final Thread t = new Thread(r, "Autosave writer");
+      t.setDaemon(true);
+      return t;
+    }
+  });
+
+  /**
+   * Something to write to a file.
+   */
+  abstract static class Write {
+    private final boolean m_replacesFile;
+
+    /**
+     * @param replacesFile
+     *        true if this write replaces the whole file, false if it is appended to the file
+     */
+    Write(final boolean replacesFile) {
+      m_replacesFile = replacesFile;
+    }
+
+    abstract void write(File destination, OutputStream out) throws IOException;
+
+    /**
+     * Called on the writer thread once the write is on disk.
+     */
+    void written(final File destination) {}
+
+    /**
+     * Called on the writer thread if the write failed, or was skipped because a later write replaces the file.
+     */
+    void failed(final File destination, final IOException e) {
+      if (e != null) {
+        e.printStackTrace();
+      }
+    }
+  }
+
+  void save(final GameDataSnapshot snapshot, final File destination) {
+    submit(destination, new Write(true) {
+      @Override
+      void write(final File destination, final OutputStream out) throws IOException {
+        snapshot.saveGame(out);
+      }
+    });
+  }
+
+  void submit(final File destination, final Write write) {
+    synchronized (m_pending) {
+      List<Write> writes = m_pending.get(destination);
+      final boolean queued = writes != null;
+      if (!queued) {
+        writes = new ArrayList<Write>();
+        m_pending.put(destination, writes);
+      } else if (write.m_replacesFile) {
+        for (final Write skipped : writes) {
+          skipped.failed(destination, null);
+        }
+        writes.clear();
+      }
+      writes.add(write);
+      if (queued) {
+        // the task already queued for this file will do this write too
+        return;
+      }
+    }
+    try {
+      m_executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          write(destination);
+        }
+      });
+    } catch (final RejectedExecutionException e) {
+      // shut down, so write it ourselves
+      write(destination);
+    }
+  }
+
+  private void write(final File destination) {
+    final List<Write> writes;
+    synchronized (m_pending) {
+      writes = m_pending.remove(destination);
+    }
+    if (writes == null) {
+      return;
+    }
+    for (final Write write : writes) {
+      try {
+        if (write.m_replacesFile) {
+          replace(destination, write);
+        } else {
+          append(destination, write);
+        }
+        write.written(destination);
+      } catch (final IOException e) {
+        write.failed(destination, e);
+      }
+    }
+  }
+
+  private static void replace(final File destination, final Write write) throws IOException {
+    final File temp = File.createTempFile(destination.getName(), ".tmp", destination.getAbsoluteFile().getParentFile());
+    try {
+      try (final FileOutputStream fileOut = new FileOutputStream(temp)) {
+        final OutputStream out = new BufferedOutputStream(fileOut, 64 * 1024);
+        write.write(destination, out);
+        out.flush();
+        fileOut.getFD().sync();
+      }
+      try {
+        Files.move(temp.toPath(), destination.toPath(), StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(temp.toPath(), destination.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      if (temp.exists()) {
+        temp.delete();
+      }
+    }
+  }
+
+  private static void append(final File destination, final Write write) throws IOException {
+    try (final FileOutputStream fileOut = new FileOutputStream(destination, true)) {
+      final OutputStream out = new BufferedOutputStream(fileOut, 64 * 1024);
+      write.write(destination, out);
+      out.flush();
+      fileOut.getFD().sync();
+    }
+  }
+
+  /**
+   * Stops taking saves, and waits for the saves already made to be written.
+   */
+  void shutDown() {
+    m_executor.shutdown();
+    try {
+      if (!m_executor.awaitTermination(60, TimeUnit.SECONDS)) {
+        System.err.println("Autosave is still being written.");
+      }
+    } catch (final InterruptedException e) {
+      e.printStackTrace();
+    }
+  }
+}
@@ -57,7 +57,11 @@ public class GameDataManager {
   }
 
   public GameData loadGame(final InputStream input, final String path) throws IOException {
-    return loadGame(new ObjectInputStream(new GZIPInputStream(input)), path);
+    final InputStream in = input.markSupported() ? input : new BufferedInputStream(input);
+    if (JournaledSave.isJournaledSave(in)) {
+      return JournaledSave.load(in, path);
+    }
+    return loadGame(new ObjectInputStream(new GZIPInputStream(in)), path);
   }
 
   public GameData loadGame(final ObjectInputStream input, final String savegamePath) throws IOException {
@@ -225,6 +229,18 @@ public class GameDataManager {
     // write internally first in case of error
     final ByteArrayOutputStream bytes = new ByteArrayOutputStream(25000);
     final ObjectOutputStream outStream = new ObjectOutputStream(bytes);
+    writeGame(outStream, data, saveDelegateInfo);
+    try (final GZIPOutputStream zippedOut = new GZIPOutputStream(sink)) {
+      // now write to file
+      zippedOut.write(bytes.toByteArray());
+    }
+  }
+
+  /**
+   * Writes the game in the same (uncompressed) format that loadGame(ObjectInputStream, String) reads.
+   */
+  void writeGame(final ObjectOutputStream outStream, final GameData data, final boolean saveDelegateInfo)
+      throws IOException {
     outStream.writeObject(games.strategy.engine.ClientContext.engineVersion().getVersion());
     data.acquireReadLock();
     try {
@@ -237,10 +253,7 @@ public class GameDataManager {
     } finally {
       data.releaseReadLock();
     }
-    try (final GZIPOutputStream zippedOut = new GZIPOutputStream(sink)) {
-      // now write to file
-      zippedOut.write(bytes.toByteArray());
-    }
+    outStream.flush();
   }
 
   private void writeDelegates(final GameData data, final ObjectOutputStream out) throws IOException {
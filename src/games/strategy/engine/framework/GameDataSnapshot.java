@@ -0,0 +1,100 @@
+package games.strategy.engine.framework;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.history.History;
+
+/**
+ * A point in time copy of a GameData, from which any number of independent GameData copies can be made.
+ * <p>
+ * The game data is only serialized once, while the read lock is held, into an uncompressed byte array that is shared
+ * by every copy. Each call to newGameData() just deserializes that array, so handing a private copy to each battle
+ * calculator or AI worker costs one deserialization rather than a full save and load through a gzip stream.
+ * <p>
+ * Copies used for simulation rarely need the game history, which on long games is most of the game data, so a
+ * snapshot can be taken without it. The copies then start with an empty history.
+ * <p>
+ * Since the bytes are in the saved game format before compression, a snapshot can also be written out as a saved game
+ * long after it was taken, without holding any lock on the game data.
+ * <p>
+ * Snapshots are immutable and newGameData() may be called from many threads at the same time.
+ */
+public class GameDataSnapshot {
+  private final byte[] m_bytes;
+
+  /**
+   * <Strong>You should have the game datas read or write lock before calling this method</STRONG>
+   */
+  public GameDataSnapshot(final GameData data, final boolean copyDelegates, final boolean copyHistory)
+      throws IOException {
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream(25000);
+    final ObjectOutputStream out =
+        copyHistory ? new ObjectOutputStream(sink) : new HistoryDroppingOutputStream(sink, data);
+    new GameDataManager().writeGame(out, data, copyDelegates);
+    out.close();
+    m_bytes = sink.toByteArray();
+  }
+
+  /**
+   * Creates a new, independent, copy of the game data as it was when this snapshot was taken.
+   */
+  public GameData newGameData() throws IOException {
+    return new GameDataManager().loadGame(new ObjectInputStream(new ByteArrayInputStream(m_bytes)), null);
+  }
+
+  /**
+   * The size in bytes of the serialized game data held by this snapshot.
+   */
+  public int size() {
+    return m_bytes.length;
+  }
+
+  /**
+   * Writes the snapshot as a saved game, the same way GameDataManager.saveGame does. The sink is not closed.
+   */
+  public void saveGame(final OutputStream sink) throws IOException {
+    final OutputStream unclosed = new FilterOutputStream(sink) {
+      @Override
+      public void write(final byte[] b, final int off, final int len) throws IOException {
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void close() throws IOException {
+        flush();
+      }
+    };
+    try (final GZIPOutputStream zippedOut = new GZIPOutputStream(unclosed)) {
+      zippedOut.write(m_bytes);
+    }
+  }
+
+  /**
+   * Writes the game data with an empty history in place of the real one.
+   */
+  private static class HistoryDroppingOutputStream extends ObjectOutputStream {
+    private final GameData m_data;
+
+    HistoryDroppingOutputStream(final OutputStream output, final GameData data) throws IOException {
+      super(output);
+      m_data = data;
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj) throws IOException {
+      if (History.isSerializedHistory(obj)) {
+        return History.emptySerializedHistory(m_data);
+      }
+      return obj;
+    }
+  }
+}
@@ -0,0 +1,320 @@
+package games.strategy.engine.framework;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.GameObjectInputStream;
+import games.strategy.engine.data.GameObjectOutputStream;
+import games.strategy.engine.delegate.IDelegate;
+import games.strategy.engine.history.HistoryJournal;
+
+/**
+ * A saved game kept as a full save of the game, the base, followed by records of what happened after it, so saving
+ * the game again only has to write down what happened since the last save.
+ * <p>
+ * Each save after the base appends a record holding what was written to the history since the previous save, which
+ * includes every change made to the game data, together with the position in the game sequence and the state of every
+ * delegate. Loading the file loads the base, then replays the records in order. Game data objects in a record are
+ * written as references, the same way changes are sent to network clients, so a record costs about as much as what
+ * happened in the steps it covers.
+ * <p>
+ * Every record carries the id of the base it follows, its number and a checksum, so a record that was only partly
+ * written, or that was appended to some other save, ends the replay. Once the records add up to half the size of the
+ * base, the next save writes a new base instead, which keeps the file small and quick to load.
+ */
+class JournaledSave {
+  // "TJRN", which can not be mistaken for the start of a gzipped save
+  private static final int MAGIC = 0x544A524E;
+  private static final int FORMAT_VERSION = 1;
+  private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+  private static final Random s_random = new Random();
+  private final File m_file;
+  private final HistoryJournal m_journal;
+  private final AutoSaveWriter m_writer;
+  // only used by the game thread, while delegate execution is blocked
+  private long m_baseId = 0;
+  private long m_baseSize;
+  private long m_recordBytes;
+  private int m_nextRecord;
+  private long m_position;
+  // set by the writer thread if a write failed, so the next save writes a new base
+  private volatile boolean m_failed = false;
+  // only used by the writer thread, the length the file should have
+  private long m_fileLength = -1;
+
+  JournaledSave(final File file, final HistoryJournal journal, final AutoSaveWriter writer) {
+    m_file = file;
+    m_journal = journal;
+    m_writer = writer;
+  }
+
+  /**
+   * @return the position in the history journal up to which this save has recorded the game
+   */
+  long getPosition() {
+    return m_position;
+  }
+
+  /**
+   * Saves the game, either as a record appended to the file or, when there is no usable base yet, as a new base.
+   * Only the copying of the game is done here, the file is written by the autosave writer.
+   * <Strong>Delegate execution must be blocked while this is called.</Strong>
+   */
+  void save(final GameData data) throws IOException {
+    data.acquireReadLock();
+    try {
+      if (m_baseId == 0 || m_failed || m_recordBytes >= m_baseSize / 2) {
+        saveBase(data);
+      } else {
+        saveRecord(data);
+      }
+    } finally {
+      data.releaseReadLock();
+    }
+  }
+
+  private void saveBase(final GameData data) throws IOException {
+    final GameDataSnapshot snapshot = new GameDataSnapshot(data, true, true);
+    long baseId;
+    do {
+      baseId = s_random.nextLong();
+    } while (baseId == 0);
+    m_baseId = baseId;
+    m_baseSize = snapshot.size();
+    m_recordBytes = 0;
+    m_nextRecord = 0;
+    m_position = m_journal.getPosition();
+    m_failed = false;
+    final long writtenBaseId = baseId;
+    m_writer.submit(m_file, new JournalWrite(true) {
+      @Override
+      void write(final File destination, final OutputStream out) throws IOException {
+        final ByteArrayOutputStream base = new ByteArrayOutputStream(snapshot.size() / 4);
+        snapshot.saveGame(base);
+        final DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeInt(FORMAT_VERSION);
+        dataOut.writeLong(writtenBaseId);
+        dataOut.writeInt(base.size());
+        base.writeTo(dataOut);
+        dataOut.flush();
+      }
+    });
+  }
+
+  private void saveRecord(final GameData data) throws IOException {
+    final ArrayList<Serializable> entries = m_journal.getEntriesFrom(m_position);
+    final HashMap<String, Serializable> delegateStates = new HashMap<String, Serializable>();
+    for (final IDelegate delegate : data.getDelegateList()) {
+      delegateStates.put(delegate.getName(), delegate.saveState());
+    }
+    final ByteArrayOutputStream sink = new ByteArrayOutputStream(4096);
+    try (final ObjectOutputStream out = new JournalOutputStream(sink, data)) {
+      out.writeObject(new Record(entries, data.getSequence().getPosition(), delegateStates));
+    }
+    final byte[] bytes = sink.toByteArray();
+    final CRC32 crc = new CRC32();
+    crc.update(bytes);
+    final long checksum = crc.getValue();
+    final long baseId = m_baseId;
+    final int number = m_nextRecord++;
+    m_position += entries.size();
+    m_recordBytes += bytes.length;
+    m_writer.submit(m_file, new JournalWrite(false) {
+      @Override
+      void write(final File destination, final OutputStream out) throws IOException {
+        if (m_fileLength == -1 || destination.length() != m_fileLength) {
+          throw new IOException("Journaled save was changed by something else: " + destination);
+        }
+        final DataOutputStream dataOut = new DataOutputStream(out);
+        dataOut.writeInt(bytes.length);
+        dataOut.writeLong(baseId);
+        dataOut.writeInt(number);
+        dataOut.writeLong(checksum);
+        dataOut.write(bytes);
+        dataOut.flush();
+      }
+    });
+  }
+
+  /**
+   * Keeps track of the length of the file, so a record is never appended to a file that something else replaced.
+   */
+  private abstract class JournalWrite extends AutoSaveWriter.Write {
+    JournalWrite(final boolean replacesFile) {
+      super(replacesFile);
+    }
+
+    @Override
+    void written(final File destination) {
+      m_fileLength = destination.length();
+    }
+
+    @Override
+    void failed(final File destination, final IOException e) {
+      super.failed(destination, e);
+      if (e != null) {
+        m_fileLength = -1;
+        m_failed = true;
+      }
+    }
+  }
+
+  /**
+   * @return true if the stream holds a journaled save. The stream must support mark and reset.
+   */
+  static boolean isJournaledSave(final InputStream input) throws IOException {
+    input.mark(4);
+    try {
+      int magic = 0;
+      for (int i = 0; i < 4; i++) {
+        final int b = input.read();
+        if (b == -1) {
+          return false;
+        }
+        magic = (magic << 8) | b;
+      }
+      return magic == MAGIC;
+    } finally {
+      input.reset();
+    }
+  }
+
+  /**
+   * Loads the base, then replays every complete record that follows it.
+   */
+  static GameData load(final InputStream input, final String path) throws IOException {
+    final DataInputStream in = new DataInputStream(input);
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a journaled save");
+    }
+    final int version = in.readInt();
+    if (version != FORMAT_VERSION) {
+      throw new IOException("Unknown journaled save format: " + version);
+    }
+    final long baseId = in.readLong();
+    final byte[] base = new byte[in.readInt()];
+    in.readFully(base);
+    final GameData data = new GameDataManager().loadGame(new ByteArrayInputStream(base), path);
+    if (data == null) {
+      return null;
+    }
+    final GameObjectStreamFactory streamFactory = new GameObjectStreamFactory(data);
+    for (int number = 0;; number++) {
+      final byte[] record = readRecord(in, baseId, number);
+      if (record == null) {
+        return data;
+      }
+      try (final ObjectInputStream recordIn = new JournalInputStream(streamFactory, new ByteArrayInputStream(record))) {
+        ((Record) recordIn.readObject()).replay(data);
+      } catch (final ClassNotFoundException e) {
+        throw new IOException(e.getMessage());
+      } catch (final RuntimeException e) {
+        throw new IOException("Could not replay record " + number + " of saved game: " + e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * @return the bytes of the record, or null if there is no complete record with the given number for the base
+   */
+  private static byte[] readRecord(final DataInputStream in, final long baseId, final int number) throws IOException {
+    try {
+      final int length = in.readInt();
+      final long recordBaseId = in.readLong();
+      final int recordNumber = in.readInt();
+      final long checksum = in.readLong();
+      if (recordBaseId != baseId || recordNumber != number || length < 0 || length > MAX_RECORD_SIZE) {
+        return null;
+      }
+      final byte[] bytes = new byte[length];
+      in.readFully(bytes);
+      final CRC32 crc = new CRC32();
+      crc.update(bytes);
+      return crc.getValue() == checksum ? bytes : null;
+    } catch (final EOFException e) {
+      // the end of the file, or a record that was only partly written
+      return null;
+    }
+  }
+
+  /**
+   * What happened in the game between two saves.
+   */
+  private static class Record implements Serializable {
+    private static final long serialVersionUID = -3126470553196577183L;
+    private final ArrayList<Serializable> m_historyEntries;
+    private final int[] m_sequencePosition;
+    private final HashMap<String, Serializable> m_delegateStates;
+
+    Record(final ArrayList<Serializable> historyEntries, final int[] sequencePosition,
+        final HashMap<String, Serializable> delegateStates) {
+      m_historyEntries = historyEntries;
+      m_sequencePosition = sequencePosition;
+      m_delegateStates = delegateStates;
+    }
+
+    void replay(final GameData data) {
+      HistoryJournal.replay(m_historyEntries, data);
+      data.getSequence().setPosition(m_sequencePosition);
+      for (final IDelegate delegate : data.getDelegateList()) {
+        if (m_delegateStates.containsKey(delegate.getName())) {
+          delegate.loadState(m_delegateStates.get(delegate.getName()));
+        }
+      }
+    }
+  }
+
+  /**
+   * Stands in for the game data, which some delegate states refer to directly.
+   */
+  private static class GameDataReference implements Serializable {
+    private static final long serialVersionUID = 6281938562342367213L;
+  }
+
+  private static class JournalOutputStream extends GameObjectOutputStream {
+    private final GameData m_data;
+
+    JournalOutputStream(final OutputStream output, final GameData data) throws IOException {
+      super(output);
+      m_data = data;
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj) throws IOException {
+      if (obj == m_data) {
+        return new GameDataReference();
+      }
+      return super.replaceObject(obj);
+    }
+  }
+
+  private static class JournalInputStream extends GameObjectInputStream {
+    JournalInputStream(final GameObjectStreamFactory dataSource, final InputStream input) throws IOException {
+      super(dataSource, input);
+    }
+
+    @Override
+    protected Object resolveObject(final Object obj) throws IOException {
+      if (obj instanceof GameDataReference) {
+        return getData();
+      }
+      return super.resolveObject(obj);
+    }
+  }
+}
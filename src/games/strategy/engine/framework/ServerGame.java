@@ -6,6 +6,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -34,6 +35,7 @@ import games.strategy.engine.framework.ui.SaveGameFileChooser;
 import games.strategy.engine.gamePlayer.IGamePlayer;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.Event;
+import games.strategy.engine.history.HistoryJournal;
 import games.strategy.engine.history.EventChild;
 import games.strategy.engine.history.HistoryNode;
 import games.strategy.engine.history.Step;
@@ -56,11 +58,22 @@ import games.strategy.triplea.TripleAPlayer;
 public class ServerGame extends AbstractGame {
   public static final RemoteName SERVER_REMOTE =
       new RemoteName("games.strategy.engine.framework.ServerGame.SERVER_REMOTE", IServerRemote.class);
+  /**
+   * Set this system property to true to keep autosaves as journaled saves, which only write what happened since the
+   * last autosave. Journaled saves can not be opened by older engines.
+   */
+  public static final String JOURNALED_AUTOSAVE_PROPERTY = "triplea.autosave.journaled";
   // maps PlayerID->GamePlayer
   private final RandomStats m_randomStats;
   private IRandomSource m_randomSource = new PlainRandomSource();
   private IRandomSource m_delegateRandomSource;
   private final DelegateExecutionManager m_delegateExecutionManager = new DelegateExecutionManager();
+  private final AutoSaveWriter m_autoSaveWriter = new AutoSaveWriter();
+  // the file the last autosave after a step went to, so the next one goes to the other file
+  private File m_lastAutoSave;
+  // null unless autosaves are journaled
+  private final HistoryJournal m_historyJournal;
+  private final Map<File, JournaledSave> m_journaledSaves = new HashMap<File, JournaledSave>();
   private InGameLobbyWatcherWrapper m_inGameLobbyWatcher;
   private boolean m_needToInitialize = true;
   /**
@@ -99,6 +112,12 @@ public class ServerGame extends AbstractGame {
   public ServerGame(final GameData data, final Set<IGamePlayer> localPlayers,
       final Map<String, INode> remotePlayerMapping, final Messengers messengers) {
     super(data, localPlayers, remotePlayerMapping, messengers);
+    if (Boolean.parseBoolean(System.getProperty(JOURNALED_AUTOSAVE_PROPERTY, "false"))) {
+      m_historyJournal = new HistoryJournal();
+      m_data.getHistory().getHistoryWriter().setJournal(m_historyJournal);
+    } else {
+      m_historyJournal = null;
+    }
     m_gameModifiedChannel = new IGameModifiedChannel() {
       @Override
       public void gameDataChanged(final Change aChange) {
@@ -350,6 +369,9 @@ public class ServerGame extends AbstractGame {
     } finally {
       m_delegateExecutionManager.resumeDelegateExecution();
     }
+    // let autosaves that are still being written finish, as the launcher may load the last one next
+    m_autoSaveWriter.shutDown();
+    m_data.getHistory().getHistoryWriter().setJournal(null);
     m_data.getGameLoader().shutDown();
     if (HeadlessGameServer.headless()) {
       System.out.println("StopGame successful.");
@@ -361,17 +383,16 @@ public class ServerGame extends AbstractGame {
     final File f1 = new File(SaveGameFileChooser.DEFAULT_DIRECTORY, SaveGameFileChooser.getAutoSaveFileName());
     final File f2 = new File(SaveGameFileChooser.DEFAULT_DIRECTORY, SaveGameFileChooser.getAutoSave2FileName());
     final File f;
-    if (f1.lastModified() > f2.lastModified()) {
+    if (m_lastAutoSave != null) {
+      // the last save may not have reached the disk yet, so its modified time can not be trusted
+      f = m_lastAutoSave.equals(f1) ? f2 : f1;
+    } else if (f1.lastModified() > f2.lastModified()) {
       f = f2;
     } else {
       f = f1;
     }
-
-    try (FileOutputStream out = new FileOutputStream(f)) {
-      saveGame(out);
-    } catch (final Exception e) {
-      e.printStackTrace();
-    }
+    m_lastAutoSave = f;
+    autoSave(f);
   }
 
   private void autoSaveRound() {
@@ -382,14 +403,45 @@ public class ServerGame extends AbstractGame {
     } else {
       autosaveFile = new File(SaveGameFileChooser.DEFAULT_DIRECTORY, SaveGameFileChooser.getAutoSaveOddFileName());
     }
+    autoSave(autosaveFile);
+  }
 
-    try (FileOutputStream out = new FileOutputStream(autosaveFile)) {
-      saveGame(out);
+  /**
+   * Takes a snapshot of the game, and leaves compressing and writing it to the autosave writer, so the game can carry
+   * on straight away.
+   */
+  private void autoSave(final File f) {
+    try {
+      if (m_historyJournal == null) {
+        m_autoSaveWriter.save(takeSnapshot(), f);
+      } else {
+        journaledAutoSave(f);
+      }
     } catch (final Exception e) {
       e.printStackTrace();
     }
   }
 
+  private void journaledAutoSave(final File f) throws IOException {
+    JournaledSave save = m_journaledSaves.get(f);
+    if (save == null) {
+      save = new JournaledSave(f, m_historyJournal, m_autoSaveWriter);
+      m_journaledSaves.put(f, save);
+    }
+    blockDelegateExecutionForSave();
+    try {
+      save.save(m_data);
+    } finally {
+      m_delegateExecutionManager.resumeDelegateExecution();
+    }
+    // what every autosave has already recorded is not needed any more
+    long oldestPosition = Long.MAX_VALUE;
+    for (final JournaledSave journaledSave : m_journaledSaves.values()) {
+      oldestPosition = Math.min(oldestPosition, journaledSave.getPosition());
+    }
+    m_historyJournal.discardBefore(oldestPosition);
+  }
+
   @Override
   public void saveGame(final File f) {
     try (FileOutputStream fout = new FileOutputStream(f)) {
@@ -400,6 +452,23 @@ public class ServerGame extends AbstractGame {
   }
 
   public void saveGame(final OutputStream out) throws IOException {
+    takeSnapshot().saveGame(out);
+  }
+
+  /**
+   * Copies the game, and the state of its delegates, while delegates are not running.
+   * Compressing and writing out the copy can then be done without holding up the game.
+   */
+  private GameDataSnapshot takeSnapshot() throws IOException {
+    blockDelegateExecutionForSave();
+    try {
+      return new GameDataSnapshot(m_data, true, true);
+    } finally {
+      m_delegateExecutionManager.resumeDelegateExecution();
+    }
+  }
+
+  private void blockDelegateExecutionForSave() throws IOException {
     try {
       if (!m_delegateExecutionManager.blockDelegateExecution(6000)) {
         throw new IOException("Could not lock delegate execution");
@@ -407,11 +476,6 @@ public class ServerGame extends AbstractGame {
     } catch (final InterruptedException ie) {
       throw new IOException(ie.getMessage());
     }
-    try {
-      new GameDataManager().saveGame(out, m_data);
-    } finally {
-      m_delegateExecutionManager.resumeDelegateExecution();
-    }
   }
 
   private void runStep(final boolean stepIsRestoredFromSavedGame) {
@@ -0,0 +1,73 @@
+package games.strategy.engine.framework.headlessGameServer;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.framework.GameDataSnapshot;
+
+/**
+ * The games most recently asked for, each kept as a snapshot of the game as it was parsed, so hosting one of them
+ * again makes a copy of the snapshot instead of parsing the game xml again. Only the most recently used are kept.
+ * <p>
+ * Every game handed out gets a game UUID of its own, as a freshly parsed game would.
+ */
+class AvailableGameTemplates {
+  private final Map<String, GameDataSnapshot> m_templates;
+
+  AvailableGameTemplates(final int maxTemplates) {
+    m_templates = new LinkedHashMap<String, GameDataSnapshot>(16, 0.75f, true) {
+      private static final long serialVersionUID = 3198432570166328651L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, GameDataSnapshot> eldest) {
+        return size() > maxTemplates;
+      }
+    };
+  }
+
+  /**
+   * @return a new copy of the game kept for the name, or null if there is none
+   */
+  GameData newGameData(final String gameName) {
+    final GameDataSnapshot template;
+    synchronized (m_templates) {
+      template = m_templates.get(gameName);
+    }
+    if (template == null) {
+      return null;
+    }
+    try {
+      return withNewUUID(template.newGameData());
+    } catch (final IOException e) {
+      e.printStackTrace();
+      return null;
+    }
+  }
+
+  /**
+   * Keeps a snapshot of the newly parsed game for the name, and gives the parsed game a UUID of its own so that it
+   * does not share one with the copies made later.
+   */
+  void put(final String gameName, final GameData data) {
+    data.acquireReadLock();
+    try {
+      final GameDataSnapshot parsed = new GameDataSnapshot(data, true, true);
+      synchronized (m_templates) {
+        m_templates.put(gameName, parsed);
+      }
+    } catch (final IOException e) {
+      e.printStackTrace();
+    } finally {
+      data.releaseReadLock();
+    }
+    withNewUUID(data);
+  }
+
+  private static GameData withNewUUID(final GameData data) {
+    data.getProperties().set(GameData.GAME_UUID, UUID.randomUUID().toString());
+    return data;
+  }
+}
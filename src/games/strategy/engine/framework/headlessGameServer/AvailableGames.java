@@ -11,15 +11,24 @@ import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
+import games.strategy.engine.ClientContext;
 import games.strategy.engine.ClientFileSystemHelper;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParser;
@@ -27,13 +36,22 @@ import games.strategy.engine.framework.ui.NewGameChooserModel;
 import games.strategy.triplea.Constants;
 
 /**
- * A list of all available games. We make sure we can parse them all, but we don't keep them in memory.
+ * A list of all available games. We make sure we can parse them all, but we only keep the few most recently hosted in
+ * memory, as templates, so hosting one of them again does not parse it again.
+ * <p>
+ * What was found is kept in an index in the user folder, so later runs only parse the map files that changed.
  */
 public class AvailableGames {
+  // games are parsed in full, not with delayed parsing, so that only games the server can host are listed
   private static final boolean s_delayedParsing = false;
   private static final String ZIP_EXTENSION = ".zip";
+  private static final String INDEX_FILE_NAME = "availableGames.cache";
+  private static final int MAX_TEMPLATES = 8;
+  private static final int PARSER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
   private final TreeMap<String, URI> m_availableGames = new TreeMap<String, URI>();
   private final Set<String> m_availableMapFolderOrZipNames = new HashSet<String>();
+  // the games most recently asked for, as parsed, see getGameData
+  private final AvailableGameTemplates m_templates = new AvailableGameTemplates(MAX_TEMPLATES);
 
   public AvailableGames() {
     final Set<String> mapNamePropertyList = new HashSet<String>();
@@ -54,9 +72,24 @@ public class AvailableGames {
 
   /**
    * Can return null.
+   * <p>
+   * The first time a game is asked for it is parsed, and a snapshot of it is kept as a template. Later calls make their
+   * copy from the template, which is much quicker than parsing the xml again every time the game is hosted.
    */
   public GameData getGameData(final String gameName) {
-    return getGameDataFromXML(m_availableGames.get(gameName));
+    final URI uri = m_availableGames.get(gameName);
+    if (uri == null) {
+      return null;
+    }
+    final GameData copy = m_templates.newGameData(gameName);
+    if (copy != null) {
+      return copy;
+    }
+    final GameData data = getGameDataFromXML(uri);
+    if (data != null) {
+      m_templates.put(gameName, data);
+    }
+    return data;
   }
 
   public URI getGameURI(final String gameName) {
@@ -70,13 +103,80 @@ public class AvailableGames {
   private static void populateAvailableGames(final Map<String, URI> availableGames,
       final Set<String> availableMapFolderOrZipNames, final Set<String> mapNamePropertyList) {
     System.out.println("Parsing all available games (this could take a while). ");
+    final AvailableGamesIndex index = new AvailableGamesIndex(
+        new File(ClientFileSystemHelper.getUserRootFolder(), INDEX_FILE_NAME),
+        ClientContext.engineVersion().getVersion().toString());
+    // the map files in the order their games are added, with the name of the map folder or zip they belong to
+    final LinkedHashMap<File, String> mapFiles = new LinkedHashMap<File, String>();
     for (final File map : allMapFiles()) {
       if (map.isDirectory()) {
-        populateFromDirectory(map, availableGames, availableMapFolderOrZipNames, mapNamePropertyList);
+        final File games = new File(map, "games");
+        if (!games.exists()) {
+          // no games in this map dir
+          continue;
+        }
+        for (final File game : games.listFiles()) {
+          if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
+            mapFiles.put(game, map.getName());
+          }
+        }
       } else if (map.isFile() && map.getName().toLowerCase().endsWith(ZIP_EXTENSION)) {
-        populateFromZip(map, availableGames, availableMapFolderOrZipNames, mapNamePropertyList);
+        mapFiles.put(map, map.getName().length() > 4
+            ? map.getName().substring(0, map.getName().length() - ZIP_EXTENSION.length()) : null);
+      }
+    }
+    // parse the map files that changed since the index was saved, several at a time
+    final ExecutorService executor = Executors.newFixedThreadPool(PARSER_THREADS, new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread t = new Thread(r, "Available games parser");
+        t.setDaemon(true);
+        return t;
+      }
+    });
+    final Map<File, Future<List<AvailableGamesIndex.Game>>> parsing =
+        new HashMap<File, Future<List<AvailableGamesIndex.Game>>>();
+    for (final File mapFile : mapFiles.keySet()) {
+      if (index.get(mapFile) == null) {
+        parsing.put(mapFile, executor.submit(new Callable<List<AvailableGamesIndex.Game>>() {
+          @Override
+          public List<AvailableGamesIndex.Game> call() {
+            return mapFile.getName().toLowerCase().endsWith(ZIP_EXTENSION) ? parseZip(mapFile)
+                : parseGames(mapFile.toURI());
+          }
+        }));
+      }
+    }
+    executor.shutdown();
+    System.out.println("Parsing " + parsing.size() + " of " + mapFiles.size() + " map files, the rest are unchanged. ");
+    for (final Map.Entry<File, String> mapFile : mapFiles.entrySet()) {
+      List<AvailableGamesIndex.Game> games = index.get(mapFile.getKey());
+      if (games == null) {
+        try {
+          games = parsing.get(mapFile.getKey()).get();
+        } catch (final InterruptedException e) {
+          executor.shutdownNow();
+          Thread.currentThread().interrupt();
+          return;
+        } catch (final ExecutionException e) {
+          e.getCause().printStackTrace();
+          continue;
+        }
+      }
+      index.put(mapFile.getKey(), games);
+      for (final AvailableGamesIndex.Game game : games) {
+        if (!availableGames.containsKey(game.getName())) {
+          availableGames.put(game.getName(), URI.create(game.getUri()));
+          if (game.getMapName().length() > 0) {
+            mapNamePropertyList.add(game.getMapName());
+          }
+          if (mapFile.getValue() != null) {
+            availableMapFolderOrZipNames.add(mapFile.getValue());
+          }
+        }
       }
     }
+    index.save();
     System.out.println("Finished parsing all available game xmls. ");
   }
 
@@ -96,25 +196,8 @@ public class AvailableGames {
     return Arrays.asList(files);
   }
 
-  private static void populateFromDirectory(final File mapDir, final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames, final Set<String> mapNamePropertyList) {
-    final File games = new File(mapDir, "games");
-    if (!games.exists()) {
-      // no games in this map dir
-      return;
-    }
-    for (final File game : games.listFiles()) {
-      if (game.isFile() && game.getName().toLowerCase().endsWith("xml")) {
-        final boolean added = addToAvailableGames(game.toURI(), availableGames, mapNamePropertyList);
-        if (added) {
-          availableMapFolderOrZipNames.add(mapDir.getName());
-        }
-      }
-    }
-  }
-
-  private static void populateFromZip(final File map, final Map<String, URI> availableGames,
-      final Set<String> availableMapFolderOrZipNames, final Set<String> mapNamePropertyList) {
+  private static List<AvailableGamesIndex.Game> parseZip(final File map) {
+    final List<AvailableGamesIndex.Game> games = new ArrayList<AvailableGamesIndex.Game>();
     try (
         final FileInputStream fis = new FileInputStream(map);
         final ZipInputStream zis = new ZipInputStream(fis);
@@ -125,12 +208,7 @@ public class AvailableGames {
           final URL url = loader.getResource(entry.getName());
           // we have to close the loader to allow files to be deleted on windows
           try {
-            final boolean added = addToAvailableGames(new URI(url.toString().replace(" ", "%20")), availableGames,
-                mapNamePropertyList);
-            if (added && map.getName().length() > 4) {
-              availableMapFolderOrZipNames
-                  .add(map.getName().substring(0, map.getName().length() - ZIP_EXTENSION.length()));
-            }
+            games.addAll(parseGames(new URI(url.toString().replace(" ", "%20"))));
           } catch (final URISyntaxException e) {
             // only happens when URI couldn't be build and therefore no entry was added. That's fine
           }
@@ -141,12 +219,15 @@ public class AvailableGames {
     } catch (final IOException ioe) {
       ioe.printStackTrace();
     }
+    return games;
   }
 
-  private static boolean addToAvailableGames(final URI uri, final Map<String, URI> availableGames,
-      final Set<String> mapNamePropertyList) {
+  /**
+   * @return the game in the xml, or nothing if it could not be parsed
+   */
+  private static List<AvailableGamesIndex.Game> parseGames(final URI uri) {
     if (uri == null) {
-      return false;
+      return Collections.emptyList();
     }
     InputStream input = null;
     final AtomicReference<String> gameName = new AtomicReference<String>();
@@ -156,13 +237,7 @@ public class AvailableGames {
         final GameData data = new GameParser().parse(input, gameName, s_delayedParsing);
         final String name = data.getGameName();
         final String mapName = data.getProperties().get(Constants.MAP_NAME, "");
-        if (!availableGames.containsKey(name)) {
-          availableGames.put(name, uri);
-          if (mapName.length() > 0) {
-            mapNamePropertyList.add(mapName);
-          }
-          return true;
-        }
+        return Collections.singletonList(new AvailableGamesIndex.Game(name, mapName, uri.toString()));
       } catch (final Exception e2) {// ignore
         System.err.println("Exception while parsing: " + uri.toString() + " : "
             + (gameName.get() != null ? gameName.get() + " : " : "") + e2.getMessage());
@@ -177,7 +252,7 @@ public class AvailableGames {
       } catch (final IOException e3) {// ignore
       }
     }
-    return false;
+    return Collections.emptyList();
   }
 
   private static String getGameXMLLocation(final URI uri) {
@@ -0,0 +1,156 @@
+package games.strategy.engine.framework.headlessGameServer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What parsing the game xmls of each map file found, kept on disk between runs so that only the map files that were
+ * added or changed since then have to be parsed again.
+ * <p>
+ * A map file is either a map zip, or a game xml in a map folder. It is known by its path, and its games are only used
+ * while its size and last modified time are what they were when it was parsed. The whole index is thrown away when the
+ * engine version changes, since that decides which games can be parsed at all.
+ */
+class AvailableGamesIndex {
+  private final File m_file;
+  private final String m_engineVersion;
+  // what was in the file when it was loaded
+  private final Map<String, MapFile> m_loaded;
+  // what will be saved, only the map files that are still there
+  private final Map<String, MapFile> m_current = new HashMap<String, MapFile>();
+
+  AvailableGamesIndex(final File file, final String engineVersion) {
+    m_file = file;
+    m_engineVersion = engineVersion;
+    m_loaded = load();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, MapFile> load() {
+    if (m_file.exists()) {
+      try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(m_file)))) {
+        if (m_engineVersion.equals(in.readObject())) {
+          return (HashMap<String, MapFile>) in.readObject();
+        }
+      } catch (final Exception e) {
+        System.err.println("Available games index invalid, all games will be parsed: " + e.getMessage());
+      }
+    }
+    return new HashMap<String, MapFile>();
+  }
+
+  /**
+   * @return the games found in the map file when it was last parsed, or null if it has not been parsed as it is now
+   */
+  List<Game> get(final File mapFile) {
+    final MapFile known = m_loaded.get(getKey(mapFile));
+    if (known == null || known.m_length != mapFile.length() || known.m_lastModified != mapFile.lastModified()) {
+      return null;
+    }
+    return Collections.unmodifiableList(known.m_games);
+  }
+
+  /**
+   * Records the games found in the map file. Map files that are not put are left out when the index is saved.
+   */
+  void put(final File mapFile, final List<Game> games) {
+    m_current.put(getKey(mapFile),
+        new MapFile(mapFile.length(), mapFile.lastModified(), new ArrayList<Game>(games)));
+  }
+
+  /**
+   * Writes the index to a temporary file next to it first, which is then renamed over it, so a server stopped while
+   * saving leaves the old index rather than a broken one.
+   */
+  void save() {
+    final File dir = m_file.getAbsoluteFile().getParentFile();
+    if (!dir.exists()) {
+      dir.mkdirs();
+    }
+    File temp = null;
+    try {
+      temp = File.createTempFile(m_file.getName(), ".tmp", dir);
+      try (final FileOutputStream fileOut = new FileOutputStream(temp)) {
+        final ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(fileOut));
+        out.writeObject(m_engineVersion);
+        out.writeObject(new HashMap<String, MapFile>(m_current));
+        out.flush();
+        fileOut.getFD().sync();
+      }
+      try {
+        Files.move(temp.toPath(), m_file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(temp.toPath(), m_file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (final IOException e) {
+      System.err.println("Could not save available games index: " + e.getMessage());
+    } finally {
+      if (temp != null && temp.exists()) {
+        temp.delete();
+      }
+    }
+  }
+
+  private static String getKey(final File mapFile) {
+    return mapFile.getAbsolutePath();
+  }
+
+  /**
+   * A game that parsed without errors.
+   */
+  static class Game implements Serializable {
+    private static final long serialVersionUID = -2748103672259166436L;
+    private final String m_name;
+    private final String m_mapName;
+    private final String m_uri;
+
+    Game(final String name, final String mapName, final String uri) {
+      m_name = name;
+      m_mapName = mapName;
+      m_uri = uri;
+    }
+
+    String getName() {
+      return m_name;
+    }
+
+    /**
+     * @return the map name property of the game, or an empty string if it has none
+     */
+    String getMapName() {
+      return m_mapName;
+    }
+
+    String getUri() {
+      return m_uri;
+    }
+  }
+
+  private static class MapFile implements Serializable {
+    private static final long serialVersionUID = 5617925420958341780L;
+    private final long m_length;
+    private final long m_lastModified;
+    private final ArrayList<Game> m_games;
+
+    MapFile(final long length, final long lastModified, final ArrayList<Game> games) {
+      m_length = length;
+      m_lastModified = lastModified;
+      m_games = games;
+    }
+  }
+}
@@ -11,9 +11,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -37,6 +45,8 @@ public class NewGameChooserModel extends DefaultListModel<NewGameChooserEntry> {
   private static final long serialVersionUID = -2044689419834812524L;
   private final ClearGameChooserCacheMessenger clearCacheMessenger;
 
+  private static final int PARSER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+
   private enum ZipProcessingResult {
     SUCCESS, ERROR
   }
@@ -85,23 +95,64 @@ public class NewGameChooserModel extends DefaultListModel<NewGameChooserEntry> {
   }
 
 
+  /**
+   * Parses the map files several at a time. Corrupt map zips are only offered for deletion once all are parsed, since
+   * asking the user has to wait for the event thread, which may be waiting for this.
+   */
   private Set<NewGameChooserEntry> parseMapFiles() {
-    final Set<NewGameChooserEntry> parsedMapSet = Sets.newHashSet();
-    for (final File map : allMapFiles()) {
-      if (clearCacheMessenger.isCancelled()) {
-        return ImmutableSet.of();
+    final ExecutorService executor = Executors.newFixedThreadPool(PARSER_THREADS, new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread t = new Thread(r, "Game chooser parser");
+        t.setDaemon(true);
+        return t;
       }
-      if (map.isDirectory()) {
-        parsedMapSet.addAll(populateFromDirectory(map));
-      } else if (map.isFile() && map.getName().toLowerCase().endsWith(".zip")) {
-        parsedMapSet.addAll(populateFromZip(map));
+    });
+    final Map<File, Optional<String>> corruptZips =
+        Collections.synchronizedMap(new LinkedHashMap<File, Optional<String>>());
+    final List<Future<List<NewGameChooserEntry>>> parsing = Lists.newArrayList();
+    for (final File map : allMapFiles()) {
+      parsing.add(executor.submit(new Callable<List<NewGameChooserEntry>>() {
+        @Override
+        public List<NewGameChooserEntry> call() {
+          if (clearCacheMessenger.isCancelled()) {
+            return Collections.emptyList();
+          }
+          if (map.isDirectory()) {
+            return populateFromDirectory(map);
+          } else if (map.isFile() && map.getName().toLowerCase().endsWith(".zip")) {
+            return populateFromZip(map, corruptZips);
+          }
+          return Collections.emptyList();
+        }
+      }));
+    }
+    executor.shutdown();
+    // added in the order of the map files, so the user maps folder still comes first
+    final Set<NewGameChooserEntry> parsedMapSet = Sets.newHashSet();
+    try {
+      for (final Future<List<NewGameChooserEntry>> entries : parsing) {
+        parsedMapSet.addAll(entries.get());
       }
+    } catch (final InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+      return ImmutableSet.of();
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+    for (final Map.Entry<File, Optional<String>> corruptZip : corruptZips.entrySet()) {
+      confirmWithUserAndThenDeleteCorruptZipFile(corruptZip.getKey(), corruptZip.getValue());
+    }
+    if (clearCacheMessenger.isCancelled()) {
+      return ImmutableSet.of();
     }
     return parsedMapSet;
   }
 
 
-  private static final List<NewGameChooserEntry> populateFromZip(final File map) {
+  private static final List<NewGameChooserEntry> populateFromZip(final File map,
+      final Map<File, Optional<String>> corruptZips) {
     boolean badMapZip = false;
     final List<NewGameChooserEntry> entries = Lists.newArrayList();
 
@@ -119,11 +170,11 @@ public class NewGameChooserModel extends DefaultListModel<NewGameChooserEntry> {
         }
       }
     } catch (final IOException e) {
-      confirmWithUserAndThenDeleteCorruptZipFile(map, Optional.of(e.getMessage()));
+      corruptZips.put(map, Optional.of(e.getMessage()));
     }
 
     if (badMapZip) {
-      confirmWithUserAndThenDeleteCorruptZipFile(map, Optional.empty());
+      corruptZips.put(map, Optional.empty());
     }
     return entries;
   }
@@ -4,7 +4,9 @@ import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.SwingUtilities;
 import javax.swing.tree.DefaultMutableTreeNode;
@@ -23,15 +25,22 @@ import javax.swing.tree.DefaultTreeModel;
  * Event - an event that happened in the game, eg Russia buys 8 inf.
  */
 import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeFactory;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.triplea.ui.history.HistoryPanel;
 
 public class History extends DefaultTreeModel implements java.io.Serializable {
   private final HistoryWriter m_writer = new HistoryWriter(this);
+  // the fewest changes between two checkpoints, and the most squashed changes to keep for checkpoints
+  private static final int CHECKPOINT_CHANGES = 200;
+  private static final int MAX_CHECKPOINT_CHANGES = 200000;
   private final List<Change> m_changes = new ArrayList<Change>();
   private final GameData m_data;
   private HistoryNode m_currentNode;
+  // the squashed changes from each checkpoint to the next, by the index of the checkpoint
+  private final transient Map<Integer, Checkpoint> m_checkpoints = new HashMap<Integer, Checkpoint>();
+  private transient int m_checkpointSize = 0;
 
   private void assertCorrectThread() {
     if (m_data.areChangesOnlyInSwingEventThread() && !SwingUtilities.isEventDispatchThread()) {
@@ -98,9 +107,7 @@ public class History extends DefaultTreeModel implements java.io.Serializable {
     if (firstChange == lastChange) {
       return null;
     }
-    final List<Change> changes =
-        m_changes.subList(Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
-    final Change compositeChange = new CompositeChange(changes);
+    final Change compositeChange = getChanges(Math.min(firstChange, lastChange), Math.max(firstChange, lastChange));
     if (lastChange >= firstChange) {
       return compositeChange;
     } else {
@@ -108,6 +115,71 @@ public class History extends DefaultTreeModel implements java.io.Serializable {
     }
   }
 
+  /**
+   * @return a change that has the same effect as the changes from the first index up to the last, using the squashed
+   *         changes between the checkpoints in between
+   */
+  private synchronized Change getChanges(final int first, final int last) {
+    final List<Change> changes = new ArrayList<Change>();
+    int index = first;
+    final List<Integer> checkpoints = getCheckpoints();
+    for (int i = 0; i < checkpoints.size() - 1; i++) {
+      final int checkpoint = checkpoints.get(i);
+      final int next = checkpoints.get(i + 1);
+      if (checkpoint < index) {
+        continue;
+      }
+      if (next > last) {
+        break;
+      }
+      changes.addAll(m_changes.subList(index, checkpoint));
+      changes.add(getSquashedChanges(checkpoint, next));
+      index = next;
+    }
+    changes.addAll(m_changes.subList(index, last));
+    return new CompositeChange(changes);
+  }
+
+  /**
+   * Checkpoints are at the start of rounds, at least CHECKPOINT_CHANGES changes apart. They are chosen from the start
+   * of the game onwards, so the checkpoints do not move as the game goes on.
+   */
+  private List<Integer> getCheckpoints() {
+    final List<Integer> checkpoints = new ArrayList<Integer>();
+    int last = 0;
+    checkpoints.add(last);
+    final HistoryNode root = (HistoryNode) getRoot();
+    for (int i = 0; i < root.getChildCount(); i++) {
+      if (!(root.getChildAt(i) instanceof Round)) {
+        continue;
+      }
+      final int start = ((Round) root.getChildAt(i)).getChangeStartIndex();
+      if (start - last >= CHECKPOINT_CHANGES && start <= m_changes.size()) {
+        checkpoints.add(start);
+        last = start;
+      }
+    }
+    return checkpoints;
+  }
+
+  private Change getSquashedChanges(final int checkpoint, final int next) {
+    final Checkpoint cached = m_checkpoints.get(checkpoint);
+    if (cached != null && cached.m_next == next) {
+      return cached.m_changes;
+    }
+    final Change squashed = ChangeFactory.squash(m_changes.subList(checkpoint, next));
+    final int size = ((CompositeChange) squashed).getChanges().size();
+    if (m_checkpointSize + size > MAX_CHECKPOINT_CHANGES) {
+      m_checkpoints.clear();
+      m_checkpointSize = 0;
+    }
+    if (size <= MAX_CHECKPOINT_CHANGES) {
+      m_checkpoints.put(checkpoint, new Checkpoint(next, squashed));
+      m_checkpointSize += size;
+    }
+    return squashed;
+  }
+
   public synchronized void gotoNode(final HistoryNode node) {
     assertCorrectThread();
     getGameData().acquireWriteLock();
@@ -134,6 +206,8 @@ public class History extends DefaultTreeModel implements java.io.Serializable {
       while (m_changes.size() > lastChange) {
         m_changes.remove(lastChange);
       }
+      m_checkpoints.clear();
+      m_checkpointSize = 0;
       final List<HistoryNode> nodesToRemove = new ArrayList<HistoryNode>();
       final Enumeration<?> enumeration = ((DefaultMutableTreeNode) this.getRoot()).preorderEnumeration();
       enumeration.nextElement();
@@ -172,6 +246,21 @@ public class History extends DefaultTreeModel implements java.io.Serializable {
     return new SerializedHistory(this, m_data, m_changes);
   }
 
+  /**
+   * Returns true if the object is what a History is replaced with when it is serialized.
+   */
+  public static boolean isSerializedHistory(final Object object) {
+    return object instanceof SerializedHistory;
+  }
+
+  /**
+   * Returns the serialized form of an empty history for the given game data.
+   * Used to copy a game data without copying all of its history.
+   */
+  public static Serializable emptySerializedHistory(final GameData data) {
+    return new SerializedHistory(new History(data), data, new ArrayList<Change>());
+  }
+
   List<Change> getChanges() {
     return m_changes;
   }
@@ -179,6 +268,16 @@ public class History extends DefaultTreeModel implements java.io.Serializable {
   GameData getGameData() {
     return m_data;
   }
+
+  private static class Checkpoint {
+    private final int m_next;
+    private final Change m_changes;
+
+    Checkpoint(final int next, final Change changes) {
+      m_next = next;
+      m_changes = changes;
+    }
+  }
 }
 
 
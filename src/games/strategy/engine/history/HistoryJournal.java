@@ -0,0 +1,97 @@
+package games.strategy.engine.history;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.GameData;
+
+/**
+ * Records everything written to a history, in the order it was written, so that what happened since a game was saved
+ * can be saved on its own, and later replayed onto the saved game.
+ * <p>
+ * Each entry has a position, counted from when the journal was started. Entries that are no longer needed can be
+ * discarded, positions do not change when they are.
+ */
+public class HistoryJournal {
+  private final List<SerializationWriter> m_entries = new ArrayList<SerializationWriter>();
+  // the position of the first entry still kept
+  private long m_firstPosition = 0;
+
+  synchronized void add(final SerializationWriter entry) {
+    m_entries.add(entry);
+  }
+
+  /**
+   * @return the position the next entry will have
+   */
+  public synchronized long getPosition() {
+    return m_firstPosition + m_entries.size();
+  }
+
+  /**
+   * @return the entries from the given position up to now, to be replayed with replay(...)
+   */
+  public synchronized ArrayList<Serializable> getEntriesFrom(final long position) {
+    if (position < m_firstPosition) {
+      throw new IllegalArgumentException("Entries before " + m_firstPosition + " have been discarded: " + position);
+    }
+    return new ArrayList<Serializable>(m_entries.subList((int) (position - m_firstPosition), m_entries.size()));
+  }
+
+  /**
+   * Forgets the entries before the given position.
+   */
+  public synchronized void discardBefore(final long position) {
+    final int count = (int) Math.min(position - m_firstPosition, m_entries.size());
+    if (count > 0) {
+      m_entries.subList(0, count).clear();
+      m_firstPosition += count;
+    }
+  }
+
+  /**
+   * Writes the entries to the history of the given game data, and performs the changes among them on the game data.
+   */
+  public static void replay(final List<? extends Serializable> entries, final GameData data) {
+    final HistoryWriter writer = data.getHistory().getHistoryWriter();
+    for (final Serializable entry : entries) {
+      ((SerializationWriter) entry).write(writer);
+    }
+  }
+}
+
+
+/**
+ * A change to perform on the game data as well as add to the history, unlike ChangeSerializationWriter which is used
+ * when the game data already has the change.
+ */
+class PerformedChangeWriter implements SerializationWriter {
+  private static final long serialVersionUID = -4313496284957441766L;
+  private final Change m_change;
+
+  public PerformedChangeWriter(final Change change) {
+    m_change = change;
+  }
+
+  @Override
+  public void write(final HistoryWriter writer) {
+    writer.performChange(m_change);
+  }
+}
+
+
+class RenderingDataWriter implements SerializationWriter {
+  private static final long serialVersionUID = 2934472130429870216L;
+  private final Object m_renderingData;
+
+  public RenderingDataWriter(final Object renderingData) {
+    m_renderingData = renderingData;
+  }
+
+  @Override
+  public void write(final HistoryWriter writer) {
+    writer.setRenderingData(m_renderingData);
+  }
+}
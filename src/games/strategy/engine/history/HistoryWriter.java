@@ -13,11 +13,25 @@ public class HistoryWriter implements java.io.Serializable {
   private static final long serialVersionUID = 4230519614567508061L;
   private final History m_history;
   private HistoryNode m_current;
+  private transient HistoryJournal m_journal;
 
   public HistoryWriter(final History history) {
     m_history = history;
   }
 
+  /**
+   * From now on, record everything written to the history in the given journal. Null stops recording.
+   */
+  public void setJournal(final HistoryJournal journal) {
+    m_journal = journal;
+  }
+
+  private void journal(final SerializationWriter entry) {
+    if (m_journal != null) {
+      m_journal.add(entry);
+    }
+  }
+
   private void assertCorrectThread() {
     if (m_history.getGameData().areChangesOnlyInSwingEventThread() && !SwingUtilities.isEventDispatchThread()) {
       throw new IllegalStateException("Wrong thread");
@@ -53,6 +67,7 @@ public class HistoryWriter implements java.io.Serializable {
     }
     final Step currentStep = new Step(stepName, delegateName, player, m_history.getChanges().size(), stepDisplayName);
     addToAndSetCurrent(currentStep);
+    journal(new StepHistorySerializer(stepName, delegateName, player, stepDisplayName));
   }
 
   public void startNextRound(final int round) {
@@ -69,6 +84,7 @@ public class HistoryWriter implements java.io.Serializable {
     final Round currentRound = new Round(round, m_history.getChanges().size());
     m_current = (HistoryNode) m_history.getRoot();
     addToAndSetCurrent(currentRound);
+    journal(new RoundHistorySerializer(round));
   }
 
   private void closeCurrent() {
@@ -120,6 +136,7 @@ public class HistoryWriter implements java.io.Serializable {
     }
     final Event event = new Event(eventName, m_history.getChanges().size());
     addToAndSetCurrent(event);
+    journal(new EventHistorySerializer(eventName, null));
   }
 
   private boolean isCurrentEvent() {
@@ -145,6 +162,7 @@ public class HistoryWriter implements java.io.Serializable {
       startEvent("???");
     }
     addToCurrent(node);
+    journal(node.getWriter());
   }
 
   /**
@@ -158,6 +176,15 @@ public class HistoryWriter implements java.io.Serializable {
       startEvent("Bad Event for change: \n" + change.toString());
     }
     m_history.changeAdded(change);
+    journal(new PerformedChangeWriter(change));
+  }
+
+  /**
+   * Performs a change on the game data, and adds it to the current event.
+   */
+  void performChange(final Change change) {
+    m_history.getGameData().performChange(change);
+    addChange(change);
   }
 
   public void setRenderingData(final Object details) {
@@ -174,5 +201,6 @@ public class HistoryWriter implements java.io.Serializable {
       m_history.getGameData().releaseWriteLock();
     }
     m_history.goToEnd();
+    journal(new RenderingDataWriter(details));
   }
 }
@@ -13,6 +13,7 @@ import games.strategy.engine.framework.headlessGameServer.HeadlessGameServer;
 import games.strategy.engine.lobby.server.headless.HeadlessLobbyConsole;
 import games.strategy.engine.lobby.server.login.LobbyLoginValidator;
 import games.strategy.engine.lobby.server.ui.LobbyAdminConsole;
+import games.strategy.engine.lobby.server.userDB.BanAndMuteIndex;
 import games.strategy.engine.lobby.server.userDB.Database;
 import games.strategy.net.IServerMessenger;
 import games.strategy.net.Messengers;
@@ -102,6 +103,8 @@ public class LobbyServer {
       System.out.println("Starting database");
       // initialize the database
       Database.getConnection().close();
+      // read the bans and mutes, so the first logins do not have to
+      BanAndMuteIndex.getInstance();
       s_logger.info("Lobby started");
       if (startUI) {
         startUI(server);
@@ -98,6 +98,8 @@ public class HeadlessLobbyConsole {
       memory();
     } else if (noun.equals("threads")) {
       threads();
+    } else if (noun.equals("queries")) {
+      queries();
     } else {
       out.println("unrecognized command:" + command);
       showHelp();
@@ -112,6 +114,10 @@ public class HeadlessLobbyConsole {
     out.println(DebugUtils.getMemory());
   }
 
+  private void queries() {
+    out.println(Database.getQueryTimings());
+  }
+
   private static void backup() {
     Database.backup();
   }
@@ -185,7 +191,8 @@ public class HeadlessLobbyConsole {
 
   private void showHelp() {
     out.println("available commands:\n" + "  backup - backup the database \n" + "  help - show this message\n"
-        + "  memory - show memory usage\n" + "  status - show status information\n"
+        + "  memory - show memory usage\n" + "  queries - show how long database queries take\n"
+        + "  status - show status information\n"
         + "  sql {sql} - execute a sql command and print the results\n" + "  threads - get thread dumps\n"
         + "  quit - quit\n");
   }
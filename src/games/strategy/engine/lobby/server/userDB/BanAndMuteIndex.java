@@ -0,0 +1,136 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An in memory copy of the banned and muted ips, macs and usernames, so that logging in and chatting do not have to
+ * ask the database.
+ * <p>
+ * Everything is read from the database the first time the index is used. After that the ban and mute controllers
+ * write through to the index whenever they change the database. Entries whose ban or mute has run out are dropped
+ * from the index when they are next looked at, they stay in the database until they are replaced.
+ * <p>
+ * Lookups do not lock, and may be made from any thread.
+ */
+public final class BanAndMuteIndex {
+  private static final Logger s_logger = Logger.getLogger(BanAndMuteIndex.class.getName());
+  /**
+   * The expiry time of a ban or mute that never expires.
+   */
+  static final long FOREVER = Long.MAX_VALUE;
+  private static volatile BanAndMuteIndex s_instance;
+
+  enum Table {
+    BANNED_IPS("banned_ips", "ip", "ban_till"),
+    BANNED_MACS("banned_macs", "mac", "ban_till"),
+    BANNED_USERNAMES("banned_usernames", "username", "ban_till"),
+    MUTED_IPS("muted_ips", "ip", "mute_till"),
+    MUTED_MACS("muted_macs", "mac", "mute_till"),
+    MUTED_USERNAMES("muted_usernames", "username", "mute_till");
+
+    private final String m_name;
+    private final String m_keyColumn;
+    private final String m_tillColumn;
+
+    private Table(final String name, final String keyColumn, final String tillColumn) {
+      m_name = name;
+      m_keyColumn = keyColumn;
+      m_tillColumn = tillColumn;
+    }
+  }
+
+  private final Map<Table, ConcurrentHashMap<String, Long>> m_entries =
+      new EnumMap<Table, ConcurrentHashMap<String, Long>>(Table.class);
+
+  private BanAndMuteIndex() {
+    for (final Table table : Table.values()) {
+      m_entries.put(table, new ConcurrentHashMap<String, Long>());
+    }
+  }
+
+  /**
+   * Returns the index, reading it from the database if this is the first time it is used.
+   */
+  public static BanAndMuteIndex getInstance() {
+    BanAndMuteIndex instance = s_instance;
+    if (instance == null) {
+      synchronized (BanAndMuteIndex.class) {
+        instance = s_instance;
+        if (instance == null) {
+          instance = new BanAndMuteIndex();
+          instance.load();
+          s_instance = instance;
+        }
+      }
+    }
+    return instance;
+  }
+
+  private void load() {
+    final Connection con = Database.getConnection();
+    try {
+      for (final Table table : Table.values()) {
+        final Map<String, Long> entries = m_entries.get(table);
+        final Statement s = con.createStatement();
+        final ResultSet rs =
+            s.executeQuery("select " + table.m_keyColumn + ", " + table.m_tillColumn + " from " + table.m_name);
+        while (rs.next()) {
+          entries.put(rs.getString(1), toExpiry(rs.getTimestamp(2)));
+        }
+        rs.close();
+        s.close();
+        s_logger.fine("Loaded " + entries.size() + " entries from " + table.m_name);
+      }
+    } catch (final SQLException sqle) {
+      s_logger.log(Level.SEVERE, "Error loading bans and mutes", sqle);
+      throw new IllegalStateException(sqle.getMessage());
+    } finally {
+      DbUtil.closeConnection(con);
+    }
+  }
+
+  /**
+   * Returns when the ban or mute of the given key expires, FOREVER if it never does, or -1 if the key is not banned or
+   * muted (any more).
+   */
+  long getExpiry(final Table table, final String key) {
+    if (key == null) {
+      return -1;
+    }
+    final ConcurrentHashMap<String, Long> entries = m_entries.get(table);
+    final Long expiry = entries.get(key);
+    if (expiry == null) {
+      return -1;
+    }
+    if (expiry < System.currentTimeMillis()) {
+      entries.remove(key, expiry);
+      return -1;
+    }
+    return expiry;
+  }
+
+  void put(final Table table, final String key, final Timestamp till) {
+    m_entries.get(table).put(key, toExpiry(till));
+  }
+
+  void remove(final Table table, final String key) {
+    m_entries.get(table).remove(key);
+  }
+
+  static Timestamp toTimestamp(final long expiry) {
+    return expiry == FOREVER ? null : new Timestamp(expiry);
+  }
+
+  private static long toExpiry(final Timestamp till) {
+    return till == null ? FOREVER : till.getTime();
+  }
+}
@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
@@ -30,9 +29,8 @@ public class BannedIpController {
    * If this ip is already banned, this call will update the ban_end.
    */
   public void addBannedIp(final String ip, final Date banTill) {
-    if (isIpBanned(ip).getFirst()) {
-      removeBannedIp(ip);
-    }
+    // replaces any earlier ban, even one that has expired but is still in the database
+    removeBannedIp(ip);
     Timestamp banTillTs = null;
     if (banTill != null) {
       banTillTs = new Timestamp(banTill.getTime());
@@ -46,6 +44,7 @@ public class BannedIpController {
       ps.execute();
       ps.close();
       con.commit();
+      BanAndMuteIndex.getInstance().put(BanAndMuteIndex.Table.BANNED_IPS, ip, banTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -69,6 +68,7 @@ public class BannedIpController {
       ps.execute();
       ps.close();
       con.commit();
+      BanAndMuteIndex.getInstance().remove(BanAndMuteIndex.Table.BANNED_IPS, ip);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting banned ip:" + ip, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -78,40 +78,13 @@ public class BannedIpController {
   }
 
   /**
-   * Is the given ip banned? This may have the side effect of removing from the
-   * database any ip's whose ban has expired
+   * Is the given ip banned? Answered from the in memory index, without asking the database.
    */
   public Tuple<Boolean, Timestamp> isIpBanned(final String ip) {
-    boolean found = false;
-    boolean expired = false;
-    Timestamp banTill = null;
-    final String sql = "select ip, ban_till from banned_ips where ip = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, ip);
-      final ResultSet rs = ps.executeQuery();
-      found = rs.next();
-      // if the ban has expird, allow the ip
-      if (found) {
-        banTill = rs.getTimestamp(2);
-        if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
-          s_logger.fine("Ban expired for:" + ip);
-          expired = true;
-        }
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing banned ip existence:" + ip + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
-    }
-    if (expired) {
-      removeBannedIp(ip);
-      return Tuple.of(false, banTill);
+    final long banTill = BanAndMuteIndex.getInstance().getExpiry(BanAndMuteIndex.Table.BANNED_IPS, ip);
+    if (banTill == -1) {
+      return Tuple.of(false, null);
     }
-    return Tuple.of(found, banTill);
+    return Tuple.of(true, BanAndMuteIndex.toTimestamp(banTill));
   }
 }
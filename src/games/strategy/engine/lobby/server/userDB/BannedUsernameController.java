@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
@@ -30,9 +29,8 @@ public class BannedUsernameController {
    * If this username is already banned, this call will update the ban_end.
    */
   public void addBannedUsername(final String username, final Date banTill) {
-    if (isUsernameBanned(username).getFirst()) {
-      removeBannedUsername(username);
-    }
+    // replaces any earlier ban, even one that has expired but is still in the database
+    removeBannedUsername(username);
     Timestamp banTillTs = null;
     if (banTill != null) {
       banTillTs = new Timestamp(banTill.getTime());
@@ -47,6 +45,7 @@ public class BannedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      BanAndMuteIndex.getInstance().put(BanAndMuteIndex.Table.BANNED_USERNAMES, username, banTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -70,6 +69,7 @@ public class BannedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      BanAndMuteIndex.getInstance().remove(BanAndMuteIndex.Table.BANNED_USERNAMES, username);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting banned username:" + username, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -79,40 +79,13 @@ public class BannedUsernameController {
   }
 
   /**
-   * Is the given username banned? This may have the side effect of removing from the
-   * database any username's whose ban has expired
+   * Is the given username banned? Answered from the in memory index, without asking the database.
    */
   public Tuple<Boolean, Timestamp> isUsernameBanned(final String username) {
-    boolean found = false;
-    boolean expired = false;
-    Timestamp banTill = null;
-    final String sql = "select username, ban_till from banned_usernames where username = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, username);
-      final ResultSet rs = ps.executeQuery();
-      found = rs.next();
-      // If the ban has expired, allow the username
-      if (found) {
-        banTill = rs.getTimestamp(2);
-        if (banTill != null && banTill.getTime() < System.currentTimeMillis()) {
-          s_logger.fine("Ban expired for:" + username);
-          expired = true;
-        }
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing banned username existence:" + username + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
-    }
-    if (expired) {
-      removeBannedUsername(username);
-      return Tuple.of(false, banTill);
+    final long banTill = BanAndMuteIndex.getInstance().getExpiry(BanAndMuteIndex.Table.BANNED_USERNAMES, username);
+    if (banTill == -1) {
+      return Tuple.of(false, null);
     }
-    return Tuple.of(found, banTill);
+    return Tuple.of(true, BanAndMuteIndex.toTimestamp(banTill));
   }
 }
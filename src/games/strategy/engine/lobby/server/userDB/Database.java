@@ -11,6 +11,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Callable;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -32,12 +33,31 @@ import games.strategy.util.ThreadUtil;
  * <p>
  * Getting a connection will also schedule backups at regular intervals.
  * <p>
+ * Connections are pooled, and closing a connection gives it back to the pool. Statements prepared on a connection are
+ * cached with it, so callers should prepare their sql each time rather than keeping statements around.
+ * <p>
  */
 public class Database {
   private final static Logger s_logger = Logger.getLogger(Database.class.getName());
   private static final Object s_dbSetupLock = new Object();
   private static boolean s_isDbSetup = false;
   private static boolean s_areDBTablesCreated = false;
+  /*
+   * The connection specifies create=true to cause
+   * the database to be created. To remove the database,
+   * remove the directory derbyDB and its contents.
+   * The directory derbyDB will be created under
+   * the directory that the system property
+   * derby.system.home points to, or the current
+   * directory if derby.system.home is not set.
+   */
+  static final String URL = "jdbc:derby:ta_users;create=true";
+  private static final DbConnectionPool s_pool = new DbConnectionPool(new Callable<Connection>() {
+    @Override
+    public Connection call() throws SQLException {
+      return DriverManager.getConnection(URL, getDbProps());
+    }
+  });
 
   private static File getCurrentDataBaseDir() {
     final File dbRootDir = getDBRoot();
@@ -67,19 +87,8 @@ public class Database {
   public static Connection getConnection() {
     ensureDbIsSetup();
     Connection conn = null;
-    final Properties props = getDbProps();
-    /*
-     * The connection specifies create=true to cause
-     * the database to be created. To remove the database,
-     * remove the directory derbyDB and its contents.
-     * The directory derbyDB will be created under
-     * the directory that the system property
-     * derby.system.home points to, or the current
-     * directory if derby.system.home is not set.
-     */
-    final String url = "jdbc:derby:ta_users;create=true";
     try {
-      conn = DriverManager.getConnection(url, props);
+      conn = s_pool.getConnection();
     } catch (final SQLException e) {
       s_logger.log(Level.SEVERE, e.getMessage(), e);
       throw new IllegalStateException("Could not create db connection");
@@ -221,7 +230,7 @@ public class Database {
     con.close();
   }
 
-  private static Properties getDbProps() {
+  static Properties getDbProps() {
     final Properties props = new Properties();
     props.put("user", "user1");
     props.put("password", "user1");
@@ -255,7 +264,19 @@ public class Database {
     return new File(getDBRoot(), "backups");
   }
 
+  /**
+   * Describes how often each sql statement has been run, and how long it took.
+   */
+  public static String getQueryTimings() {
+    final StringBuilder timings = new StringBuilder();
+    for (final DbConnectionPool.QueryTiming timing : s_pool.getQueryTimings()) {
+      timings.append(timing).append("\n");
+    }
+    return timings.toString();
+  }
+
   private static void shutDownDB() {
+    s_pool.clear();
     try {
       DriverManager.getConnection("jdbc:derby:ta_users;shutdown=true");
     } catch (final SQLException se) {
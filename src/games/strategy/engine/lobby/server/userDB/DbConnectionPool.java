@@ -0,0 +1,420 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps database connections open between uses.
+ * <p>
+ * Connections handed out by the pool go back to the pool when they are closed, instead of being closed. Each pooled
+ * connection also keeps the statements prepared on it, so preparing the same sql again on a later use of the
+ * connection is free. Closing such a statement closes its result sets and only clears its parameters. A statement is
+ * only used by one handle at a time, and closing a connection handle closes the statements prepared through it.
+ * <p>
+ * Only a limited number of idle connections are kept. When every idle connection is in use, a new one is opened, and
+ * it is closed for real when it is given back to a full pool.
+ * <p>
+ * The time taken by each sql statement is recorded, see getQueryTimings().
+ */
+class DbConnectionPool {
+  private static final Logger s_logger = Logger.getLogger(DbConnectionPool.class.getName());
+  static final int MAX_IDLE_CONNECTIONS = 8;
+  static final int MAX_CACHED_STATEMENTS = 32;
+  private final Callable<Connection> m_connectionFactory;
+  private final ConcurrentLinkedQueue<PooledConnection> m_idle = new ConcurrentLinkedQueue<PooledConnection>();
+  private final AtomicInteger m_idleCount = new AtomicInteger();
+  private final Map<String, QueryTiming> m_timings = new HashMap<String, QueryTiming>();
+
+  /**
+   * @param connectionFactory
+   *        opens a new connection to the database
+   */
+  DbConnectionPool(final Callable<Connection> connectionFactory) {
+    m_connectionFactory = connectionFactory;
+  }
+
+  Connection getConnection() throws SQLException {
+    PooledConnection pooled;
+    while ((pooled = m_idle.poll()) != null) {
+      m_idleCount.decrementAndGet();
+      if (!pooled.m_connection.isClosed()) {
+        return pooled.open();
+      }
+    }
+    final Connection connection;
+    try {
+      connection = m_connectionFactory.call();
+    } catch (final SQLException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new SQLException(e);
+    }
+    return new PooledConnection(connection).open();
+  }
+
+  int getIdleCount() {
+    return m_idleCount.get();
+  }
+
+  /**
+   * Closes every idle connection.
+   */
+  void clear() {
+    PooledConnection pooled;
+    while ((pooled = m_idle.poll()) != null) {
+      m_idleCount.decrementAndGet();
+      pooled.closeForReal();
+    }
+  }
+
+  /**
+   * Returns how often each sql statement has been run, and how long it took.
+   */
+  List<QueryTiming> getQueryTimings() {
+    synchronized (m_timings) {
+      final List<QueryTiming> timings = new ArrayList<QueryTiming>();
+      for (final QueryTiming timing : m_timings.values()) {
+        timings.add(new QueryTiming(timing));
+      }
+      return timings;
+    }
+  }
+
+  private void release(final PooledConnection pooled) {
+    try {
+      if (pooled.m_connection.isClosed()) {
+        return;
+      }
+      // do not hand out a connection in the middle of someone else's transaction
+      if (!pooled.m_connection.getAutoCommit()) {
+        pooled.m_connection.rollback();
+        pooled.m_connection.setAutoCommit(true);
+      }
+    } catch (final SQLException e) {
+      s_logger.log(Level.FINE, "Could not reset connection, closing it", e);
+      pooled.closeForReal();
+      return;
+    }
+    if (m_idleCount.incrementAndGet() > MAX_IDLE_CONNECTIONS) {
+      m_idleCount.decrementAndGet();
+      pooled.closeForReal();
+      return;
+    }
+    m_idle.offer(pooled);
+  }
+
+  private void recordTiming(final String sql, final long nanos) {
+    synchronized (m_timings) {
+      QueryTiming timing = m_timings.get(sql);
+      if (timing == null) {
+        timing = new QueryTiming(sql);
+        m_timings.put(sql, timing);
+      }
+      timing.add(nanos);
+    }
+    if (s_logger.isLoggable(Level.FINE)) {
+      s_logger.fine("Query took " + (nanos / 1000000) + "ms: " + sql);
+    }
+  }
+
+  private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * How often one sql statement has been run, and how long it took.
+   */
+  static class QueryTiming {
+    private final String m_sql;
+    private int m_count;
+    private long m_totalNanos;
+    private long m_maxNanos;
+
+    QueryTiming(final String sql) {
+      m_sql = sql;
+    }
+
+    QueryTiming(final QueryTiming other) {
+      m_sql = other.m_sql;
+      m_count = other.m_count;
+      m_totalNanos = other.m_totalNanos;
+      m_maxNanos = other.m_maxNanos;
+    }
+
+    private void add(final long nanos) {
+      m_count++;
+      m_totalNanos += nanos;
+      m_maxNanos = Math.max(m_maxNanos, nanos);
+    }
+
+    public String getSql() {
+      return m_sql;
+    }
+
+    public int getCount() {
+      return m_count;
+    }
+
+    public double getAverageMillis() {
+      return m_count == 0 ? 0 : m_totalNanos / (m_count * 1000000.0);
+    }
+
+    public double getMaxMillis() {
+      return m_maxNanos / 1000000.0;
+    }
+
+    @Override
+    public String toString() {
+      return m_sql + " count:" + m_count + " average:" + getAverageMillis() + "ms max:" + getMaxMillis() + "ms";
+    }
+  }
+
+  /**
+   * A real connection, and the statements prepared on it.
+   */
+  private final class PooledConnection {
+    private final Connection m_connection;
+    private final Map<String, CachedStatement> m_statements;
+
+    PooledConnection(final Connection connection) {
+      m_connection = connection;
+      m_statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+        private static final long serialVersionUID = 2380612484392575447L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CachedStatement> eldest) {
+          if (size() <= MAX_CACHED_STATEMENTS) {
+            return false;
+          }
+          final CachedStatement evicted = eldest.getValue();
+          evicted.m_cached = false;
+          // a statement in use is closed by its user
+          if (!evicted.m_checkedOut) {
+            closeQuietly(evicted.m_statement);
+          }
+          return true;
+        }
+      };
+    }
+
+    /**
+     * Returns a handle to this connection, which gives the connection back to the pool when it is closed.
+     */
+    Connection open() {
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+          new ConnectionHandle());
+    }
+
+    /**
+     * Checks out the cached statement for the sql, or prepares a new one. If the cached statement is already checked
+     * out, for example because the same sql is prepared twice on one handle, a statement that is not cached is handed
+     * out instead, so the two do not share parameters or result sets.
+     */
+    private CachedStatement checkOut(final String sql) throws SQLException {
+      synchronized (m_statements) {
+        final CachedStatement cached = m_statements.get(sql);
+        if (cached != null && !cached.m_checkedOut && !cached.m_statement.isClosed()) {
+          cached.m_checkedOut = true;
+          return cached;
+        }
+        final CachedStatement created = new CachedStatement(m_connection.prepareStatement(sql));
+        created.m_checkedOut = true;
+        if (cached == null || !cached.m_checkedOut) {
+          if (cached != null) {
+            closeQuietly(cached.m_statement);
+          }
+          created.m_cached = true;
+          m_statements.put(sql, created);
+        }
+        return created;
+      }
+    }
+
+    /**
+     * Gives back a checked out statement, which stays open for the next user if it is cached.
+     */
+    private void checkIn(final CachedStatement statement) throws SQLException {
+      synchronized (m_statements) {
+        statement.m_checkedOut = false;
+        if (statement.m_cached) {
+          statement.m_statement.clearParameters();
+        } else {
+          statement.m_statement.close();
+        }
+      }
+    }
+
+    void closeForReal() {
+      synchronized (m_statements) {
+        for (final CachedStatement statement : m_statements.values()) {
+          closeQuietly(statement.m_statement);
+        }
+        m_statements.clear();
+      }
+      try {
+        m_connection.close();
+      } catch (final SQLException e) {
+        s_logger.log(Level.FINE, "Error closing connection", e);
+      }
+    }
+
+    /**
+     * One use of the connection. Once closed, the handle can not be used again, even though the connection it wraps
+     * is still open. Closing the handle closes the statements prepared through it.
+     */
+    private final class ConnectionHandle implements InvocationHandler {
+      private boolean m_closed = false;
+      private final List<StatementHandle> m_openStatements = new ArrayList<StatementHandle>();
+
+      @Override
+      public synchronized Object invoke(final Object proxy, final Method method, final Object[] args)
+          throws Throwable {
+        final String name = method.getName();
+        if (name.equals("close")) {
+          if (!m_closed) {
+            m_closed = true;
+            for (final StatementHandle statement : new ArrayList<StatementHandle>(m_openStatements)) {
+              try {
+                statement.close();
+              } catch (final SQLException e) {
+                s_logger.log(Level.FINE, "Error closing statement", e);
+              }
+            }
+            release(PooledConnection.this);
+          }
+          return null;
+        }
+        if (name.equals("isClosed")) {
+          return m_closed || m_connection.isClosed();
+        }
+        if (m_closed) {
+          throw new SQLException("Connection is closed");
+        }
+        if (name.equals("prepareStatement") && args.length == 1) {
+          final String sql = (String) args[0];
+          final StatementHandle statement = new StatementHandle(this, sql, checkOut(sql));
+          m_openStatements.add(statement);
+          return Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+              new Class<?>[] {PreparedStatement.class}, statement);
+        }
+        return DbConnectionPool.invoke(m_connection, method, args);
+      }
+
+      private synchronized void closed(final StatementHandle statement) {
+        m_openStatements.remove(statement);
+      }
+    }
+
+    /**
+     * One use of a prepared statement, valid until it or the connection handle it came from is closed. Closing it
+     * closes the result sets it returned and gives the statement back.
+     */
+    private final class StatementHandle implements InvocationHandler {
+      private final ConnectionHandle m_connectionHandle;
+      private final String m_sql;
+      private final CachedStatement m_statement;
+      private final List<ResultSet> m_resultSets = new ArrayList<ResultSet>();
+      private boolean m_closed = false;
+
+      StatementHandle(final ConnectionHandle connectionHandle, final String sql, final CachedStatement statement) {
+        m_connectionHandle = connectionHandle;
+        m_sql = sql;
+        m_statement = statement;
+      }
+
+      @Override
+      public synchronized Object invoke(final Object proxy, final Method method, final Object[] args)
+          throws Throwable {
+        final String name = method.getName();
+        if (name.equals("close")) {
+          close();
+          return null;
+        }
+        if (name.equals("isClosed")) {
+          return m_closed;
+        }
+        if (m_closed) {
+          throw new SQLException("Statement is closed");
+        }
+        final Object result;
+        if (name.startsWith("execute")) {
+          final long start = System.nanoTime();
+          try {
+            result = DbConnectionPool.invoke(m_statement.m_statement, method, args);
+          } finally {
+            recordTiming(m_sql, System.nanoTime() - start);
+          }
+        } else {
+          result = DbConnectionPool.invoke(m_statement.m_statement, method, args);
+        }
+        if (result instanceof ResultSet) {
+          m_resultSets.add((ResultSet) result);
+        }
+        return result;
+      }
+
+      void close() throws SQLException {
+        synchronized (this) {
+          if (m_closed) {
+            return;
+          }
+          m_closed = true;
+          try {
+            for (final ResultSet resultSet : m_resultSets) {
+              if (!resultSet.isClosed()) {
+                resultSet.close();
+              }
+            }
+            m_resultSets.clear();
+          } finally {
+            checkIn(m_statement);
+          }
+        }
+        // not while holding this lock, the connection handle takes its own lock first when it closes us
+        m_connectionHandle.closed(this);
+      }
+    }
+  }
+
+  /**
+   * A statement prepared on a pooled connection.
+   */
+  private static final class CachedStatement {
+    private final PreparedStatement m_statement;
+    // guarded by the statement map of the connection
+    private boolean m_checkedOut = false;
+    private boolean m_cached = false;
+
+    CachedStatement(final PreparedStatement statement) {
+      m_statement = statement;
+    }
+  }
+
+  private static void closeQuietly(final PreparedStatement statement) {
+    try {
+      statement.close();
+    } catch (final SQLException e) {
+      s_logger.log(Level.FINE, "Error closing statement", e);
+    }
+  }
+}
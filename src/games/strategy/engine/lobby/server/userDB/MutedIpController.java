@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -30,9 +29,8 @@ public class MutedIpController {
    * If this ip is already muted, this call will update the mute_end.
    */
   public void addMutedIp(final String ip, final Date muteTill) {
-    if (isIpMuted(ip)) {
-      removeMutedIp(ip);
-    }
+    // replaces any earlier mute, even one that has expired but is still in the database
+    removeMutedIp(ip);
     Timestamp muteTillTs = null;
     if (muteTill != null) {
       muteTillTs = new Timestamp(muteTill.getTime());
@@ -46,6 +44,7 @@ public class MutedIpController {
       ps.execute();
       ps.close();
       con.commit();
+      BanAndMuteIndex.getInstance().put(BanAndMuteIndex.Table.MUTED_IPS, ip, muteTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -69,6 +68,7 @@ public class MutedIpController {
       ps.execute();
       ps.close();
       con.commit();
+      BanAndMuteIndex.getInstance().remove(BanAndMuteIndex.Table.MUTED_IPS, ip);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting muted ip:" + ip, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -78,82 +78,26 @@ public class MutedIpController {
   }
 
   /**
-   * Is the given ip muted? This may have the side effect of removing from the
-   * database any ip's whose mute has expired
+   * Is the given ip muted? Answered from the in memory index, without asking the database.
    */
   public boolean isIpMuted(final String ip) {
     final long muteTill = getIpUnmuteTime(ip);
     return muteTill > System.currentTimeMillis();
   }
 
+  /**
+   * Returns when the mute of the given ip ends, Long.MAX_VALUE if it never does, or -1 if the ip is not muted.
+   */
   public long getIpUnmuteTime(final String ip) {
-    long result = -1;
-    boolean expired = false;
-    final String sql = "select ip, mute_till from muted_ips where ip = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, ip);
-      final ResultSet rs = ps.executeQuery();
-      final boolean found = rs.next();
-      if (found) {
-        final Timestamp muteTill = rs.getTimestamp(2);
-        result = muteTill.getTime();
-        if (result < System.currentTimeMillis()) {
-          s_logger.fine("Mute expired for:" + ip);
-          expired = true;
-        }
-      } else {
-        result = -1;
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing muted ip existence:" + ip + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
-    }
-    // If the mute has expired, allow the ip
-    if (expired) {
-      removeMutedIp(ip);
-      // Signal as not-muted
-      result = -1;
-    }
-    return result;
+    return BanAndMuteIndex.getInstance().getExpiry(BanAndMuteIndex.Table.MUTED_IPS, ip);
   }
 
   public List<String> getIPsThatAreStillMuted(final List<String> ips) {
     final List<String> results = new ArrayList<String>();
-    final String sql = "select ip, mute_till from muted_ips where ip = ?";
-    final Connection con = Database.getConnection();
-    try {
-      for (final String ip : ips) {
-        boolean found = false;
-        boolean expired = false;
-        final PreparedStatement ps = con.prepareStatement(sql);
-        ps.setString(1, ip);
-        final ResultSet rs = ps.executeQuery();
-        found = rs.next();
-        // If the mute has expired, allow the ip
-        if (found) {
-          final Timestamp muteTill = rs.getTimestamp(2);
-          if (muteTill != null && muteTill.getTime() < System.currentTimeMillis()) {
-            s_logger.fine("Mute expired for: " + ip);
-            expired = true;
-          }
-        }
-        rs.close();
-        ps.close();
-        if (found && !expired) {
-          results.add(ip);
-        }
+    for (final String ip : ips) {
+      if (isIpMuted(ip)) {
+        results.add(ip);
       }
-    } catch (final SQLException sqle) {
-      s_logger.info("Error testing whether ips were muted: " + ips);
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
     }
     return results;
   }
@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -30,9 +29,8 @@ public class MutedMacController {
    * If this mac is already muted, this call will update the mute_end.
    */
   public void addMutedMac(final String mac, final Date muteTill) {
-    if (isMacMuted(mac)) {
-      removeMutedMac(mac);
-    }
+    // replaces any earlier mute, even one that has expired but is still in the database
+    removeMutedMac(mac);
     Timestamp muteTillTs = null;
     if (muteTill != null) {
       muteTillTs = new Timestamp(muteTill.getTime());
@@ -46,6 +44,7 @@ public class MutedMacController {
       ps.execute();
       ps.close();
       con.commit();
+      BanAndMuteIndex.getInstance().put(BanAndMuteIndex.Table.MUTED_MACS, mac, muteTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -69,6 +68,7 @@ public class MutedMacController {
       ps.execute();
       ps.close();
       con.commit();
+      BanAndMuteIndex.getInstance().remove(BanAndMuteIndex.Table.MUTED_MACS, mac);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting muted mac:" + mac, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -78,82 +78,26 @@ public class MutedMacController {
   }
 
   /**
-   * Is the given mac muted? This may have the side effect of removing from the
-   * database any mac's whose mute has expired
+   * Is the given mac muted? Answered from the in memory index, without asking the database.
    */
   public boolean isMacMuted(final String mac) {
     final long muteTill = getMacUnmuteTime(mac);
     return muteTill > System.currentTimeMillis();
   }
 
+  /**
+   * Returns when the mute of the given mac ends, Long.MAX_VALUE if it never does, or -1 if the mac is not muted.
+   */
   public long getMacUnmuteTime(final String mac) {
-    long result = -1;
-    boolean expired = false;
-    final String sql = "select mac, mute_till from muted_macs where mac = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, mac);
-      final ResultSet rs = ps.executeQuery();
-      final boolean found = rs.next();
-      if (found) {
-        final Timestamp muteTill = rs.getTimestamp(2);
-        result = muteTill.getTime();
-        if (result < System.currentTimeMillis()) {
-          s_logger.fine("Mute expired for:" + mac);
-          expired = true;
-        }
-      } else {
-        result = -1;
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing muted mac existence:" + mac + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
-    }
-    // If the mute has expired, allow the mac
-    if (expired) {
-      removeMutedMac(mac);
-      // Signal as not-muted
-      result = -1;
-    }
-    return result;
+    return BanAndMuteIndex.getInstance().getExpiry(BanAndMuteIndex.Table.MUTED_MACS, mac);
   }
 
   public List<String> getMacsThatAreStillMuted(final List<String> macs) {
     final List<String> results = new ArrayList<String>();
-    final String sql = "select mac, mute_till from muted_macs where mac = ?";
-    final Connection con = Database.getConnection();
-    try {
-      for (final String mac : macs) {
-        boolean found = false;
-        boolean expired = false;
-        final PreparedStatement ps = con.prepareStatement(sql);
-        ps.setString(1, mac);
-        final ResultSet rs = ps.executeQuery();
-        found = rs.next();
-        // If the mute has expired, allow the mac
-        if (found) {
-          final Timestamp muteTill = rs.getTimestamp(2);
-          if (muteTill != null && muteTill.getTime() < System.currentTimeMillis()) {
-            s_logger.fine("Mute expired for: " + mac);
-            expired = true;
-          }
-        }
-        rs.close();
-        ps.close();
-        if (found && !expired) {
-          results.add(mac);
-        }
+    for (final String mac : macs) {
+      if (isMacMuted(mac)) {
+        results.add(mac);
       }
-    } catch (final SQLException sqle) {
-      s_logger.info("Error testing whether macs were muted: " + macs);
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
     }
     return results;
   }
@@ -2,7 +2,6 @@ package games.strategy.engine.lobby.server.userDB;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -30,9 +29,8 @@ public class MutedUsernameController {
    * If this username is already muted, this call will update the mute_end.
    */
   public void addMutedUsername(final String username, final Date muteTill) {
-    if (isUsernameMuted(username)) {
-      removeMutedUsername(username);
-    }
+    // replaces any earlier mute, even one that has expired but is still in the database
+    removeMutedUsername(username);
     Timestamp muteTillTs = null;
     if (muteTill != null) {
       muteTillTs = new Timestamp(muteTill.getTime());
@@ -47,6 +45,7 @@ public class MutedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      BanAndMuteIndex.getInstance().put(BanAndMuteIndex.Table.MUTED_USERNAMES, username, muteTillTs);
     } catch (final SQLException sqle) {
       if (sqle.getErrorCode() == 30000) {
         // this is ok
@@ -70,6 +69,7 @@ public class MutedUsernameController {
       ps.execute();
       ps.close();
       con.commit();
+      BanAndMuteIndex.getInstance().remove(BanAndMuteIndex.Table.MUTED_USERNAMES, username);
     } catch (final SQLException sqle) {
       s_logger.log(Level.SEVERE, "Error deleting muted username:" + username, sqle);
       throw new IllegalStateException(sqle.getMessage());
@@ -79,82 +79,27 @@ public class MutedUsernameController {
   }
 
   /**
-   * Is the given username muted? This may have the side effect of removing from the
-   * database any username's whose mute has expired
+   * Is the given username muted? Answered from the in memory index, without asking the database.
    */
   public boolean isUsernameMuted(final String username) {
     final long muteTill = getUsernameUnmuteTime(username);
     return muteTill > System.currentTimeMillis();
   }
 
+  /**
+   * Returns when the mute of the given username ends, Long.MAX_VALUE if it never does, or -1 if the username is not
+   * muted.
+   */
   public long getUsernameUnmuteTime(final String username) {
-    long result = -1;
-    boolean expired = false;
-    final String sql = "select username, mute_till from muted_usernames where username = ?";
-    final Connection con = Database.getConnection();
-    try {
-      final PreparedStatement ps = con.prepareStatement(sql);
-      ps.setString(1, username);
-      final ResultSet rs = ps.executeQuery();
-      final boolean found = rs.next();
-      if (found) {
-        final Timestamp muteTill = rs.getTimestamp(2);
-        result = muteTill.getTime();
-        if (result < System.currentTimeMillis()) {
-          s_logger.fine("Mute expired for:" + username);
-          expired = true;
-        }
-      } else {
-        result = -1;
-      }
-      rs.close();
-      ps.close();
-    } catch (final SQLException sqle) {
-      s_logger.info("Error for testing muted username existence:" + username + " error:" + sqle.getMessage());
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
-    }
-    // If the mute has expired, allow the username
-    if (expired) {
-      removeMutedUsername(username);
-      // Signal as not-muted
-      result = -1;
-    }
-    return result;
+    return BanAndMuteIndex.getInstance().getExpiry(BanAndMuteIndex.Table.MUTED_USERNAMES, username);
   }
 
   public List<String> getUsernamesThatAreStillMuted(final List<String> usernames) {
     final List<String> results = new ArrayList<String>();
-    final String sql = "select username, mute_till from muted_usernames where username = ?";
-    final Connection con = Database.getConnection();
-    try {
-      for (final String username : usernames) {
-        boolean found = false;
-        boolean expired = false;
-        final PreparedStatement ps = con.prepareStatement(sql);
-        ps.setString(1, username);
-        final ResultSet rs = ps.executeQuery();
-        found = rs.next();
-        // If the mute has expired, allow the username
-        if (found) {
-          final Timestamp muteTill = rs.getTimestamp(2);
-          if (muteTill != null && muteTill.getTime() < System.currentTimeMillis()) {
-            s_logger.fine("Mute expired for: " + username);
-            expired = true;
-          }
-        }
-        rs.close();
-        ps.close();
-        if (found && !expired) {
-          results.add(username);
-        }
+    for (final String username : usernames) {
+      if (isUsernameMuted(username)) {
+        results.add(username);
       }
-    } catch (final SQLException sqle) {
-      s_logger.info("Error testing whether usernames were muted: " + usernames);
-      throw new IllegalStateException(sqle.getMessage());
-    } finally {
-      DbUtil.closeConnection(con);
     }
     return results;
   }
@@ -0,0 +1,65 @@
+package games.strategy.engine.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * A fast random source that is owned by a single thread.
+ * <p>
+ * Unlike PlainRandomSource, which shares one synchronized generator across the whole vm, each LocalRandomSource has
+ * its own unsynchronized generator. This makes it suitable for simulations (battle calculator workers, AI move
+ * simulation) where many threads roll large numbers of dice at the same time, but it must never be shared between
+ * threads and must never be used for real game dice.
+ * <p>
+ * A source created with a seed will always produce the same sequence of numbers, so simulations can be replayed.
+ * Child sources for worker threads should be created with split(), so that their sequences are independent of each
+ * other while still being reproducible from the master seed.
+ */
+public class LocalRandomSource implements IRandomSource {
+  private SplittableRandom m_random;
+
+  /**
+   * Creates a source seeded the same way as PlainRandomSource.
+   */
+  public LocalRandomSource() {
+    this(PlainRandomSource.getSeed());
+  }
+
+  public LocalRandomSource(final long seed) {
+    m_random = new SplittableRandom(seed);
+  }
+
+  private LocalRandomSource(final SplittableRandom random) {
+    m_random = random;
+  }
+
+  /**
+   * Restarts this source so that it produces the sequence for the given seed.
+   */
+  public void setSeed(final long seed) {
+    m_random = new SplittableRandom(seed);
+  }
+
+  /**
+   * Returns a new source, for use by another thread, whose sequence is determined by the current state of this one.
+   */
+  public LocalRandomSource split() {
+    return new LocalRandomSource(m_random.split());
+  }
+
+  @Override
+  public int[] getRandom(final int max, final int count, final String annotation) throws IllegalArgumentException {
+    if (count <= 0) {
+      throw new IllegalArgumentException("count must be > 0, annotation:" + annotation);
+    }
+    final int[] numbers = new int[count];
+    for (int i = 0; i < count; i++) {
+      numbers[i] = m_random.nextInt(max);
+    }
+    return numbers;
+  }
+
+  @Override
+  public int getRandom(final int max, final String annotation) throws IllegalArgumentException {
+    return m_random.nextInt(max);
+  }
+}
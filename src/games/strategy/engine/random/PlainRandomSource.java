@@ -11,7 +11,7 @@ public class PlainRandomSource implements IRandomSource {
    * in response to semi-random mouse motion etc. if the execution is always the same then this may vary depending on
    * the VM
    */
-  private static long getSeed() {
+  static long getSeed() {
     final Object seedObj = new Object();
     // hash code is an int, 32 bits
     long seed = seedObj.hashCode();
@@ -16,11 +16,8 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -180,127 +177,92 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
   }
 
   private final Object m_cachedListLock = new Object();
-  private final HashMap<String, String> m_cachedMacAddresses = new HashMap<String, String>();
+  private final ConcurrentHashMap<String, String> m_cachedMacAddresses = new ConcurrentHashMap<String, String>();
 
   @Override
   public String GetPlayerMac(final String name) {
-    synchronized (m_cachedListLock) {
-      String mac = m_cachedMacAddresses.get(name);
-      if (mac == null) {
-        mac = m_playersThatLeftMacs_Last10.get(name);
-      }
+    final String mac = m_cachedMacAddresses.get(name);
+    if (mac != null) {
       return mac;
     }
+    synchronized (m_cachedListLock) {
+      return m_playersThatLeftMacs_Last10.get(name);
+    }
   }
 
   // We need to cache whether players are muted, because otherwise the database would have to be accessed each time a
-  // message was sent,
-  // which can be very slow
-  private final List<String> m_liveMutedUsernames = new ArrayList<String>();
+  // message was sent, which can be very slow.
+  // These maps (and the mini-ban maps below) hold when each mute ends, so checking a mute does not lock and an expired
+  // mute is simply dropped the next time it is looked at.
+  private final ConcurrentHashMap<String, Long> m_liveMutedUsernames = new ConcurrentHashMap<String, Long>();
 
   public boolean IsUsernameMuted(final String username) {
-    synchronized (m_cachedListLock) {
-      return m_liveMutedUsernames.contains(username);
-    }
+    return isLive(m_liveMutedUsernames, username);
   }
 
   @Override
   public void NotifyUsernameMutingOfPlayer(final String username, final Date muteExpires) {
-    synchronized (m_cachedListLock) {
-      if (!m_liveMutedUsernames.contains(username)) {
-        m_liveMutedUsernames.add(username);
-      }
-      if (muteExpires != null) {
-        ScheduleUsernameUnmuteAt(username, muteExpires.getTime());
-      }
-    }
+    m_liveMutedUsernames.put(username, getExpiry(muteExpires));
   }
 
-  private final List<String> m_liveMutedIpAddresses = new ArrayList<String>();
+  private final ConcurrentHashMap<String, Long> m_liveMutedIpAddresses = new ConcurrentHashMap<String, Long>();
 
   public boolean IsIpMuted(final String ip) {
-    synchronized (m_cachedListLock) {
-      return m_liveMutedIpAddresses.contains(ip);
-    }
+    return isLive(m_liveMutedIpAddresses, ip);
   }
 
   @Override
   public void NotifyIPMutingOfPlayer(final String ip, final Date muteExpires) {
-    synchronized (m_cachedListLock) {
-      if (!m_liveMutedIpAddresses.contains(ip)) {
-        m_liveMutedIpAddresses.add(ip);
-      }
-      if (muteExpires != null) {
-        ScheduleIpUnmuteAt(ip, muteExpires.getTime());
-      }
-    }
+    m_liveMutedIpAddresses.put(ip, getExpiry(muteExpires));
   }
 
-  private final List<String> m_liveMutedMacAddresses = new ArrayList<String>();
+  private final ConcurrentHashMap<String, Long> m_liveMutedMacAddresses = new ConcurrentHashMap<String, Long>();
 
   public boolean IsMacMuted(final String mac) {
-    synchronized (m_cachedListLock) {
-      return m_liveMutedMacAddresses.contains(mac);
-    }
+    return isLive(m_liveMutedMacAddresses, mac);
   }
 
   @Override
   public void NotifyMacMutingOfPlayer(final String mac, final Date muteExpires) {
-    synchronized (m_cachedListLock) {
-      if (!m_liveMutedMacAddresses.contains(mac)) {
-        m_liveMutedMacAddresses.add(mac);
-      }
-      if (muteExpires != null) {
-        ScheduleMacUnmuteAt(mac, muteExpires.getTime());
-      }
-    }
+    m_liveMutedMacAddresses.put(mac, getExpiry(muteExpires));
   }
 
-  private void ScheduleUsernameUnmuteAt(final String username, final long checkTime) {
-    final Timer unmuteUsernameTimer = new Timer("Username unmute timer");
-    unmuteUsernameTimer.schedule(GetUsernameUnmuteTask(username), new Date(checkTime));
+  private static long getExpiry(final Date expires) {
+    return expires == null ? Long.MAX_VALUE : expires.getTime();
   }
 
-  private void ScheduleIpUnmuteAt(final String ip, final long checkTime) {
-    final Timer unmuteIpTimer = new Timer("IP unmute timer");
-    unmuteIpTimer.schedule(GetIpUnmuteTask(ip), new Date(checkTime));
+  private static boolean isLive(final ConcurrentHashMap<String, Long> expiries, final String key) {
+    if (key == null) {
+      return false;
+    }
+    final Long expiry = expiries.get(key);
+    if (expiry == null) {
+      return false;
+    }
+    if (expiry <= System.currentTimeMillis()) {
+      expiries.remove(key, expiry);
+      return false;
+    }
+    return true;
   }
 
-  private void ScheduleMacUnmuteAt(final String mac, final long checkTime) {
-    final Timer unmuteMacTimer = new Timer("Mac unmute timer");
-    unmuteMacTimer.schedule(GetMacUnmuteTask(mac), new Date(checkTime));
+  private static void addLiveMute(final ConcurrentHashMap<String, Long> expiries, final String key,
+      final long muteTill) {
+    if (key != null && muteTill != -1) {
+      expiries.put(key, muteTill);
+    }
   }
 
   public void NotifyPlayerLogin(final String uniquePlayerName, final String ip, final String mac) {
-    synchronized (m_cachedListLock) {
+    if (mac != null) {
       m_cachedMacAddresses.put(uniquePlayerName, mac);
-      if (isLobby()) {
-        final String realName = uniquePlayerName.split(" ")[0];
-        if (!m_liveMutedUsernames.contains(realName)) {
-          final long muteTill = new MutedUsernameController().getUsernameUnmuteTime(realName);
-          if (muteTill != -1 && muteTill <= System.currentTimeMillis()) {
-            // Signal the player as muted
-            m_liveMutedUsernames.add(realName);
-            ScheduleUsernameUnmuteAt(realName, muteTill);
-          }
-        }
-        if (!m_liveMutedIpAddresses.contains(ip)) {
-          final long muteTill = new MutedIpController().getIpUnmuteTime(ip);
-          if (muteTill != -1 && muteTill <= System.currentTimeMillis()) {
-            // Signal the player as muted
-            m_liveMutedIpAddresses.add(ip);
-            ScheduleIpUnmuteAt(ip, muteTill);
-          }
-        }
-        if (!m_liveMutedMacAddresses.contains(mac)) {
-          final long muteTill = new MutedMacController().getMacUnmuteTime(mac);
-          if (muteTill != -1 && muteTill <= System.currentTimeMillis()) {
-            // Signal the player as muted
-            m_liveMutedMacAddresses.add(mac);
-            ScheduleMacUnmuteAt(mac, muteTill);
-          }
-        }
-      }
+    }
+    if (isLobby()) {
+      // the mute controllers answer from memory, so this does not touch the database
+      final String realName = uniquePlayerName.split(" ")[0];
+      addLiveMute(m_liveMutedUsernames, realName, new MutedUsernameController().getUsernameUnmuteTime(realName));
+      addLiveMute(m_liveMutedIpAddresses, ip, new MutedIpController().getIpUnmuteTime(ip));
+      addLiveMute(m_liveMutedMacAddresses, mac, new MutedMacController().getMacUnmuteTime(mac));
     }
   }
 
@@ -312,11 +274,10 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
 
   private void NotifyPlayerRemoval(final INode node) {
     synchronized (m_cachedListLock) {
-      m_playersThatLeftMacs_Last10.put(node.getName(), m_cachedMacAddresses.get(node.getName()));
+      m_playersThatLeftMacs_Last10.put(node.getName(), m_cachedMacAddresses.remove(node.getName()));
       if (m_playersThatLeftMacs_Last10.size() > 10) {
         m_playersThatLeftMacs_Last10.remove(m_playersThatLeftMacs_Last10.entrySet().iterator().next().toString());
       }
-      m_cachedMacAddresses.remove(node.getName());
     }
   }
 
@@ -393,91 +354,40 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
   }
 
   // The following code is used in hosted lobby games by the host for player mini-banning and mini-muting
-  private final List<String> m_miniBannedUsernames = new ArrayList<String>();
+  private final ConcurrentHashMap<String, Long> m_miniBannedUsernames = new ConcurrentHashMap<String, Long>();
 
   @Override
   public boolean IsUsernameMiniBanned(final String username) {
-    synchronized (m_cachedListLock) {
-      return m_miniBannedUsernames.contains(username);
-    }
+    return isLive(m_miniBannedUsernames, username);
   }
 
   @Override
   public void NotifyUsernameMiniBanningOfPlayer(final String username, final Date expires) {
-    synchronized (m_cachedListLock) {
-      if (!m_miniBannedUsernames.contains(username)) {
-        m_miniBannedUsernames.add(username);
-      }
-      if (expires != null) {
-        final Timer unbanUsernameTimer = new Timer("Username unban timer");
-        unbanUsernameTimer.schedule(new TimerTask() {
-          @Override
-          public void run() {
-            synchronized (m_cachedListLock) {
-              m_miniBannedUsernames.remove(username);
-            }
-          }
-        }, new Date(expires.getTime()));
-      }
-    }
+    m_miniBannedUsernames.put(username, getExpiry(expires));
   }
 
-  private final List<String> m_miniBannedIpAddresses = new ArrayList<String>();
+  private final ConcurrentHashMap<String, Long> m_miniBannedIpAddresses = new ConcurrentHashMap<String, Long>();
 
   @Override
   public boolean IsIpMiniBanned(final String ip) {
-    synchronized (m_cachedListLock) {
-      return m_miniBannedIpAddresses.contains(ip);
-    }
+    return isLive(m_miniBannedIpAddresses, ip);
   }
 
   @Override
   public void NotifyIPMiniBanningOfPlayer(final String ip, final Date expires) {
-    synchronized (m_cachedListLock) {
-      if (!m_miniBannedIpAddresses.contains(ip)) {
-        m_miniBannedIpAddresses.add(ip);
-      }
-      if (expires != null) {
-        final Timer unbanIpTimer = new Timer("IP unban timer");
-        unbanIpTimer.schedule(new TimerTask() {
-          @Override
-          public void run() {
-            synchronized (m_cachedListLock) {
-              m_miniBannedIpAddresses.remove(ip);
-            }
-          }
-        }, new Date(expires.getTime()));
-      }
-    }
+    m_miniBannedIpAddresses.put(ip, getExpiry(expires));
   }
 
-  private final List<String> m_miniBannedMacAddresses = new ArrayList<String>();
+  private final ConcurrentHashMap<String, Long> m_miniBannedMacAddresses = new ConcurrentHashMap<String, Long>();
 
   @Override
   public boolean IsMacMiniBanned(final String mac) {
-    synchronized (m_cachedListLock) {
-      return m_miniBannedMacAddresses.contains(mac);
-    }
+    return isLive(m_miniBannedMacAddresses, mac);
   }
 
   @Override
   public void NotifyMacMiniBanningOfPlayer(final String mac, final Date expires) {
-    synchronized (m_cachedListLock) {
-      if (!m_miniBannedMacAddresses.contains(mac)) {
-        m_miniBannedMacAddresses.add(mac);
-      }
-      if (expires != null) {
-        final Timer unbanMacTimer = new Timer("Mac unban timer");
-        unbanMacTimer.schedule(new TimerTask() {
-          @Override
-          public void run() {
-            synchronized (m_cachedListLock) {
-              m_miniBannedMacAddresses.remove(mac);
-            }
-          }
-        }, new Date(expires.getTime()));
-      }
-    }
+    m_miniBannedMacAddresses.put(mac, getExpiry(expires));
   }
 
   private void forward(final MessageHeader msg) {
@@ -500,11 +410,9 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
     if (logger.isLoggable(Level.FINEST)) {
       logger.log(Level.FINEST, "broadcasting to" + nodes);
     }
-    for (final SocketChannel channel : nodes) {
-      if (channel != fromChannel) {
-        nioSocket.send(channel, msg);
-      }
-    }
+    nodes.remove(fromChannel);
+    // serialized once, however many nodes there are
+    nioSocket.broadcast(nodes, msg);
   }
 
   private boolean isNameTaken(final String nodeName) {
@@ -662,40 +570,6 @@ public class ServerMessenger implements IServerMessenger, NIOSocketListener {
     }
   }
 
-  private TimerTask GetUsernameUnmuteTask(final String username) {
-    return createUnmuteTimerTask(
-        () -> (isLobby() && new MutedUsernameController().getUsernameUnmuteTime(username) == -1) || (isGame()),
-        () -> m_liveMutedUsernames.remove(username)
-    );
-  }
-
-  private TimerTask createUnmuteTimerTask(final Supplier<Boolean> runCondition, final Runnable action) {
-    return new TimerTask() {
-      @Override
-      public void run() {
-        if (runCondition.get()) {
-          synchronized (m_cachedListLock) {
-            action.run();
-          }
-        }
-      }
-    };
-  }
-
-  private TimerTask GetIpUnmuteTask(final String ip) {
-    return createUnmuteTimerTask(
-        () -> (isLobby() && new MutedIpController().getIpUnmuteTime(ip) == -1) || (isGame()),
-        () -> m_liveMutedIpAddresses.remove(ip)
-    );
-  }
-
-  private TimerTask GetMacUnmuteTask(final String mac) {
-    return createUnmuteTimerTask(
-        () -> (isLobby() && new MutedMacController().getMacUnmuteTime(mac) == -1) || (isGame()),
-        () -> m_liveMutedMacAddresses.remove(mac)
-    );
-  }
-
   @Override
   public boolean isServer() {
     return true;
@@ -0,0 +1,85 @@
+package games.strategy.net.nio;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of direct byte buffers for reading packets, so that reading a message does not allocate new buffers.
+ * <p>
+ * Buffers come in a few sizes, each twice as big as the last. A request is served from the smallest size that fits,
+ * and requests bigger than the biggest size get a plain heap buffer that is never pooled. Only a limited number of
+ * buffers of each size are kept, so a burst of traffic does not pin its direct memory forever.
+ * <p>
+ * Buffers may be acquired and released from different threads.
+ */
+class ByteBufferPool {
+  static final int SMALLEST_SIZE = 512;
+  static final int SIZE_CLASSES = 8;
+  static final int LARGEST_SIZE = SMALLEST_SIZE << (SIZE_CLASSES - 1);
+  private static final int MAX_POOLED_PER_SIZE = 32;
+  @SuppressWarnings("unchecked")
+  private final ConcurrentLinkedQueue<ByteBuffer>[] m_pools = new ConcurrentLinkedQueue[SIZE_CLASSES];
+  private final AtomicInteger[] m_pooledCounts = new AtomicInteger[SIZE_CLASSES];
+
+  ByteBufferPool() {
+    for (int i = 0; i < SIZE_CLASSES; i++) {
+      m_pools[i] = new ConcurrentLinkedQueue<ByteBuffer>();
+      m_pooledCounts[i] = new AtomicInteger();
+    }
+  }
+
+  /**
+   * Returns a buffer with its position at 0 and its limit at the given size.
+   */
+  ByteBuffer acquire(final int size) {
+    if (size > LARGEST_SIZE) {
+      return ByteBuffer.allocate(size);
+    }
+    final int sizeClass = getSizeClass(size);
+    ByteBuffer buffer = m_pools[sizeClass].poll();
+    if (buffer == null) {
+      buffer = ByteBuffer.allocateDirect(SMALLEST_SIZE << sizeClass);
+    } else {
+      m_pooledCounts[sizeClass].decrementAndGet();
+    }
+    buffer.clear();
+    buffer.limit(size);
+    return buffer;
+  }
+
+  /**
+   * Gives a buffer back to the pool. The buffer must not be used again by the caller.
+   */
+  void release(final ByteBuffer buffer) {
+    if (buffer == null || !buffer.isDirect() || buffer.capacity() > LARGEST_SIZE) {
+      return;
+    }
+    final int sizeClass = getSizeClass(buffer.capacity());
+    if ((SMALLEST_SIZE << sizeClass) != buffer.capacity()) {
+      // not one of ours
+      return;
+    }
+    if (m_pooledCounts[sizeClass].incrementAndGet() > MAX_POOLED_PER_SIZE) {
+      m_pooledCounts[sizeClass].decrementAndGet();
+      return;
+    }
+    m_pools[sizeClass].offer(buffer);
+  }
+
+  int getPooledCount() {
+    int count = 0;
+    for (final AtomicInteger pooledCount : m_pooledCounts) {
+      count += pooledCount.get();
+    }
+    return count;
+  }
+
+  private static int getSizeClass(final int size) {
+    int sizeClass = 0;
+    while ((SMALLEST_SIZE << sizeClass) < size) {
+      sizeClass++;
+    }
+    return sizeClass;
+  }
+}
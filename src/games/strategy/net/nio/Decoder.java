@@ -1,6 +1,5 @@
 package games.strategy.net.nio;
 
-import java.io.ByteArrayInputStream;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -8,6 +7,15 @@ import java.io.Serializable;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,7 +31,12 @@ import games.strategy.net.Node;
 import games.strategy.net.nio.QuarantineConversation.ACTION;
 
 /**
- * A thread to Decode messages from a reader.
+ * Decodes messages from a reader.
+ * <p>
+ * Packets are deserialized by a pool of worker threads, so one big message does not hold up the messages from every
+ * other channel. The packets from one channel are always decoded one at a time, in the order they were read. Decoded
+ * messages are then handed on by a single delivery thread, in the order they were decoded, so listeners see every
+ * message from a channel in order, and never see two messages at once.
  */
 public class Decoder {
   private static final Logger logger = Logger.getLogger(Decoder.class.getName());
@@ -38,7 +51,17 @@ public class Decoder {
    */
   private final ConcurrentHashMap<SocketChannel, QuarantineConversation> quarantine =
       new ConcurrentHashMap<SocketChannel, QuarantineConversation>();
+  // the packets waiting to be decoded, for each channel
+  private final ConcurrentHashMap<SocketChannel, ChannelQueue> channelQueues =
+      new ConcurrentHashMap<SocketChannel, ChannelQueue>();
+  private final LinkedBlockingQueue<DecodedPacket> decoded = new LinkedBlockingQueue<DecodedPacket>();
+  private final ExecutorService workers;
   private final Thread thread;
+  private final Thread deliveryThread;
+  // metrics
+  private final AtomicInteger pendingPackets = new AtomicInteger();
+  private final AtomicLong decodedPackets = new AtomicLong();
+  private final AtomicLong decodeNanos = new AtomicLong();
 
   public Decoder(final NIOSocket nioSocket, final NIOReader reader, final IErrorReporter reporter,
       final IObjectStreamFactory objectStreamFactory, final String threadSuffix) {
@@ -46,18 +69,53 @@ public class Decoder {
     errorReporter = reporter;
     this.objectStreamFactory = objectStreamFactory;
     this.nioSocket = nioSocket;
+    final int workerCount = Math.max(2, Runtime.getRuntime().availableProcessors());
+    workers = Executors.newFixedThreadPool(workerCount, new ThreadFactory() {
+      private final AtomicInteger count = new AtomicInteger();
+
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread t = new Thread(r, "Decoder worker " + count.incrementAndGet() + " -" + threadSuffix);
+        t.setDaemon(true);
+        return t;
+      }
+    });
     thread = new Thread(new Runnable() {
       @Override
       public void run() {
         loop();
       }
     }, "Decoder -" + threadSuffix);
+    deliveryThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        deliveryLoop();
+      }
+    }, "Decoder delivery -" + threadSuffix);
     thread.start();
+    deliveryThread.start();
   }
 
   public void shutDown() {
     running = false;
     thread.interrupt();
+    deliveryThread.interrupt();
+    workers.shutdownNow();
+  }
+
+  /**
+   * The number of packets that have been read, but not yet decoded.
+   */
+  public int getPendingPacketCount() {
+    return pendingPackets.get();
+  }
+
+  /**
+   * The average time taken to deserialize a packet, in milliseconds.
+   */
+  public double getAverageDecodeMillis() {
+    final long count = decodedPackets.get();
+    return count == 0 ? 0 : decodeNanos.get() / (count * 1000000.0);
   }
 
   private void loop() {
@@ -69,53 +127,133 @@ public class Decoder {
         } catch (final InterruptedException e) {
           continue;
         }
-        if (data == null || !running) {
+        if (data == null) {
+          continue;
+        }
+        // a packet read just before its channel closed, whose queue closed(...) may already have removed
+        if (!running || !data.getChannel().isOpen()) {
+          data.release();
           continue;
         }
         if (logger.isLoggable(Level.FINEST)) {
-          logger.finest("Decoding packet:" + data);
+          logger.finest("Queueing packet:" + data + " pending:" + pendingPackets.get());
         }
-        final ByteArrayInputStream stream = new ByteArrayInputStream(data.getData());
+        pendingPackets.incrementAndGet();
+        getChannelQueue(data.getChannel()).add(data);
+      } catch (final Exception e) {
+        // catch unhandles exceptions to that the decoder
+        // thread doesnt die
+        logger.log(Level.WARNING, "error in decoder", e);
+      }
+    }
+  }
+
+  private ChannelQueue getChannelQueue(final SocketChannel channel) {
+    ChannelQueue queue = channelQueues.get(channel);
+    if (queue == null) {
+      final ChannelQueue newQueue = new ChannelQueue(channel);
+      queue = channelQueues.putIfAbsent(channel, newQueue);
+      if (queue == null) {
+        queue = newQueue;
+      }
+    }
+    return queue;
+  }
+
+  /**
+   * Runs on a worker thread.
+   */
+  private void decode(final SocketReadData data) {
+    pendingPackets.decrementAndGet();
+    if (!running) {
+      data.release();
+      return;
+    }
+    if (logger.isLoggable(Level.FINEST)) {
+      logger.finest("Decoding packet:" + data);
+    }
+    final long start = System.nanoTime();
+    DecodedPacket packet;
+    try {
+      // read straight from the pooled buffer, and give it back as soon as the message is decoded
+      packet = readPacket(data, objectStreamFactory.create(new ByteBufferInputStream(data.getContent())));
+    } catch (final Exception e) {
+      packet = new DecodedPacket(data, e);
+    } finally {
+      data.release();
+    }
+    final long nanos = System.nanoTime() - start;
+    decodedPackets.incrementAndGet();
+    decodeNanos.addAndGet(nanos);
+    if (logger.isLoggable(Level.FINER)) {
+      logger.log(Level.FINER, "decoded packet:" + data + " in:" + (nanos / 1000000) + "ms average:"
+          + getAverageDecodeMillis() + "ms pending:" + pendingPackets.get());
+    }
+    decoded.offer(packet);
+  }
+
+  private void deliveryLoop() {
+    while (running) {
+      try {
+        DecodedPacket packet;
         try {
-          final MessageHeader header = readMessageHeader(data.getChannel(), objectStreamFactory.create(stream));
-          if (logger.isLoggable(Level.FINEST)) {
-            logger.log(Level.FINEST, "header decoded:" + header);
-          }
-          // make sure we are still open
-          final Socket s = data.getChannel().socket();
-          if (!running || s == null || s.isInputShutdown()) {
-            continue;
-          }
-          final QuarantineConversation converstation = quarantine.get(data.getChannel());
-          if (converstation != null) {
-            sendQuarantine(data.getChannel(), converstation, header);
-          } else {
-            if (nioSocket.getLocalNode() == null) {
-              throw new IllegalStateException("we are writing messages, but no local node");
-            }
-            if (header.getFrom() == null) {
-              throw new IllegalArgumentException("Null from:" + header);
-            }
-            if (logger.isLoggable(Level.FINER)) {
-              logger.log(Level.FINER, "decoded  msg:" + header.getMessage() + " size:" + data.size());
-            }
-            nioSocket.messageReceived(header, data.getChannel());
-          }
-        } catch (final Exception ioe) {
-          // we are reading from memory here
-          // there should be no network errors, something
-          // is odd
-          logger.log(Level.SEVERE, "error reading object", ioe);
-          errorReporter.error(data.getChannel(), ioe);
+          packet = decoded.take();
+        } catch (final InterruptedException e) {
+          continue;
+        }
+        if (!running) {
+          continue;
         }
+        deliver(packet);
       } catch (final Exception e) {
-        // catch unhandles exceptions to that the decoder
+        // catch unhandles exceptions to that the delivery
         // thread doesnt die
         logger.log(Level.WARNING, "error in decoder", e);
       }
     }
   }
 
+  private void deliver(final DecodedPacket packet) {
+    final SocketChannel channel = packet.data.getChannel();
+    try {
+      if (packet.error != null) {
+        throw packet.error;
+      }
+      // the nodes are only looked up now, as earlier messages from this channel may be what tells us who they are
+      final MessageHeader header = new MessageHeader(packet.toLocalNode ? nioSocket.getLocalNode() : packet.to,
+          packet.fromRemoteNode ? nioSocket.getRemoteNode(channel) : packet.from, packet.message);
+      if (logger.isLoggable(Level.FINEST)) {
+        logger.log(Level.FINEST, "header decoded:" + header);
+      }
+      // make sure we are still open
+      final Socket s = channel.socket();
+      if (!running || s == null || s.isInputShutdown()) {
+        return;
+      }
+      final QuarantineConversation converstation = quarantine.get(channel);
+      if (converstation != null) {
+        sendQuarantine(channel, converstation, header);
+      } else {
+        if (nioSocket.getLocalNode() == null) {
+          throw new IllegalStateException("we are writing messages, but no local node");
+        }
+        if (header.getFrom() == null) {
+          throw new IllegalArgumentException("Null from:" + header);
+        }
+        if (logger.isLoggable(Level.FINER)) {
+          logger.log(Level.FINER, "decoded  msg:" + header.getMessage() + " size:" + packet.data.size());
+        }
+        nioSocket.messageReceived(header, channel);
+      }
+    } catch (final Exception ioe) {
+      // we are reading from memory here
+      // there should be no network errors, something
+      // is odd
+      logger.log(Level.SEVERE, "error reading object", ioe);
+      errorReporter.error(channel, ioe);
+    }
+  }
+
   private void sendQuarantine(final SocketChannel channel, final QuarantineConversation conversation,
       final MessageHeader header) {
     final ACTION a = conversation.message(header.getMessage());
@@ -135,41 +273,39 @@ public class Decoder {
     }
   }
 
-  private MessageHeader readMessageHeader(final SocketChannel channel, final ObjectInputStream objectInput)
+  private DecodedPacket readPacket(final SocketReadData data, final ObjectInputStream objectInput)
       throws IOException, ClassNotFoundException {
-    INode to;
+    final DecodedPacket packet = new DecodedPacket(data, null);
     if (objectInput.read() == 1) {
-      to = null;
+      packet.to = null;
     } else {
       if (objectInput.read() == 1) {
         // this may be null if we
         // have not yet fully joined the network
-        to = nioSocket.getLocalNode();
+        packet.toLocalNode = true;
       } else {
-        to = new Node();
-        ((Node) to).readExternal(objectInput);
+        packet.to = new Node();
+        ((Node) packet.to).readExternal(objectInput);
       }
     }
-    INode from;
     final int readMark = objectInput.read();
     if (readMark == 1) {
-      from = nioSocket.getRemoteNode(channel);
+      packet.fromRemoteNode = true;
     } else if (readMark == 2) {
-      from = null;
+      packet.from = null;
     } else {
-      from = new Node();
-      ((Node) from).readExternal(objectInput);
+      packet.from = new Node();
+      ((Node) packet.from).readExternal(objectInput);
     }
-    Serializable message;
     final byte type = (byte) objectInput.read();
     if (type != Byte.MAX_VALUE) {
       final Externalizable template = getTemplate(type);
       template.readExternal(objectInput);
-      message = template;
+      packet.message = template;
     } else {
-      message = (Serializable) objectInput.readObject();
+      packet.message = (Serializable) objectInput.readObject();
     }
-    return new MessageHeader(to, from, message);
+    return packet;
   }
 
   private static Externalizable getTemplate(final byte type) {
@@ -212,10 +348,74 @@ public class Decoder {
   }
 
   public void closed(final SocketChannel channel) {
+    channelQueues.remove(channel);
     // remove if it exists
     final QuarantineConversation conversation = quarantine.remove(channel);
     if (conversation != null) {
       conversation.close();
     }
   }
+
+  /**
+   * The packets from one channel that are waiting to be decoded. At most one worker decodes them at a time.
+   */
+  private final class ChannelQueue implements Runnable {
+    private final SocketChannel channel;
+    private final ConcurrentLinkedQueue<SocketReadData> packets = new ConcurrentLinkedQueue<SocketReadData>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    ChannelQueue(final SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    void add(final SocketReadData data) {
+      packets.add(data);
+      schedule();
+    }
+
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        try {
+          workers.execute(this);
+        } catch (final RejectedExecutionException e) {
+          // we are shutting down
+          scheduled.set(false);
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      SocketReadData data;
+      while ((data = packets.poll()) != null) {
+        decode(data);
+      }
+      scheduled.set(false);
+      // a packet may have been added after we last looked, but before we said we were done
+      if (!packets.isEmpty()) {
+        schedule();
+      } else if (!channel.isOpen()) {
+        // in case this queue was made after closed(...) removed the one before it
+        channelQueues.remove(channel, this);
+      }
+    }
+  }
+
+  /**
+   * A packet that has been deserialized, but not yet delivered.
+   */
+  private static final class DecodedPacket {
+    private final SocketReadData data;
+    private final Exception error;
+    private INode to;
+    private boolean toLocalNode;
+    private INode from;
+    private boolean fromRemoteNode;
+    private Serializable message;
+
+    DecodedPacket(final SocketReadData data, final Exception error) {
+      this.data = data;
+      this.error = error;
+    }
+  }
 }
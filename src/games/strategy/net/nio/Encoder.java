@@ -3,7 +3,9 @@ package games.strategy.net.nio;
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -53,6 +55,43 @@ public class Encoder {
     m_writer.enque(data, to);
   }
 
+  /**
+   * Encodes a broadcast once, and sends the same bytes to every channel.
+   * A broadcast has no destination node, so nothing in its encoding depends on the channel it is written to.
+   */
+  public void writeBroadcast(final Collection<SocketChannel> to, final MessageHeader header) {
+    if (s_logger.isLoggable(Level.FINEST)) {
+      s_logger.log(Level.FINEST, "Encoding broadcast:" + header + " to:" + to);
+    }
+    if (header.getFrom() == null) {
+      throw new IllegalArgumentException("No from node");
+    }
+    if (header.getFor() != null) {
+      throw new IllegalArgumentException("Not a broadcast:" + header);
+    }
+    if (to.isEmpty()) {
+      return;
+    }
+    final ByteArrayOutputStream2 sink = new ByteArrayOutputStream2(512);
+    final ByteBuffer content;
+    try {
+      write(header, m_objectStreamFactory.create(sink), null);
+      content = ByteBuffer.wrap(sink.getBuffer(), 0, sink.size()).asReadOnlyBuffer();
+    } catch (final Exception e) {
+      // we arent doing any io, just writing in memory
+      // so something is very wrong
+      s_logger.log(Level.SEVERE, "Error writing object:" + header, e);
+      return;
+    }
+    if (s_logger.isLoggable(Level.FINER)) {
+      s_logger.log(Level.FINER,
+          "encoded  broadcast:" + header.getMessage() + " size:" + content.remaining() + " channels:" + to.size());
+    }
+    for (final SocketChannel channel : to) {
+      m_writer.enque(new SocketWriteData(content), channel);
+    }
+  }
+
   private void write(final MessageHeader header, final ObjectOutputStream out, final SocketChannel remote)
       throws IOException {
     if (header.getFrom() == null) {
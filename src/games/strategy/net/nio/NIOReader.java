@@ -29,6 +29,8 @@ public class NIOReader {
   private volatile boolean running = true;
   private final Map<SocketChannel, SocketReadData> reading = new ConcurrentHashMap<SocketChannel, SocketReadData>();
   private final IErrorReporter errorReporter;
+  // packets are read into pooled buffers, which the decoder gives back once they are decoded
+  private final ByteBufferPool bufferPool = new ByteBufferPool();
   private final Selector selector;
   private final Object socketsToAddMutex = new Object();
   private final List<SocketChannel> socketsToAdd = new ArrayList<SocketChannel>();
@@ -166,7 +168,7 @@ public class NIOReader {
     if (reading.containsKey(channel)) {
       return reading.get(channel);
     }
-    final SocketReadData packet = new SocketReadData(channel);
+    final SocketReadData packet = new SocketReadData(channel, bufferPool);
     reading.put(channel, packet);
     return packet;
   }
@@ -176,6 +178,7 @@ public class NIOReader {
   }
 
   public void closed(final SocketChannel channel) {
+    // the reader thread may still be filling this packet, so leave its buffers to the garbage collector
     reading.remove(channel);
   }
 }
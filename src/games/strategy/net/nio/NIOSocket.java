@@ -3,6 +3,7 @@ package games.strategy.net.nio;
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.channels.SocketChannel;
+import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -62,6 +63,19 @@ public class NIOSocket implements IErrorReporter {
     m_encoder.write(to, header);
   }
 
+  /**
+   * Send the same broadcast to every given channel, serializing it only once.
+   */
+  public void broadcast(final Collection<SocketChannel> to, final MessageHeader header) {
+    if (to == null) {
+      throw new IllegalArgumentException("to cant be null!");
+    }
+    if (header == null) {
+      throw new IllegalArgumentException("header cant be null");
+    }
+    m_encoder.writeBroadcast(to, header);
+  }
+
   /**
    * Add this channel.
    * The channel will either be unquarantined, or an error will be reported
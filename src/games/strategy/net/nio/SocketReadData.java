@@ -29,11 +29,13 @@ class SocketReadData {
   // we read into here after knowing out size
   private ByteBuffer contentBuffer;
   private final SocketChannel channel;
+  private final ByteBufferPool pool;
   private final int number = counter.incrementAndGet();
   private int readCalls;
 
-  public SocketReadData(final SocketChannel channel) {
+  public SocketReadData(final SocketChannel channel, final ByteBufferPool pool) {
     this.channel = channel;
+    this.pool = pool;
   }
 
   /**
@@ -48,7 +50,7 @@ class SocketReadData {
       // our first read
       // find out how big this packet is
       if (sizeBuffer == null) {
-        sizeBuffer = ByteBuffer.allocate(4);
+        sizeBuffer = pool.acquire(4);
       }
       final int size = channel.read(sizeBuffer);
       if (logger.isLoggable(Level.FINEST)) {
@@ -69,8 +71,9 @@ class SocketReadData {
         if (targetSize <= 0 || targetSize > MAX_MESSAGE_SIZE) {
           throw new IOException("Invalid triplea packet size:" + targetSize);
         }
-        contentBuffer = ByteBuffer.allocate(targetSize);
+        pool.release(sizeBuffer);
         sizeBuffer = null;
+        contentBuffer = pool.acquire(targetSize);
       } else {
         // we ddnt read all 4 bytes, return
         return false;
@@ -92,15 +95,22 @@ class SocketReadData {
   }
 
   /**
-   * Get the data as a byte[].
-   * This method can only be called once.
+   * Get the data, which stays in the pooled buffer it was read into.
+   * This method can only be called once, and release() must be called once the data has been decoded.
    */
-  public byte[] getData() {
-    final byte[] rVal = new byte[contentBuffer.capacity()];
+  public ByteBuffer getContent() {
     contentBuffer.flip();
-    contentBuffer.get(rVal);
+    return contentBuffer;
+  }
+
+  /**
+   * Give our buffers back to the pool. The data can not be used after this.
+   */
+  public void release() {
+    pool.release(sizeBuffer);
+    sizeBuffer = null;
+    pool.release(contentBuffer);
     contentBuffer = null;
-    return rVal;
   }
 
   public int size() {
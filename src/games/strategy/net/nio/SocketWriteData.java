@@ -19,21 +19,40 @@ public class SocketWriteData {
   private static final AtomicInteger s_counter = new AtomicInteger();
   private final ByteBuffer m_size;
   private final ByteBuffer m_content;
+  // the size and content, written together with one gathering write
+  private final ByteBuffer[] m_buffers;
   private final int m_number = s_counter.incrementAndGet();
   // how many times we called write before we finished writing ourselves
   private int m_writeCalls = 0;
 
-  public SocketWriteData(final byte[] data, int count) {
-    m_content = ByteBuffer.allocate(count);
-    m_content.put(data, 0, count);
-    m_size = ByteBuffer.allocate(4);
+  /**
+   * Writes the first count bytes of the given array without copying them. The array must not change afterwards.
+   */
+  public SocketWriteData(final byte[] data, final int count) {
+    m_size = createSize(count);
+    m_content = ByteBuffer.wrap(data, 0, count).slice();
+    m_buffers = new ByteBuffer[] {m_size, m_content};
+  }
+
+  /**
+   * Writes the remaining bytes of the given buffer without copying them, so that the same message can be sent to many
+   * channels. The buffer itself is not changed, but its content must not change until every channel has written it.
+   */
+  SocketWriteData(final ByteBuffer sharedContent) {
+    m_size = createSize(sharedContent.remaining());
+    // our own position and limit over the shared bytes
+    m_content = sharedContent.slice();
+    m_buffers = new ByteBuffer[] {m_size, m_content};
+  }
+
+  private static ByteBuffer createSize(final int count) {
     if (count < 0 || count > SocketReadData.MAX_MESSAGE_SIZE) {
       throw new IllegalStateException("Invalid message size:" + count);
     }
-    count = count ^ SocketReadData.MAGIC;
-    m_size.putInt(count);
-    m_size.flip();
-    m_content.flip();
+    final ByteBuffer size = ByteBuffer.allocate(4);
+    size.putInt(count ^ SocketReadData.MAGIC);
+    size.flip();
+    return size;
   }
 
   public int size() {
@@ -49,27 +68,14 @@ public class SocketWriteData {
    */
   public boolean write(final SocketChannel channel) throws IOException {
     m_writeCalls++;
-    if (m_size.hasRemaining()) {
-      final int count = channel.write(m_size);
-      if (count == -1) {
-        throw new IOException("triplea: end of stream detected");
-      }
-      if (s_logger.isLoggable(Level.FINEST)) {
-        s_logger.finest("wrote size_buffer bytes:" + count);
-      }
-      // we could not write everything
-      if (m_size.hasRemaining()) {
-        return false;
-      }
-    }
-    final int count = channel.write(m_content);
+    final long count = channel.write(m_buffers);
     if (count == -1) {
       throw new IOException("triplea: end of stream detected");
     }
     if (s_logger.isLoggable(Level.FINEST)) {
-      s_logger.finest("wrote content bytes:" + count);
+      s_logger.finest("wrote bytes:" + count);
     }
-    return !m_content.hasRemaining();
+    return !m_size.hasRemaining() && !m_content.hasRemaining();
   }
 
   @Override
@@ -1,6 +1,7 @@
 package games.strategy.triplea;
 
 import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.properties.GameProperties;
 
 /**
  * <p>
@@ -14,107 +15,107 @@ public class Properties implements Constants {
   // itself, then default to
   // false. (ex: "Do not do something", false; instead of "Do something", true;)
   public static int getNeutralCharge(final GameData data) {
-    return data.getProperties().get(NEUTRAL_CHARGE_PROPERTY, 0);
+    return data.getProperties().get(Keys.NEUTRAL_CHARGE_PROPERTY, 0);
   }
 
   public static int getFactoriesPerCountry(final GameData data) {
-    return data.getProperties().get(FACTORIES_PER_COUNTRY_PROPERTY, 1);
+    return data.getProperties().get(Keys.FACTORIES_PER_COUNTRY_PROPERTY, 1);
   }
 
   public static boolean getTwoHitBattleships(final GameData data) {
-    return data.getProperties().get(TWO_HIT_BATTLESHIP_PROPERTY, false);
+    return data.getProperties().get(Keys.TWO_HIT_BATTLESHIP_PROPERTY, false);
   }
 
   public static boolean getWW2V2(final GameData data) {
-    return data.getProperties().get(WW2V2, false);
+    return data.getProperties().get(Keys.WW2V2, false);
   }
 
   public static boolean getPartialAmphibiousRetreat(final GameData data) {
-    return data.getProperties().get(PARTIAL_AMPHIBIOUS_RETREAT, false);
+    return data.getProperties().get(Keys.PARTIAL_AMPHIBIOUS_RETREAT, false);
   }
 
   public static boolean getTotalVictory(final GameData data) {
-    return data.getProperties().get(TOTAL_VICTORY, false);
+    return data.getProperties().get(Keys.TOTAL_VICTORY, false);
   }
 
   public static boolean getHonorableSurrender(final GameData data) {
-    return data.getProperties().get(HONORABLE_SURRENDER, false);
+    return data.getProperties().get(Keys.HONORABLE_SURRENDER, false);
   }
 
   public static boolean getProjectionOfPower(final GameData data) {
-    return data.getProperties().get(PROJECTION_OF_POWER, false);
+    return data.getProperties().get(Keys.PROJECTION_OF_POWER, false);
   }
 
   public static boolean getAllRocketsAttack(final GameData data) {
-    return data.getProperties().get(ALL_ROCKETS_ATTACK, false);
+    return data.getProperties().get(Keys.ALL_ROCKETS_ATTACK, false);
   }
 
   public static boolean getNeutralsImpassable(final GameData data) {
-    return data.getProperties().get(NEUTRALS_ARE_IMPASSABLE, false);
+    return data.getProperties().get(Keys.NEUTRALS_ARE_IMPASSABLE, false);
   }
 
   public static boolean getNeutralsBlitzable(final GameData data) {
-    return data.getProperties().get(NEUTRALS_ARE_BLITZABLE, false);
+    return data.getProperties().get(Keys.NEUTRALS_ARE_BLITZABLE, false);
   }
 
   public static boolean getRocketsCanFlyOverImpassables(final GameData data) {
-    return data.getProperties().get(ROCKETS_CAN_FLY_OVER_IMPASSABLES, false);
+    return data.getProperties().get(Keys.ROCKETS_CAN_FLY_OVER_IMPASSABLES, false);
   }
 
   /*
    * Pacific Theater
    */
   public static boolean getPacificTheater(final GameData data) {
-    return data.getProperties().get(PACIFIC_THEATER, false);
+    return data.getProperties().get(Keys.PACIFIC_THEATER, false);
   }
 
   /*
    * World War 2 Version 3
    */
   public static boolean getWW2V3(final GameData data) {
-    return data.getProperties().get(WW2V3, false);
+    return data.getProperties().get(Keys.WW2V3, false);
   }
 
   /*
    * Economic Victory Condition
    */
   public static boolean getEconomicVictory(final GameData data) {
-    return data.getProperties().get(ECONOMIC_VICTORY, false);
+    return data.getProperties().get(Keys.ECONOMIC_VICTORY, false);
   }
 
   /*
    * Triggered Victory Condition
    */
   public static boolean getTriggeredVictory(final GameData data) {
-    return data.getProperties().get(TRIGGERED_VICTORY, false);
+    return data.getProperties().get(Keys.TRIGGERED_VICTORY, false);
   }
 
   /*
    * Restrict the number of units that can be placed at a factory.
    */
   public static boolean getPlacementRestrictedByFactory(final GameData data) {
-    return data.getProperties().get(PLACEMENT_RESTRICTED_BY_FACTORY, false);
+    return data.getProperties().get(Keys.PLACEMENT_RESTRICTED_BY_FACTORY, false);
   }
 
   /*
    * Can the player select the type of technology they are rolling for
    */
   public static boolean getSelectableTechRoll(final GameData data) {
-    return data.getProperties().get(SELECTABLE_TECH_ROLL, false);
+    return data.getProperties().get(Keys.SELECTABLE_TECH_ROLL, false);
   }
 
   /*
    * Can the player select the type of technology they are rolling for
    */
   public static boolean getWW2V3TechModel(final GameData data) {
-    return data.getProperties().get(WW2V3_TECH_MODEL, false);
+    return data.getProperties().get(Keys.WW2V3_TECH_MODEL, false);
   }
 
   /*
    * Use Advanced Technology
    */
   public static boolean getTechDevelopment(final GameData data) {
-    return data.getProperties().get(TECH_DEVELOPMENT, false);
+    return data.getProperties().get(Keys.TECH_DEVELOPMENT, false);
   }
 
   /*
@@ -122,21 +123,21 @@ public class Properties implements Constants {
    * turn
    */
   public static boolean getTransportUnloadRestricted(final GameData data) {
-    return data.getProperties().get(TRANSPORT_UNLOAD_RESTRICTED, false);
+    return data.getProperties().get(Keys.TRANSPORT_UNLOAD_RESTRICTED, false);
   }
 
   /*
    * Are AA casualties chosen randomly
    */
   public static boolean getRandomAACasualties(final GameData data) {
-    return data.getProperties().get(RANDOM_AA_CASUALTIES, false);
+    return data.getProperties().get(Keys.RANDOM_AA_CASUALTIES, false);
   }
 
   /*
    * Are AA casualties chosen randomly
    */
   public static boolean getRollAAIndividually(final GameData data) {
-    return data.getProperties().get(ROLL_AA_INDIVIDUALLY, false);
+    return data.getProperties().get(Keys.ROLL_AA_INDIVIDUALLY, false);
   }
 
   /*
@@ -144,7 +145,7 @@ public class Properties implements Constants {
    * production of territory
    */
   public static boolean getLimitRocketAndSBRDamageToProduction(final GameData data) {
-    return data.getProperties().get(LIMIT_ROCKET_AND_SBR_DAMAGE_TO_PRODUCTION, false);
+    return data.getProperties().get(Keys.LIMIT_ROCKET_AND_SBR_DAMAGE_TO_PRODUCTION, false);
   }
 
   /*
@@ -152,7 +153,7 @@ public class Properties implements Constants {
    * production
    */
   public static boolean getLimitSBRDamagePerTurn(final GameData data) {
-    return data.getProperties().get(LIMIT_SBR_DAMAGE_PER_TURN, false);
+    return data.getProperties().get(Keys.LIMIT_SBR_DAMAGE_PER_TURN, false);
   }
 
   /**
@@ -160,7 +161,7 @@ public class Properties implements Constants {
    * production
    */
   public static boolean getLimitRocketDamagePerTurn(final GameData data) {
-    return data.getProperties().get(LIMIT_ROCKET_DAMAGE_PER_TURN, false);
+    return data.getProperties().get(Keys.LIMIT_ROCKET_DAMAGE_PER_TURN, false);
   }
 
   /**
@@ -168,514 +169,739 @@ public class Properties implements Constants {
    * production
    */
   public static boolean getPUCap(final GameData data) {
-    return data.getProperties().get(PU_CAP, false);
+    return data.getProperties().get(Keys.PU_CAP, false);
   }
 
   /**
    * Reduce Victory Points by Strategic Bombing
    */
   public static boolean getSBRVictoryPoint(final GameData data) {
-    return data.getProperties().get(SBR_VICTORY_POINTS, false);
+    return data.getProperties().get(Keys.SBR_VICTORY_POINTS, false);
   }
 
   /**
    * Allow x rocket attack(s) per defending factory
    */
   public static boolean getRocketAttacksPerFactoryInfinite(final GameData data) {
-    return data.getProperties().get(ROCKET_ATTACKS_PER_FACTORY_INFINITE, false);
+    return data.getProperties().get(Keys.ROCKET_ATTACKS_PER_FACTORY_INFINITE, false);
   }
 
   /**
    * Are allied aircraft dependents of CVs
    */
   public static boolean getAlliedAirIndependent(final GameData data) {
-    return data.getProperties().get(ALLIED_AIR_INDEPENDENT, false);
+    return data.getProperties().get(Keys.ALLIED_AIR_INDEPENDENT, false);
   }
 
   /**
    * Defending subs sneak attack
    */
   public static boolean getDefendingSubsSneakAttack(final GameData data) {
-    return data.getProperties().get(DEFENDING_SUBS_SNEAK_ATTACK, false);
+    return data.getProperties().get(Keys.DEFENDING_SUBS_SNEAK_ATTACK, false);
   }
 
   /**
    * Attacker retreat planes from Amphib assault
    */
   public static boolean getAttackerRetreatPlanes(final GameData data) {
-    return data.getProperties().get(ATTACKER_RETREAT_PLANES, false);
+    return data.getProperties().get(Keys.ATTACKER_RETREAT_PLANES, false);
   }
 
   /**
    * Can surviving air at sea move to land on friendly land/carriers
    */
   public static boolean getSurvivingAirMoveToLand(final GameData data) {
-    return data.getProperties().get(SURVIVING_AIR_MOVE_TO_LAND, false);
+    return data.getProperties().get(Keys.SURVIVING_AIR_MOVE_TO_LAND, false);
   }
 
   /**
    * Naval Bombard casualties restricted from return fire
    */
   public static boolean getNavalBombardCasualtiesReturnFireRestricted(final GameData data) {
-    return data.getProperties().get(NAVAL_BOMBARD_CASUALTIES_RETURN_FIRE_RESTRICTED, false);
+    return data.getProperties().get(Keys.NAVAL_BOMBARD_CASUALTIES_RETURN_FIRE_RESTRICTED, false);
   }
 
   /**
    * Restricted from blitz through territories with factories/AA
    */
   public static boolean getBlitzThroughFactoriesAndAARestricted(final GameData data) {
-    return data.getProperties().get(BLITZ_THROUGH_FACTORIES_AND_AA_RESTRICTED, false);
+    return data.getProperties().get(Keys.BLITZ_THROUGH_FACTORIES_AND_AA_RESTRICTED, false);
   }
 
   /**
    * Can place new units in occupied sea zones
    */
   public static boolean getUnitPlacementInEnemySeas(final GameData data) {
-    return data.getProperties().get(UNIT_PLACEMENT_IN_ENEMY_SEAS, false);
+    return data.getProperties().get(Keys.UNIT_PLACEMENT_IN_ENEMY_SEAS, false);
   }
 
   /**
    * Subs restricted from controlling sea zones
    */
   public static boolean getSubControlSeaZoneRestricted(final GameData data) {
-    return data.getProperties().get(SUB_CONTROL_SEA_ZONE_RESTRICTED, false);
+    return data.getProperties().get(Keys.SUB_CONTROL_SEA_ZONE_RESTRICTED, false);
   }
 
   /*
    * Can Transports control sea zones
    */
   public static boolean getTransportControlSeaZone(final GameData data) {
-    return data.getProperties().get(TRANSPORT_CONTROL_SEA_ZONE, false);
+    return data.getProperties().get(Keys.TRANSPORT_CONTROL_SEA_ZONE, false);
   }
 
   /**
    * Production restricted to 1 unit per X owned territories
    */
   public static boolean getProductionPerXTerritoriesRestricted(final GameData data) {
-    return data.getProperties().get(PRODUCTION_PER_X_TERRITORIES_RESTRICTED, false);
+    return data.getProperties().get(Keys.PRODUCTION_PER_X_TERRITORIES_RESTRICTED, false);
   }
 
   /**
    * Production restricted to 1 unit per owned territory with an PU value
    */
   public static boolean getProductionPerValuedTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(PRODUCTION_PER_VALUED_TERRITORY_RESTRICTED, false);
+    return data.getProperties().get(Keys.PRODUCTION_PER_VALUED_TERRITORY_RESTRICTED, false);
   }
 
   /**
    * Can units be placed in any owned territory
    */
   public static boolean getPlaceInAnyTerritory(final GameData data) {
-    return data.getProperties().get(PLACE_IN_ANY_TERRITORY, false);
+    return data.getProperties().get(Keys.PLACE_IN_ANY_TERRITORY, false);
   }
 
   /**
    * Limit the number of units that can be in a territory
    */
   public static boolean getUnitPlacementPerTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(UNIT_PLACEMENT_PER_TERRITORY_RESTRICTED, false);
+    return data.getProperties().get(Keys.UNIT_PLACEMENT_PER_TERRITORY_RESTRICTED, false);
   }
 
   /**
    * Movement restricted for territories
    */
   public static boolean getMovementByTerritoryRestricted(final GameData data) {
-    return data.getProperties().get(MOVEMENT_BY_TERRITORY_RESTRICTED, false);
+    return data.getProperties().get(Keys.MOVEMENT_BY_TERRITORY_RESTRICTED, false);
   }
 
   /**
    * Transports restricted from being taken as casualties
    */
   public static boolean getTransportCasualtiesRestricted(final GameData data) {
-    return data.getProperties().get(TRANSPORT_CASUALTIES_RESTRICTED, false);
+    return data.getProperties().get(Keys.TRANSPORT_CASUALTIES_RESTRICTED, false);
   }
 
   /**
    * Transports do not restrict movement of other units
    */
   public static boolean getIgnoreTransportInMovement(final GameData data) {
-    return data.getProperties().get(IGNORE_TRANSPORT_IN_MOVEMENT, false);
+    return data.getProperties().get(Keys.IGNORE_TRANSPORT_IN_MOVEMENT, false);
   }
 
   /**
    * Subs do not restrict movement of other units
    */
   public static boolean getIgnoreSubInMovement(final GameData data) {
-    return data.getProperties().get(IGNORE_SUB_IN_MOVEMENT, false);
+    return data.getProperties().get(Keys.IGNORE_SUB_IN_MOVEMENT, false);
   }
 
   public static boolean getUnplacedUnitsLive(final GameData data) {
-    return data.getProperties().get(UNPLACED_UNITS_LIVE, false);
+    return data.getProperties().get(Keys.UNPLACED_UNITS_LIVE, false);
   }
 
   /**
    * Air restricted from attacking subs unless DD present
    */
   public static boolean getAirAttackSubRestricted(final GameData data) {
-    return data.getProperties().get(AIR_ATTACK_SUB_RESTRICTED, false);
+    return data.getProperties().get(Keys.AIR_ATTACK_SUB_RESTRICTED, false);
   }
 
   /**
    * Allows units with zero movement to be selected to be moved
    */
   public static boolean getSelectableZeroMovementUnits(final GameData data) {
-    return data.getProperties().get(SELECTABLE_ZERO_MOVEMENT_UNITS, false);
+    return data.getProperties().get(Keys.SELECTABLE_ZERO_MOVEMENT_UNITS, false);
   }
 
   /**
    * Allows paratroopers to move ground units to friendly territories during non-combat move phase
    */
   public static boolean getParatroopersCanMoveDuringNonCombat(final GameData data) {
-    return data.getProperties().get(PARATROOPERS_CAN_MOVE_DURING_NON_COMBAT, false);
+    return data.getProperties().get(Keys.PARATROOPERS_CAN_MOVE_DURING_NON_COMBAT, false);
   }
 
   public static boolean getSubRetreatBeforeBattle(final GameData data) {
-    return data.getProperties().get(SUB_RETREAT_BEFORE_BATTLE, false);
+    return data.getProperties().get(Keys.SUB_RETREAT_BEFORE_BATTLE, false);
   }
 
   /**
    * Shore Bombard per Ground Unit Restricted
    */
   public static boolean getShoreBombardPerGroundUnitRestricted(final GameData data) {
-    return data.getProperties().get(SHORE_BOMBARD_PER_GROUND_UNIT_RESTRICTED, false);
+    return data.getProperties().get(Keys.SHORE_BOMBARD_PER_GROUND_UNIT_RESTRICTED, false);
   }
 
   /**
    * AA restricted to Attacked Territory Only
    */
   public static boolean getAATerritoryRestricted(final GameData data) {
-    return data.getProperties().get(AA_TERRITORY_RESTRICTED, false);
+    return data.getProperties().get(Keys.AA_TERRITORY_RESTRICTED, false);
   }
 
   public static boolean getMultipleAAPerTerritory(final GameData data) {
-    return data.getProperties().get(MULTIPLE_AA_PER_TERRITORY, false);
+    return data.getProperties().get(Keys.MULTIPLE_AA_PER_TERRITORY, false);
   }
 
   public static boolean getNationalObjectives(final GameData data) {
-    return data.getProperties().get(NATIONAL_OBJECTIVES, false);
+    return data.getProperties().get(Keys.NATIONAL_OBJECTIVES, false);
   }
 
   public static boolean getTriggers(final GameData data) {
-    return data.getProperties().get(TRIGGERS, false);
+    return data.getProperties().get(Keys.TRIGGERS, false);
   }
 
   public static boolean getAlwaysOnAA(final GameData data) {
-    return data.getProperties().get(ALWAYS_ON_AA_PROPERTY, false);
+    return data.getProperties().get(Keys.ALWAYS_ON_AA_PROPERTY, false);
   }
 
   public static boolean getLHTRCarrierProductionRules(final GameData data) {
-    return data.getProperties().get(LHTR_CARRIER_PRODUCTION_RULES, false);
+    return data.getProperties().get(Keys.LHTR_CARRIER_PRODUCTION_RULES, false);
   }
 
   /**
    * Atomic units of the fighter/carrier production rules
    */
   public static boolean getProduceFightersOnCarriers(final GameData data) {
-    return data.getProperties().get(CAN_PRODUCE_FIGHTERS_ON_CARRIERS, false);
+    return data.getProperties().get(Keys.CAN_PRODUCE_FIGHTERS_ON_CARRIERS, false);
   }
 
   public static boolean getProduceNewFightersOnOldCarriers(final GameData data) {
-    return data.getProperties().get(PRODUCE_NEW_FIGHTERS_ON_OLD_CARRIERS, false);
+    return data.getProperties().get(Keys.PRODUCE_NEW_FIGHTERS_ON_OLD_CARRIERS, false);
   }
 
   public static boolean getMoveExistingFightersToNewCarriers(final GameData data) {
-    return data.getProperties().get(MOVE_EXISTING_FIGHTERS_TO_NEW_CARRIERS, false);
+    return data.getProperties().get(Keys.MOVE_EXISTING_FIGHTERS_TO_NEW_CARRIERS, false);
   }
 
   public static boolean getLandExistingFightersOnNewCarriers(final GameData data) {
-    return data.getProperties().get(LAND_EXISTING_FIGHTERS_ON_NEW_CARRIERS, false);
+    return data.getProperties().get(Keys.LAND_EXISTING_FIGHTERS_ON_NEW_CARRIERS, false);
   }
 
   public static int getHeavyBomberDiceRolls(final GameData data) {
-    return data.getProperties().get(HEAVY_BOMBER_DICE_ROLLS, 2);
+    return data.getProperties().get(Keys.HEAVY_BOMBER_DICE_ROLLS, 2);
   }
 
   public static boolean getBattleshipsRepairAtEndOfRound(final GameData data) {
-    return data.getProperties().get(TWO_HIT_BATTLESHIPS_REPAIR_END_OF_TURN, false);
+    return data.getProperties().get(Keys.TWO_HIT_BATTLESHIPS_REPAIR_END_OF_TURN, false);
   }
 
   public static boolean getBattleshipsRepairAtBeginningOfRound(final GameData data) {
-    return data.getProperties().get(TWO_HIT_BATTLESHIPS_REPAIR_BEGINNING_OF_TURN, false);
+    return data.getProperties().get(Keys.TWO_HIT_BATTLESHIPS_REPAIR_BEGINNING_OF_TURN, false);
   }
 
   public static boolean getTwoHitPointUnitsRequireRepairFacilities(final GameData data) {
-    return data.getProperties().get(TWO_HITPOINT_UNITS_REQUIRE_REPAIR_FACILITIES, false);
+    return data.getProperties().get(Keys.TWO_HITPOINT_UNITS_REQUIRE_REPAIR_FACILITIES, false);
   }
 
   public static boolean getChoose_AA_Casualties(final GameData data) {
-    return data.getProperties().get(CHOOSE_AA, false);
+    return data.getProperties().get(Keys.CHOOSE_AA, false);
   }
 
   public static boolean getSubmersible_Subs(final GameData data) {
-    return data.getProperties().get(SUBMERSIBLE_SUBS, false);
+    return data.getProperties().get(Keys.SUBMERSIBLE_SUBS, false);
   }
 
   public static boolean getUse_Destroyers_And_Artillery(final GameData data) {
-    return data.getProperties().get(USE_DESTROYERS_AND_ARTILLERY, false);
+    return data.getProperties().get(Keys.USE_DESTROYERS_AND_ARTILLERY, false);
   }
 
   public static boolean getUse_Shipyards(final GameData data) {
-    return data.getProperties().get(USE_SHIPYARDS, false);
+    return data.getProperties().get(Keys.USE_SHIPYARDS, false);
   }
 
   public static boolean getLow_Luck(final GameData data) {
-    return data.getProperties().get(LOW_LUCK, false);
+    return data.getProperties().get(Keys.LOW_LUCK, false);
   }
 
   public static boolean getLL_AA_ONLY(final GameData data) {
-    return data.getProperties().get(LL_AA_ONLY, false);
+    return data.getProperties().get(Keys.LL_AA_ONLY, false);
   }
 
   public static boolean getLL_TECH_ONLY(final GameData data) {
-    return data.getProperties().get(LL_TECH_ONLY, false);
+    return data.getProperties().get(Keys.LL_TECH_ONLY, false);
   }
 
   public static boolean getLL_DAMAGE_ONLY(final GameData data) {
-    return data.getProperties().get(LL_DAMAGE_ONLY, false);
+    return data.getProperties().get(Keys.LL_DAMAGE_ONLY, false);
   }
 
   public static boolean getKamikaze_Airplanes(final GameData data) {
-    return data.getProperties().get(KAMIKAZE, false);
+    return data.getProperties().get(Keys.KAMIKAZE, false);
   }
 
   public static boolean getLHTR_Heavy_Bombers(final GameData data) {
-    return data.getProperties().get(LHTR_HEAVY_BOMBERS, false);
+    return data.getProperties().get(Keys.LHTR_HEAVY_BOMBERS, false);
   }
 
   public static int getSuper_Sub_Defense_Bonus(final GameData data) {
-    return data.getProperties().get(SUPER_SUB_DEFENSE_BONUS, 0);
+    return data.getProperties().get(Keys.SUPER_SUB_DEFENSE_BONUS, 0);
   }
 
   public static boolean getScramble_Rules_In_Effect(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_RULES_IN_EFFECT, false);
+    return data.getProperties().get(Keys.SCRAMBLE_RULES_IN_EFFECT, false);
   }
 
   public static boolean getScrambled_Units_Return_To_Base(final GameData data) {
-    return data.getProperties().get(SCRAMBLED_UNITS_RETURN_TO_BASE, false);
+    return data.getProperties().get(Keys.SCRAMBLED_UNITS_RETURN_TO_BASE, false);
   }
 
   public static boolean getScramble_To_Sea_Only(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_TO_SEA_ONLY, false);
+    return data.getProperties().get(Keys.SCRAMBLE_TO_SEA_ONLY, false);
   }
 
   public static boolean getScramble_From_Island_Only(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_FROM_ISLAND_ONLY, false);
+    return data.getProperties().get(Keys.SCRAMBLE_FROM_ISLAND_ONLY, false);
   }
 
   public static boolean getScrambleToAnyAmphibiousAssault(final GameData data) {
-    return data.getProperties().get(SCRAMBLE_TO_ANY_AMPHIBIOUS_ASSAULT, false);
+    return data.getProperties().get(Keys.SCRAMBLE_TO_ANY_AMPHIBIOUS_ASSAULT, false);
   }
 
   public static int getPU_Multiplier(final GameData data) {
-    return data.getProperties().get(PU_MULTIPLIER, 1);
+    return data.getProperties().get(Keys.PU_MULTIPLIER, 1);
   }
 
   public static boolean getUnlimitedConstructions(final GameData data) {
-    return data.getProperties().get(UNLIMITED_CONSTRUCTIONS, false);
+    return data.getProperties().get(Keys.UNLIMITED_CONSTRUCTIONS, false);
   }
 
   public static boolean getMoreConstructionsWithoutFactory(final GameData data) {
-    return data.getProperties().get(MORE_CONSTRUCTIONS_WITHOUT_FACTORY, false);
+    return data.getProperties().get(Keys.MORE_CONSTRUCTIONS_WITHOUT_FACTORY, false);
   }
 
   public static boolean getMoreConstructionsWithFactory(final GameData data) {
-    return data.getProperties().get(MORE_CONSTRUCTIONS_WITH_FACTORY, false);
+    return data.getProperties().get(Keys.MORE_CONSTRUCTIONS_WITH_FACTORY, false);
   }
 
   public static boolean getUnitPlacementRestrictions(final GameData data) {
-    return data.getProperties().get(UNIT_PLACEMENT_RESTRICTIONS, false);
+    return data.getProperties().get(Keys.UNIT_PLACEMENT_RESTRICTIONS, false);
   }
 
   public static boolean getGiveUnitsByTerritory(final GameData data) {
-    return data.getProperties().get(GIVE_UNITS_BY_TERRITORY, false);
+    return data.getProperties().get(Keys.GIVE_UNITS_BY_TERRITORY, false);
   }
 
   public static boolean getUnitsCanBeDestroyedInsteadOfCaptured(final GameData data) {
-    return data.getProperties().get(UNITS_CAN_BE_DESTROYED_INSTEAD_OF_CAPTURED, false);
+    return data.getProperties().get(Keys.UNITS_CAN_BE_DESTROYED_INSTEAD_OF_CAPTURED, false);
   }
 
   public static boolean getSuicideAndMunitionCasualtiesRestricted(final GameData data) {
-    return data.getProperties().get(SUICIDE_AND_MUNITION_CASUALTIES_RESTRICTED, false);
+    return data.getProperties().get(Keys.SUICIDE_AND_MUNITION_CASUALTIES_RESTRICTED, false);
   }
 
   public static boolean getDefendingSuicideAndMunitionUnitsDoNotFire(final GameData data) {
-    return data.getProperties().get(DEFENDING_SUICIDE_AND_MUNITION_UNITS_DO_NOT_FIRE, false);
+    return data.getProperties().get(Keys.DEFENDING_SUICIDE_AND_MUNITION_UNITS_DO_NOT_FIRE, false);
   }
 
   public static boolean getNavalUnitsMayNotNonCombatMoveIntoControlledSeaZones(final GameData data) {
-    return data.getProperties().get(NAVAL_UNITS_MAY_NOT_NONCOMBAT_MOVE_INTO_CONTROLLED_SEA_ZONES, false);
+    return data.getProperties().get(Keys.NAVAL_UNITS_MAY_NOT_NONCOMBAT_MOVE_INTO_CONTROLLED_SEA_ZONES, false);
   }
 
   public static boolean getUnitsMayGiveBonusMovement(final GameData data) {
-    return data.getProperties().get(UNITS_MAY_GIVE_BONUS_MOVEMENT, false);
+    return data.getProperties().get(Keys.UNITS_MAY_GIVE_BONUS_MOVEMENT, false);
   }
 
   public static boolean getCaptureUnitsOnEnteringTerritory(final GameData data) {
-    return data.getProperties().get(CAPTURE_UNITS_ON_ENTERING_TERRITORY, false);
+    return data.getProperties().get(Keys.CAPTURE_UNITS_ON_ENTERING_TERRITORY, false);
   }
 
   public static boolean getOnEnteringUnitsDestroyedInsteadOfCaptured(final GameData data) {
-    return data.getProperties().get(DESTROY_UNITS_ON_ENTERING_TERRITORY, false);
+    return data.getProperties().get(Keys.DESTROY_UNITS_ON_ENTERING_TERRITORY, false);
   }
 
   public static boolean getDamageFromBombingDoneToUnitsInsteadOfTerritories(final GameData data) {
-    return data.getProperties().get(DAMAGE_FROM_BOMBING_DONE_TO_UNITS_INSTEAD_OF_TERRITORIES,
-        data.getProperties().get(SBR_AFFECTS_UNIT_PRODUCTION, false));
+    return data.getProperties().get(Keys.DAMAGE_FROM_BOMBING_DONE_TO_UNITS_INSTEAD_OF_TERRITORIES,
+        data.getProperties().get(Keys.SBR_AFFECTS_UNIT_PRODUCTION, false));
   }
 
   public static boolean getNeutralFlyoverAllowed(final GameData data) {
-    return data.getProperties().get(NEUTRAL_FLYOVER_ALLOWED, false);
+    return data.getProperties().get(Keys.NEUTRAL_FLYOVER_ALLOWED, false);
   }
 
   public static boolean getUnitsCanBeChangedOnCapture(final GameData data) {
-    return data.getProperties().get(UNITS_CAN_BE_CHANGED_ON_CAPTURE, false);
+    return data.getProperties().get(Keys.UNITS_CAN_BE_CHANGED_ON_CAPTURE, false);
   }
 
   public static boolean getUsePolitics(final GameData data) {
-    return data.getProperties().get(USE_POLITICS, false);
+    return data.getProperties().get(Keys.USE_POLITICS, false);
   }
 
   public static int getAIBonusIncomePercentage(final GameData data) {
-    return data.getProperties().get(AI_BONUS_INCOME_PERCENTAGE, 0);
+    return data.getProperties().get(Keys.AI_BONUS_INCOME_PERCENTAGE, 0);
   }
 
   public static int getAIBonusIncomeFlatRate(final GameData data) {
-    return data.getProperties().get(AI_BONUS_INCOME_FLAT_RATE, 0);
+    return data.getProperties().get(Keys.AI_BONUS_INCOME_FLAT_RATE, 0);
   }
 
   public static int getAIBonusAttack(final GameData data) {
-    return data.getProperties().get(AI_BONUS_ATTACK, 0);
+    return data.getProperties().get(Keys.AI_BONUS_ATTACK, 0);
   }
 
   public static int getAIBonusDefense(final GameData data) {
-    return data.getProperties().get(AI_BONUS_DEFENSE, 0);
+    return data.getProperties().get(Keys.AI_BONUS_DEFENSE, 0);
   }
 
   public static int getRelationshipsLastExtraRounds(final GameData data) {
-    return data.getProperties().get(RELATIONSHIPS_LAST_EXTRA_ROUNDS, 0);
+    return data.getProperties().get(Keys.RELATIONSHIPS_LAST_EXTRA_ROUNDS, 0);
   }
 
   public static boolean getAlliancesCanChainTogether(final GameData data) {
-    return data.getProperties().get(ALLIANCES_CAN_CHAIN_TOGETHER, false);
+    return data.getProperties().get(Keys.ALLIANCES_CAN_CHAIN_TOGETHER, false);
   }
 
   public static boolean getRaidsMayBePreceededByAirBattles(final GameData data) {
-    return data.getProperties().get(RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
+    return data.getProperties().get(Keys.RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
   }
 
   public static boolean getBattlesMayBePreceededByAirBattles(final GameData data) {
-    return data.getProperties().get(BATTLES_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
+    return data.getProperties().get(Keys.BATTLES_MAY_BE_PRECEEDED_BY_AIR_BATTLES, false);
   }
 
   public static boolean getUseKamikazeSuicideAttacks(final GameData data) {
-    return data.getProperties().get(USE_KAMIKAZE_SUICIDE_ATTACKS, false);
+    return data.getProperties().get(Keys.USE_KAMIKAZE_SUICIDE_ATTACKS, false);
   }
 
   public static boolean getKamikazeSuicideAttacksDoneByCurrentTerritoryOwner(final GameData data) {
-    return data.getProperties().get(KAMIKAZE_SUICIDE_ATTACKS_DONE_BY_CURRENT_TERRITORY_OWNER, false);
+    return data.getProperties().get(Keys.KAMIKAZE_SUICIDE_ATTACKS_DONE_BY_CURRENT_TERRITORY_OWNER, false);
   }
 
   public static boolean getForceAAattacksForLastStepOfFlyOver(final GameData data) {
-    return data.getProperties().get(FORCE_AA_ATTACKS_FOR_LAST_STEP_OF_FLY_OVER, false);
+    return data.getProperties().get(Keys.FORCE_AA_ATTACKS_FOR_LAST_STEP_OF_FLY_OVER, false);
   }
 
   public static boolean getParatroopersCanAttackDeepIntoEnemyTerritory(final GameData data) {
-    return data.getProperties().get(PARATROOPERS_CAN_ATTACK_DEEP_INTO_ENEMY_TERRITORY, false);
+    return data.getProperties().get(Keys.PARATROOPERS_CAN_ATTACK_DEEP_INTO_ENEMY_TERRITORY, false);
   }
 
   public static boolean getUseBombingMaxDiceSidesAndBonus(final GameData data) {
-    return data.getProperties().get(USE_BOMBING_MAX_DICE_SIDES_AND_BONUS, false);
+    return data.getProperties().get(Keys.USE_BOMBING_MAX_DICE_SIDES_AND_BONUS, false);
   }
 
   public static boolean getConvoyBlockadesRollDiceForCost(final GameData data) {
-    return data.getProperties().get(CONVOY_BLOCKADES_ROLL_DICE_FOR_COST, false);
+    return data.getProperties().get(Keys.CONVOY_BLOCKADES_ROLL_DICE_FOR_COST, false);
   }
 
   public static boolean getAirborneAttacksOnlyInExistingBattles(final GameData data) {
-    return data.getProperties().get(AIRBORNE_ATTACKS_ONLY_IN_EXISTING_BATTLES, false);
+    return data.getProperties().get(Keys.AIRBORNE_ATTACKS_ONLY_IN_EXISTING_BATTLES, false);
   }
 
   public static boolean getAirborneAttacksOnlyInEnemyTerritories(final GameData data) {
-    return data.getProperties().get(AIRBORNE_ATTACKS_ONLY_IN_ENEMY_TERRITORIES, false);
+    return data.getProperties().get(Keys.AIRBORNE_ATTACKS_ONLY_IN_ENEMY_TERRITORIES, false);
   }
 
   public static boolean getSubsCanEndNonCombatMoveWithEnemies(final GameData data) {
-    return data.getProperties().get(SUBS_CAN_END_NONCOMBAT_MOVE_WITH_ENEMIES, false);
+    return data.getProperties().get(Keys.SUBS_CAN_END_NONCOMBAT_MOVE_WITH_ENEMIES, false);
   }
 
   public static boolean getRemoveAllTechTokensAtEndOfTurn(final GameData data) {
-    return data.getProperties().get(REMOVE_ALL_TECH_TOKENS_AT_END_OF_TURN, false);
+    return data.getProperties().get(Keys.REMOVE_ALL_TECH_TOKENS_AT_END_OF_TURN, false);
   }
 
   public static boolean getKamikazeSuicideAttacksOnlyWhereBattlesAre(final GameData data) {
-    return data.getProperties().get(KAMIKAZE_SUICIDE_ATTACKS_ONLY_WHERE_BATTLES_ARE, false);
+    return data.getProperties().get(Keys.KAMIKAZE_SUICIDE_ATTACKS_ONLY_WHERE_BATTLES_ARE, false);
   }
 
   public static boolean getSubmarinesPreventUnescortedAmphibiousAssaults(final GameData data) {
-    return data.getProperties().get(SUBMARINES_PREVENT_UNESCORTED_AMPHIBIOUS_ASSAULTS, false);
+    return data.getProperties().get(Keys.SUBMARINES_PREVENT_UNESCORTED_AMPHIBIOUS_ASSAULTS, false);
   }
 
   public static boolean getSubmarinesDefendingMaySubmergeOrRetreat(final GameData data) {
-    return data.getProperties().get(SUBMARINES_DEFENDING_MAY_SUBMERGE_OR_RETREAT, false);
+    return data.getProperties().get(Keys.SUBMARINES_DEFENDING_MAY_SUBMERGE_OR_RETREAT, false);
   }
 
   public static int getAirBattleRounds(final GameData data) {
-    return data.getProperties().get(AIR_BATTLE_ROUNDS, 1);
+    return data.getProperties().get(Keys.AIR_BATTLE_ROUNDS, 1);
   }
 
   public static int getSeaBattleRounds(final GameData data) {
     // negative = infinite
-    return data.getProperties().get(SEA_BATTLE_ROUNDS, -1);
+    return data.getProperties().get(Keys.SEA_BATTLE_ROUNDS, -1);
   }
 
   public static int getLandBattleRounds(final GameData data) {
     // negative = infinite
-    return data.getProperties().get(LAND_BATTLE_ROUNDS, -1);
+    return data.getProperties().get(Keys.LAND_BATTLE_ROUNDS, -1);
   }
 
   public static boolean getAirBattleAttackersCanRetreat(final GameData data) {
-    return data.getProperties().get(AIR_BATTLE_ATTACKERS_CAN_RETREAT, false);
+    return data.getProperties().get(Keys.AIR_BATTLE_ATTACKERS_CAN_RETREAT, false);
   }
 
   public static boolean getAirBattleDefendersCanRetreat(final GameData data) {
-    return data.getProperties().get(AIR_BATTLE_DEFENDERS_CAN_RETREAT, false);
+    return data.getProperties().get(Keys.AIR_BATTLE_DEFENDERS_CAN_RETREAT, false);
   }
 
   public static boolean getCanScrambleIntoAirBattles(final GameData data) {
-    return data.getProperties().get(CAN_SCRAMBLE_INTO_AIR_BATTLES, false);
+    return data.getProperties().get(Keys.CAN_SCRAMBLE_INTO_AIR_BATTLES, false);
   }
 
   public static boolean getTerritoriesAreAssignedRandomly(final GameData data) {
-    return data.getProperties().get(TERRITORIES_ARE_ASSIGNED_RANDOMLY, false);
+    return data.getProperties().get(Keys.TERRITORIES_ARE_ASSIGNED_RANDOMLY, false);
   }
 
   public static boolean getUseFuelCost(final GameData data) {
-    return data.getProperties().get(USE_FUEL_COST, false);
+    return data.getProperties().get(Keys.USE_FUEL_COST, false);
   }
 
   public static boolean getRetreatingUnitsRemainInPlace(final GameData data) {
-    return data.getProperties().get(RETREATING_UNITS_REMAIN_IN_PLACE, false);
+    return data.getProperties().get(Keys.RETREATING_UNITS_REMAIN_IN_PLACE, false);
   }
 
   public static boolean getContestedTerritoriesProduceNoIncome(final GameData data) {
-    return data.getProperties().get(CONTESTED_TERRITORIES_PRODUCE_NO_INCOME, false);
+    return data.getProperties().get(Keys.CONTESTED_TERRITORIES_PRODUCE_NO_INCOME, false);
   }
 
   public static boolean getSeaBattlesMayBeIgnored(final GameData data) {
-    return data.getProperties().get(SEA_BATTLES_MAY_BE_IGNORED, false);
+    return data.getProperties().get(Keys.SEA_BATTLES_MAY_BE_IGNORED, false);
   }
 
   public static boolean getAbandonedTerritoriesMayBeTakenOverImmediately(final GameData data) {
-    return data.getProperties().get(ABANDONED_TERRITORIES_MAY_BE_TAKEN_OVER_IMMEDIATELY, false);
+    return data.getProperties().get(Keys.ABANDONED_TERRITORIES_MAY_BE_TAKEN_OVER_IMMEDIATELY, false);
   }
 
   public static boolean getDisabledPlayersAssetsDeleted(final GameData data) {
-    return data.getProperties().get(DISABLED_PLAYERS_ASSETS_DELETED, false);
+    return data.getProperties().get(Keys.DISABLED_PLAYERS_ASSETS_DELETED, false);
   }
 
   public static boolean getControlAllCanalsBetweenTerritoriesToPass(final GameData data) {
-    return data.getProperties().get(CONTROL_ALL_CANALS_BETWEEN_TERRITORIES_TO_PASS, false);
+    return data.getProperties().get(Keys.CONTROL_ALL_CANALS_BETWEEN_TERRITORIES_TO_PASS, false);
   }
 
   private Properties() {}
+
+  /**
+   * The properties read here, so they are looked up by index rather than by name.
+   */
+  private static class Keys {
+    static final GameProperties.Key NEUTRAL_CHARGE_PROPERTY = new GameProperties.Key(Constants.NEUTRAL_CHARGE_PROPERTY);
+    static final GameProperties.Key FACTORIES_PER_COUNTRY_PROPERTY =
+        new GameProperties.Key(Constants.FACTORIES_PER_COUNTRY_PROPERTY);
+    static final GameProperties.Key TWO_HIT_BATTLESHIP_PROPERTY =
+        new GameProperties.Key(Constants.TWO_HIT_BATTLESHIP_PROPERTY);
+    static final GameProperties.Key WW2V2 = new GameProperties.Key(Constants.WW2V2);
+    static final GameProperties.Key PARTIAL_AMPHIBIOUS_RETREAT =
+        new GameProperties.Key(Constants.PARTIAL_AMPHIBIOUS_RETREAT);
+    static final GameProperties.Key TOTAL_VICTORY = new GameProperties.Key(Constants.TOTAL_VICTORY);
+    static final GameProperties.Key HONORABLE_SURRENDER = new GameProperties.Key(Constants.HONORABLE_SURRENDER);
+    static final GameProperties.Key PROJECTION_OF_POWER = new GameProperties.Key(Constants.PROJECTION_OF_POWER);
+    static final GameProperties.Key ALL_ROCKETS_ATTACK = new GameProperties.Key(Constants.ALL_ROCKETS_ATTACK);
+    static final GameProperties.Key NEUTRALS_ARE_IMPASSABLE = new GameProperties.Key(Constants.NEUTRALS_ARE_IMPASSABLE);
+    static final GameProperties.Key NEUTRALS_ARE_BLITZABLE = new GameProperties.Key(Constants.NEUTRALS_ARE_BLITZABLE);
+    static final GameProperties.Key ROCKETS_CAN_FLY_OVER_IMPASSABLES =
+        new GameProperties.Key(Constants.ROCKETS_CAN_FLY_OVER_IMPASSABLES);
+    static final GameProperties.Key PACIFIC_THEATER = new GameProperties.Key(Constants.PACIFIC_THEATER);
+    static final GameProperties.Key WW2V3 = new GameProperties.Key(Constants.WW2V3);
+    static final GameProperties.Key ECONOMIC_VICTORY = new GameProperties.Key(Constants.ECONOMIC_VICTORY);
+    static final GameProperties.Key TRIGGERED_VICTORY = new GameProperties.Key(Constants.TRIGGERED_VICTORY);
+    static final GameProperties.Key PLACEMENT_RESTRICTED_BY_FACTORY =
+        new GameProperties.Key(Constants.PLACEMENT_RESTRICTED_BY_FACTORY);
+    static final GameProperties.Key SELECTABLE_TECH_ROLL = new GameProperties.Key(Constants.SELECTABLE_TECH_ROLL);
+    static final GameProperties.Key WW2V3_TECH_MODEL = new GameProperties.Key(Constants.WW2V3_TECH_MODEL);
+    static final GameProperties.Key TECH_DEVELOPMENT = new GameProperties.Key(Constants.TECH_DEVELOPMENT);
+    static final GameProperties.Key TRANSPORT_UNLOAD_RESTRICTED =
+        new GameProperties.Key(Constants.TRANSPORT_UNLOAD_RESTRICTED);
+    static final GameProperties.Key RANDOM_AA_CASUALTIES = new GameProperties.Key(Constants.RANDOM_AA_CASUALTIES);
+    static final GameProperties.Key ROLL_AA_INDIVIDUALLY = new GameProperties.Key(Constants.ROLL_AA_INDIVIDUALLY);
+    static final GameProperties.Key LIMIT_ROCKET_AND_SBR_DAMAGE_TO_PRODUCTION =
+        new GameProperties.Key(Constants.LIMIT_ROCKET_AND_SBR_DAMAGE_TO_PRODUCTION);
+    static final GameProperties.Key LIMIT_SBR_DAMAGE_PER_TURN =
+        new GameProperties.Key(Constants.LIMIT_SBR_DAMAGE_PER_TURN);
+    static final GameProperties.Key LIMIT_ROCKET_DAMAGE_PER_TURN =
+        new GameProperties.Key(Constants.LIMIT_ROCKET_DAMAGE_PER_TURN);
+    static final GameProperties.Key PU_CAP = new GameProperties.Key(Constants.PU_CAP);
+    static final GameProperties.Key SBR_VICTORY_POINTS = new GameProperties.Key(Constants.SBR_VICTORY_POINTS);
+    static final GameProperties.Key ROCKET_ATTACKS_PER_FACTORY_INFINITE =
+        new GameProperties.Key(Constants.ROCKET_ATTACKS_PER_FACTORY_INFINITE);
+    static final GameProperties.Key ALLIED_AIR_INDEPENDENT = new GameProperties.Key(Constants.ALLIED_AIR_INDEPENDENT);
+    static final GameProperties.Key DEFENDING_SUBS_SNEAK_ATTACK =
+        new GameProperties.Key(Constants.DEFENDING_SUBS_SNEAK_ATTACK);
+    static final GameProperties.Key ATTACKER_RETREAT_PLANES = new GameProperties.Key(Constants.ATTACKER_RETREAT_PLANES);
+    static final GameProperties.Key SURVIVING_AIR_MOVE_TO_LAND =
+        new GameProperties.Key(Constants.SURVIVING_AIR_MOVE_TO_LAND);
+    static final GameProperties.Key NAVAL_BOMBARD_CASUALTIES_RETURN_FIRE_RESTRICTED =
+        new GameProperties.Key(Constants.NAVAL_BOMBARD_CASUALTIES_RETURN_FIRE_RESTRICTED);
+    static final GameProperties.Key BLITZ_THROUGH_FACTORIES_AND_AA_RESTRICTED =
+        new GameProperties.Key(Constants.BLITZ_THROUGH_FACTORIES_AND_AA_RESTRICTED);
+    static final GameProperties.Key UNIT_PLACEMENT_IN_ENEMY_SEAS =
+        new GameProperties.Key(Constants.UNIT_PLACEMENT_IN_ENEMY_SEAS);
+    static final GameProperties.Key SUB_CONTROL_SEA_ZONE_RESTRICTED =
+        new GameProperties.Key(Constants.SUB_CONTROL_SEA_ZONE_RESTRICTED);
+    static final GameProperties.Key TRANSPORT_CONTROL_SEA_ZONE =
+        new GameProperties.Key(Constants.TRANSPORT_CONTROL_SEA_ZONE);
+    static final GameProperties.Key PRODUCTION_PER_X_TERRITORIES_RESTRICTED =
+        new GameProperties.Key(Constants.PRODUCTION_PER_X_TERRITORIES_RESTRICTED);
+    static final GameProperties.Key PRODUCTION_PER_VALUED_TERRITORY_RESTRICTED =
+        new GameProperties.Key(Constants.PRODUCTION_PER_VALUED_TERRITORY_RESTRICTED);
+    static final GameProperties.Key PLACE_IN_ANY_TERRITORY = new GameProperties.Key(Constants.PLACE_IN_ANY_TERRITORY);
+    static final GameProperties.Key UNIT_PLACEMENT_PER_TERRITORY_RESTRICTED =
+        new GameProperties.Key(Constants.UNIT_PLACEMENT_PER_TERRITORY_RESTRICTED);
+    static final GameProperties.Key MOVEMENT_BY_TERRITORY_RESTRICTED =
+        new GameProperties.Key(Constants.MOVEMENT_BY_TERRITORY_RESTRICTED);
+    static final GameProperties.Key TRANSPORT_CASUALTIES_RESTRICTED =
+        new GameProperties.Key(Constants.TRANSPORT_CASUALTIES_RESTRICTED);
+    static final GameProperties.Key IGNORE_TRANSPORT_IN_MOVEMENT =
+        new GameProperties.Key(Constants.IGNORE_TRANSPORT_IN_MOVEMENT);
+    static final GameProperties.Key IGNORE_SUB_IN_MOVEMENT = new GameProperties.Key(Constants.IGNORE_SUB_IN_MOVEMENT);
+    static final GameProperties.Key UNPLACED_UNITS_LIVE = new GameProperties.Key(Constants.UNPLACED_UNITS_LIVE);
+    static final GameProperties.Key AIR_ATTACK_SUB_RESTRICTED =
+        new GameProperties.Key(Constants.AIR_ATTACK_SUB_RESTRICTED);
+    static final GameProperties.Key SELECTABLE_ZERO_MOVEMENT_UNITS =
+        new GameProperties.Key(Constants.SELECTABLE_ZERO_MOVEMENT_UNITS);
+    static final GameProperties.Key PARATROOPERS_CAN_MOVE_DURING_NON_COMBAT =
+        new GameProperties.Key(Constants.PARATROOPERS_CAN_MOVE_DURING_NON_COMBAT);
+    static final GameProperties.Key SUB_RETREAT_BEFORE_BATTLE =
+        new GameProperties.Key(Constants.SUB_RETREAT_BEFORE_BATTLE);
+    static final GameProperties.Key SHORE_BOMBARD_PER_GROUND_UNIT_RESTRICTED =
+        new GameProperties.Key(Constants.SHORE_BOMBARD_PER_GROUND_UNIT_RESTRICTED);
+    static final GameProperties.Key AA_TERRITORY_RESTRICTED = new GameProperties.Key(Constants.AA_TERRITORY_RESTRICTED);
+    static final GameProperties.Key MULTIPLE_AA_PER_TERRITORY =
+        new GameProperties.Key(Constants.MULTIPLE_AA_PER_TERRITORY);
+    static final GameProperties.Key NATIONAL_OBJECTIVES = new GameProperties.Key(Constants.NATIONAL_OBJECTIVES);
+    static final GameProperties.Key TRIGGERS = new GameProperties.Key(Constants.TRIGGERS);
+    static final GameProperties.Key ALWAYS_ON_AA_PROPERTY = new GameProperties.Key(Constants.ALWAYS_ON_AA_PROPERTY);
+    static final GameProperties.Key LHTR_CARRIER_PRODUCTION_RULES =
+        new GameProperties.Key(Constants.LHTR_CARRIER_PRODUCTION_RULES);
+    static final GameProperties.Key CAN_PRODUCE_FIGHTERS_ON_CARRIERS =
+        new GameProperties.Key(Constants.CAN_PRODUCE_FIGHTERS_ON_CARRIERS);
+    static final GameProperties.Key PRODUCE_NEW_FIGHTERS_ON_OLD_CARRIERS =
+        new GameProperties.Key(Constants.PRODUCE_NEW_FIGHTERS_ON_OLD_CARRIERS);
+    static final GameProperties.Key MOVE_EXISTING_FIGHTERS_TO_NEW_CARRIERS =
+        new GameProperties.Key(Constants.MOVE_EXISTING_FIGHTERS_TO_NEW_CARRIERS);
+    static final GameProperties.Key LAND_EXISTING_FIGHTERS_ON_NEW_CARRIERS =
+        new GameProperties.Key(Constants.LAND_EXISTING_FIGHTERS_ON_NEW_CARRIERS);
+    static final GameProperties.Key HEAVY_BOMBER_DICE_ROLLS = new GameProperties.Key(Constants.HEAVY_BOMBER_DICE_ROLLS);
+    static final GameProperties.Key TWO_HIT_BATTLESHIPS_REPAIR_END_OF_TURN =
+        new GameProperties.Key(Constants.TWO_HIT_BATTLESHIPS_REPAIR_END_OF_TURN);
+    static final GameProperties.Key TWO_HIT_BATTLESHIPS_REPAIR_BEGINNING_OF_TURN =
+        new GameProperties.Key(Constants.TWO_HIT_BATTLESHIPS_REPAIR_BEGINNING_OF_TURN);
+    static final GameProperties.Key TWO_HITPOINT_UNITS_REQUIRE_REPAIR_FACILITIES =
+        new GameProperties.Key(Constants.TWO_HITPOINT_UNITS_REQUIRE_REPAIR_FACILITIES);
+    static final GameProperties.Key CHOOSE_AA = new GameProperties.Key(Constants.CHOOSE_AA);
+    static final GameProperties.Key SUBMERSIBLE_SUBS = new GameProperties.Key(Constants.SUBMERSIBLE_SUBS);
+    static final GameProperties.Key USE_DESTROYERS_AND_ARTILLERY =
+        new GameProperties.Key(Constants.USE_DESTROYERS_AND_ARTILLERY);
+    static final GameProperties.Key USE_SHIPYARDS = new GameProperties.Key(Constants.USE_SHIPYARDS);
+    static final GameProperties.Key LOW_LUCK = new GameProperties.Key(Constants.LOW_LUCK);
+    static final GameProperties.Key LL_AA_ONLY = new GameProperties.Key(Constants.LL_AA_ONLY);
+    static final GameProperties.Key LL_TECH_ONLY = new GameProperties.Key(Constants.LL_TECH_ONLY);
+    static final GameProperties.Key LL_DAMAGE_ONLY = new GameProperties.Key(Constants.LL_DAMAGE_ONLY);
+    static final GameProperties.Key KAMIKAZE = new GameProperties.Key(Constants.KAMIKAZE);
+    static final GameProperties.Key LHTR_HEAVY_BOMBERS = new GameProperties.Key(Constants.LHTR_HEAVY_BOMBERS);
+    static final GameProperties.Key SUPER_SUB_DEFENSE_BONUS = new GameProperties.Key(Constants.SUPER_SUB_DEFENSE_BONUS);
+    static final GameProperties.Key SCRAMBLE_RULES_IN_EFFECT =
+        new GameProperties.Key(Constants.SCRAMBLE_RULES_IN_EFFECT);
+    static final GameProperties.Key SCRAMBLED_UNITS_RETURN_TO_BASE =
+        new GameProperties.Key(Constants.SCRAMBLED_UNITS_RETURN_TO_BASE);
+    static final GameProperties.Key SCRAMBLE_TO_SEA_ONLY = new GameProperties.Key(Constants.SCRAMBLE_TO_SEA_ONLY);
+    static final GameProperties.Key SCRAMBLE_FROM_ISLAND_ONLY =
+        new GameProperties.Key(Constants.SCRAMBLE_FROM_ISLAND_ONLY);
+    static final GameProperties.Key SCRAMBLE_TO_ANY_AMPHIBIOUS_ASSAULT =
+        new GameProperties.Key(Constants.SCRAMBLE_TO_ANY_AMPHIBIOUS_ASSAULT);
+    static final GameProperties.Key PU_MULTIPLIER = new GameProperties.Key(Constants.PU_MULTIPLIER);
+    static final GameProperties.Key UNLIMITED_CONSTRUCTIONS = new GameProperties.Key(Constants.UNLIMITED_CONSTRUCTIONS);
+    static final GameProperties.Key MORE_CONSTRUCTIONS_WITHOUT_FACTORY =
+        new GameProperties.Key(Constants.MORE_CONSTRUCTIONS_WITHOUT_FACTORY);
+    static final GameProperties.Key MORE_CONSTRUCTIONS_WITH_FACTORY =
+        new GameProperties.Key(Constants.MORE_CONSTRUCTIONS_WITH_FACTORY);
+    static final GameProperties.Key UNIT_PLACEMENT_RESTRICTIONS =
+        new GameProperties.Key(Constants.UNIT_PLACEMENT_RESTRICTIONS);
+    static final GameProperties.Key GIVE_UNITS_BY_TERRITORY = new GameProperties.Key(Constants.GIVE_UNITS_BY_TERRITORY);
+    static final GameProperties.Key UNITS_CAN_BE_DESTROYED_INSTEAD_OF_CAPTURED =
+        new GameProperties.Key(Constants.UNITS_CAN_BE_DESTROYED_INSTEAD_OF_CAPTURED);
+    static final GameProperties.Key SUICIDE_AND_MUNITION_CASUALTIES_RESTRICTED =
+        new GameProperties.Key(Constants.SUICIDE_AND_MUNITION_CASUALTIES_RESTRICTED);
+    static final GameProperties.Key DEFENDING_SUICIDE_AND_MUNITION_UNITS_DO_NOT_FIRE =
+        new GameProperties.Key(Constants.DEFENDING_SUICIDE_AND_MUNITION_UNITS_DO_NOT_FIRE);
+    static final GameProperties.Key NAVAL_UNITS_MAY_NOT_NONCOMBAT_MOVE_INTO_CONTROLLED_SEA_ZONES =
+        new GameProperties.Key(Constants.NAVAL_UNITS_MAY_NOT_NONCOMBAT_MOVE_INTO_CONTROLLED_SEA_ZONES);
+    static final GameProperties.Key UNITS_MAY_GIVE_BONUS_MOVEMENT =
+        new GameProperties.Key(Constants.UNITS_MAY_GIVE_BONUS_MOVEMENT);
+    static final GameProperties.Key CAPTURE_UNITS_ON_ENTERING_TERRITORY =
+        new GameProperties.Key(Constants.CAPTURE_UNITS_ON_ENTERING_TERRITORY);
+    static final GameProperties.Key DESTROY_UNITS_ON_ENTERING_TERRITORY =
+        new GameProperties.Key(Constants.DESTROY_UNITS_ON_ENTERING_TERRITORY);
+    static final GameProperties.Key DAMAGE_FROM_BOMBING_DONE_TO_UNITS_INSTEAD_OF_TERRITORIES =
+        new GameProperties.Key(Constants.DAMAGE_FROM_BOMBING_DONE_TO_UNITS_INSTEAD_OF_TERRITORIES);
+    static final GameProperties.Key SBR_AFFECTS_UNIT_PRODUCTION =
+        new GameProperties.Key(Constants.SBR_AFFECTS_UNIT_PRODUCTION);
+    static final GameProperties.Key NEUTRAL_FLYOVER_ALLOWED = new GameProperties.Key(Constants.NEUTRAL_FLYOVER_ALLOWED);
+    static final GameProperties.Key UNITS_CAN_BE_CHANGED_ON_CAPTURE =
+        new GameProperties.Key(Constants.UNITS_CAN_BE_CHANGED_ON_CAPTURE);
+    static final GameProperties.Key USE_POLITICS = new GameProperties.Key(Constants.USE_POLITICS);
+    static final GameProperties.Key AI_BONUS_INCOME_PERCENTAGE =
+        new GameProperties.Key(Constants.AI_BONUS_INCOME_PERCENTAGE);
+    static final GameProperties.Key AI_BONUS_INCOME_FLAT_RATE =
+        new GameProperties.Key(Constants.AI_BONUS_INCOME_FLAT_RATE);
+    static final GameProperties.Key AI_BONUS_ATTACK = new GameProperties.Key(Constants.AI_BONUS_ATTACK);
+    static final GameProperties.Key AI_BONUS_DEFENSE = new GameProperties.Key(Constants.AI_BONUS_DEFENSE);
+    static final GameProperties.Key RELATIONSHIPS_LAST_EXTRA_ROUNDS =
+        new GameProperties.Key(Constants.RELATIONSHIPS_LAST_EXTRA_ROUNDS);
+    static final GameProperties.Key ALLIANCES_CAN_CHAIN_TOGETHER =
+        new GameProperties.Key(Constants.ALLIANCES_CAN_CHAIN_TOGETHER);
+    static final GameProperties.Key RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES =
+        new GameProperties.Key(Constants.RAIDS_MAY_BE_PRECEEDED_BY_AIR_BATTLES);
+    static final GameProperties.Key BATTLES_MAY_BE_PRECEEDED_BY_AIR_BATTLES =
+        new GameProperties.Key(Constants.BATTLES_MAY_BE_PRECEEDED_BY_AIR_BATTLES);
+    static final GameProperties.Key USE_KAMIKAZE_SUICIDE_ATTACKS =
+        new GameProperties.Key(Constants.USE_KAMIKAZE_SUICIDE_ATTACKS);
+    static final GameProperties.Key KAMIKAZE_SUICIDE_ATTACKS_DONE_BY_CURRENT_TERRITORY_OWNER =
+        new GameProperties.Key(Constants.KAMIKAZE_SUICIDE_ATTACKS_DONE_BY_CURRENT_TERRITORY_OWNER);
+    static final GameProperties.Key FORCE_AA_ATTACKS_FOR_LAST_STEP_OF_FLY_OVER =
+        new GameProperties.Key(Constants.FORCE_AA_ATTACKS_FOR_LAST_STEP_OF_FLY_OVER);
+    static final GameProperties.Key PARATROOPERS_CAN_ATTACK_DEEP_INTO_ENEMY_TERRITORY =
+        new GameProperties.Key(Constants.PARATROOPERS_CAN_ATTACK_DEEP_INTO_ENEMY_TERRITORY);
+    static final GameProperties.Key USE_BOMBING_MAX_DICE_SIDES_AND_BONUS =
+        new GameProperties.Key(Constants.USE_BOMBING_MAX_DICE_SIDES_AND_BONUS);
+    static final GameProperties.Key CONVOY_BLOCKADES_ROLL_DICE_FOR_COST =
+        new GameProperties.Key(Constants.CONVOY_BLOCKADES_ROLL_DICE_FOR_COST);
+    static final GameProperties.Key AIRBORNE_ATTACKS_ONLY_IN_EXISTING_BATTLES =
+        new GameProperties.Key(Constants.AIRBORNE_ATTACKS_ONLY_IN_EXISTING_BATTLES);
+    static final GameProperties.Key AIRBORNE_ATTACKS_ONLY_IN_ENEMY_TERRITORIES =
+        new GameProperties.Key(Constants.AIRBORNE_ATTACKS_ONLY_IN_ENEMY_TERRITORIES);
+    static final GameProperties.Key SUBS_CAN_END_NONCOMBAT_MOVE_WITH_ENEMIES =
+        new GameProperties.Key(Constants.SUBS_CAN_END_NONCOMBAT_MOVE_WITH_ENEMIES);
+    static final GameProperties.Key REMOVE_ALL_TECH_TOKENS_AT_END_OF_TURN =
+        new GameProperties.Key(Constants.REMOVE_ALL_TECH_TOKENS_AT_END_OF_TURN);
+    static final GameProperties.Key KAMIKAZE_SUICIDE_ATTACKS_ONLY_WHERE_BATTLES_ARE =
+        new GameProperties.Key(Constants.KAMIKAZE_SUICIDE_ATTACKS_ONLY_WHERE_BATTLES_ARE);
+    static final GameProperties.Key SUBMARINES_PREVENT_UNESCORTED_AMPHIBIOUS_ASSAULTS =
+        new GameProperties.Key(Constants.SUBMARINES_PREVENT_UNESCORTED_AMPHIBIOUS_ASSAULTS);
+    static final GameProperties.Key SUBMARINES_DEFENDING_MAY_SUBMERGE_OR_RETREAT =
+        new GameProperties.Key(Constants.SUBMARINES_DEFENDING_MAY_SUBMERGE_OR_RETREAT);
+    static final GameProperties.Key AIR_BATTLE_ROUNDS = new GameProperties.Key(Constants.AIR_BATTLE_ROUNDS);
+    static final GameProperties.Key SEA_BATTLE_ROUNDS = new GameProperties.Key(Constants.SEA_BATTLE_ROUNDS);
+    static final GameProperties.Key LAND_BATTLE_ROUNDS = new GameProperties.Key(Constants.LAND_BATTLE_ROUNDS);
+    static final GameProperties.Key AIR_BATTLE_ATTACKERS_CAN_RETREAT =
+        new GameProperties.Key(Constants.AIR_BATTLE_ATTACKERS_CAN_RETREAT);
+    static final GameProperties.Key AIR_BATTLE_DEFENDERS_CAN_RETREAT =
+        new GameProperties.Key(Constants.AIR_BATTLE_DEFENDERS_CAN_RETREAT);
+    static final GameProperties.Key CAN_SCRAMBLE_INTO_AIR_BATTLES =
+        new GameProperties.Key(Constants.CAN_SCRAMBLE_INTO_AIR_BATTLES);
+    static final GameProperties.Key TERRITORIES_ARE_ASSIGNED_RANDOMLY =
+        new GameProperties.Key(Constants.TERRITORIES_ARE_ASSIGNED_RANDOMLY);
+    static final GameProperties.Key USE_FUEL_COST = new GameProperties.Key(Constants.USE_FUEL_COST);
+    static final GameProperties.Key RETREATING_UNITS_REMAIN_IN_PLACE =
+        new GameProperties.Key(Constants.RETREATING_UNITS_REMAIN_IN_PLACE);
+    static final GameProperties.Key CONTESTED_TERRITORIES_PRODUCE_NO_INCOME =
+        new GameProperties.Key(Constants.CONTESTED_TERRITORIES_PRODUCE_NO_INCOME);
+    static final GameProperties.Key SEA_BATTLES_MAY_BE_IGNORED =
+        new GameProperties.Key(Constants.SEA_BATTLES_MAY_BE_IGNORED);
+    static final GameProperties.Key ABANDONED_TERRITORIES_MAY_BE_TAKEN_OVER_IMMEDIATELY =
+        new GameProperties.Key(Constants.ABANDONED_TERRITORIES_MAY_BE_TAKEN_OVER_IMMEDIATELY);
+    static final GameProperties.Key DISABLED_PLAYERS_ASSETS_DELETED =
+        new GameProperties.Key(Constants.DISABLED_PLAYERS_ASSETS_DELETED);
+    static final GameProperties.Key CONTROL_ALL_CANALS_BETWEEN_TERRITORIES_TO_PASS =
+        new GameProperties.Key(Constants.CONTROL_ALL_CANALS_BETWEEN_TERRITORIES_TO_PASS);
+  }
 }
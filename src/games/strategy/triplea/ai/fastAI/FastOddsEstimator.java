@@ -108,6 +108,16 @@ public class FastOddsEstimator implements IOddsCalculator {
 
   }
 
+  @Override
+  public void setRandomSeed(final long seed) {
+
+  }
+
+  @Override
+  public void setCalculateExactOdds(final boolean exact) {
+
+  }
+
   @Override
   public void cancel() {
 
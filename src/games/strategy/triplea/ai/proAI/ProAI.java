@@ -192,7 +192,7 @@ public class ProAI extends AbstractAI {
       GameData dataCopy;
       try {
         data.acquireReadLock();
-        dataCopy = GameDataUtils.cloneGameData(data, true);
+        dataCopy = GameDataUtils.cloneGameData(data, true, false);
       } catch (final Throwable t) {
         ProLogger.log(Level.WARNING, "Error trying to clone game data for simulating phases", t);
         return;
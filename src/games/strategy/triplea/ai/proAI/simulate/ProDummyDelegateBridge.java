@@ -12,7 +12,7 @@ import games.strategy.engine.gamePlayer.IRemotePlayer;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.random.IRandomStats.DiceType;
-import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.engine.random.LocalRandomSource;
 import games.strategy.sound.DummySoundChannel;
 import games.strategy.sound.ISound;
 import games.strategy.triplea.ai.proAI.ProAI;
@@ -20,7 +20,7 @@ import games.strategy.triplea.delegate.MustFightBattle;
 import games.strategy.triplea.ui.display.DummyTripleADisplay;
 
 public class ProDummyDelegateBridge implements IDelegateBridge {
-  private final PlainRandomSource m_randomSource = new PlainRandomSource();
+  private final LocalRandomSource m_randomSource = new LocalRandomSource();
   private final DummyTripleADisplay m_display = new DummyTripleADisplay();
   private final DummySoundChannel m_soundChannel = new DummySoundChannel();
   private final PlayerID m_player;
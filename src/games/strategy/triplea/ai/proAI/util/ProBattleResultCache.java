@@ -0,0 +1,134 @@
+package games.strategy.triplea.ai.proAI.util;
+
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.ai.proAI.data.ProBattleResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pro AI cache of battle calculator results, keyed on everything about a battle that changes its odds.
+ * Units are only told apart by their type, owner and state, so asking about the same armies made of different units
+ * gives the same result, with the remaining units swapped for the asker's own units. The cache is least recently used
+ * and must be cleared whenever the game data changes.
+ */
+public class ProBattleResultCache {
+
+  public static final int DEFAULT_MAX_SIZE = 1000;
+
+  private final Map<String, ProBattleResult> cache;
+  private int hits = 0;
+  private int misses = 0;
+
+  public ProBattleResultCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  public ProBattleResultCache(final int maxSize) {
+    cache = new LinkedHashMap<String, ProBattleResult>(16, 0.75f, true) {
+      private static final long serialVersionUID = -2427362164364584120L;
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, ProBattleResult> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  public static String getKey(final PlayerID attacker, final PlayerID defender, final Territory t,
+      final Collection<Unit> attackingUnits, final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits, final boolean retreatWhenOnlyAirLeft) {
+    final StringBuilder key = new StringBuilder(t.getName());
+    key.append("|attacker:").append(attacker.getName());
+    key.append("|defender:").append(defender.getName());
+    key.append(retreatWhenOnlyAirLeft ? "|retreatAir" : "|stay");
+    appendUnitKeys(key.append("|attackers:"), attackingUnits);
+    appendUnitKeys(key.append("|defenders:"), defendingUnits);
+    appendUnitKeys(key.append("|bombarding:"), bombardingUnits);
+    return key.toString();
+  }
+
+  /**
+   * Returns the cached result for the given key with its remaining units replaced by the given units, or null if the
+   * battle has not been calculated yet.
+   */
+  public ProBattleResult get(final String key, final List<Unit> attackingUnits, final List<Unit> defendingUnits) {
+    final ProBattleResult result = cache.get(key);
+    if (result == null) {
+      misses++;
+      return null;
+    }
+    hits++;
+    return new ProBattleResult(result.getWinPercentage(), result.getTUVSwing(), result.isHasLandUnitRemaining(),
+        getMatchingUnits(result.getAverageAttackersRemaining(), attackingUnits),
+        getMatchingUnits(result.getAverageDefendersRemaining(), defendingUnits), result.getBattleRounds());
+  }
+
+  public void put(final String key, final ProBattleResult result) {
+    cache.put(key, result);
+  }
+
+  public void clear() {
+    cache.clear();
+  }
+
+  public int size() {
+    return cache.size();
+  }
+
+  public int getHits() {
+    return hits;
+  }
+
+  public int getMisses() {
+    return misses;
+  }
+
+  private static void appendUnitKeys(final StringBuilder key, final Collection<Unit> units) {
+    final List<String> unitKeys = new ArrayList<>(units.size());
+    for (final Unit u : units) {
+      unitKeys.add(getUnitKey(u));
+    }
+    Collections.sort(unitKeys);
+    for (final String unitKey : unitKeys) {
+      key.append(unitKey).append(';');
+    }
+  }
+
+  private static String getUnitKey(final Unit u) {
+    final TripleAUnit taUnit = (TripleAUnit) u;
+    return u.getType().getName() + "," + u.getOwner().getName() + "," + u.getHits() + "," + taUnit.getUnitDamage()
+        + "," + (taUnit.getTransportedBy() != null) + "," + taUnit.getWasAmphibious() + "," + taUnit.getSubmerged()
+        + "," + taUnit.getWasInAirBattle();
+  }
+
+  /**
+   * For each unit that was left, picks one of the given units that can not be told apart from it.
+   */
+  private static List<Unit> getMatchingUnits(final List<Unit> remainingUnits, final List<Unit> units) {
+    final Map<String, List<Unit>> unitsByKey = new HashMap<>();
+    for (final Unit u : units) {
+      final String unitKey = getUnitKey(u);
+      if (!unitsByKey.containsKey(unitKey)) {
+        unitsByKey.put(unitKey, new ArrayList<>());
+      }
+      unitsByKey.get(unitKey).add(u);
+    }
+    final List<Unit> result = new ArrayList<>(remainingUnits.size());
+    for (final Unit u : remainingUnits) {
+      final List<Unit> matches = unitsByKey.get(getUnitKey(u));
+      if (matches != null && !matches.isEmpty()) {
+        result.add(matches.remove(0));
+      }
+    }
+    return result;
+  }
+}
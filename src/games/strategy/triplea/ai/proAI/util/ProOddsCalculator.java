@@ -7,6 +7,7 @@ import games.strategy.engine.data.Unit;
 import games.strategy.triplea.Properties;
 import games.strategy.triplea.ai.proAI.ProData;
 import games.strategy.triplea.ai.proAI.data.ProBattleResult;
+import games.strategy.triplea.ai.proAI.logging.ProLogger;
 import games.strategy.triplea.delegate.BattleCalculator;
 import games.strategy.triplea.delegate.Matches;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
@@ -24,16 +25,28 @@ import java.util.Set;
 public class ProOddsCalculator {
 
   private final IOddsCalculator calc;
+  private final ProBattleResultCache cache = new ProBattleResultCache();
   private boolean isCanceled = false;
 
   public ProOddsCalculator(final IOddsCalculator calc) {
     this.calc = calc;
+    // exact odds are both quicker and more accurate than fighting simple battles many times
+    calc.setCalculateExactOdds(true);
   }
 
   public void setData(final GameData data) {
+    if (cache.getHits() + cache.getMisses() > 0) {
+      ProLogger.debug("Battle result cache: hits=" + cache.getHits() + ", misses=" + cache.getMisses());
+    }
+    // results are only valid for the data they were calculated with
+    cache.clear();
     calc.setGameData(data);
   }
 
+  public ProBattleResultCache getCache() {
+    return cache;
+  }
+
   public void cancelCalcs() {
     calc.cancel();
     isCanceled = true;
@@ -118,12 +131,20 @@ public class ProOddsCalculator {
       return new ProBattleResult();
     }
 
+    // The same battle is often asked about many times while planning a turn
+    final PlayerID attacker = attackingUnits.get(0).getOwner();
+    final PlayerID defender = defendingUnits.get(0).getOwner();
+    final String cacheKey = ProBattleResultCache.getKey(attacker, defender, t, attackingUnits, defendingUnits,
+        bombardingUnits, retreatWhenOnlyAirLeft);
+    final ProBattleResult cachedResult = cache.get(cacheKey, attackingUnits, defendingUnits);
+    if (cachedResult != null) {
+      return cachedResult;
+    }
+
     // Use battle calculator (hasLandUnitRemaining is always true for naval territories)
     AggregateResults results = null;
     final int minArmySize = Math.min(attackingUnits.size(), defendingUnits.size());
     final int runCount = Math.max(16, 100 - minArmySize);
-    final PlayerID attacker = attackingUnits.get(0).getOwner();
-    final PlayerID defender = defendingUnits.get(0).getOwner();
     if (retreatWhenOnlyAirLeft) {
       calc.setRetreatWhenOnlyAirLeft(true);
     }
@@ -160,14 +181,19 @@ public class ProOddsCalculator {
     // Create battle result object
     final List<Territory> tList = new ArrayList<>();
     tList.add(t);
+    final ProBattleResult result;
     if (Match.allMatch(tList, Matches.TerritoryIsLand)) {
-      return new ProBattleResult(winPercentage, TUVswing,
+      result = new ProBattleResult(winPercentage, TUVswing,
           Match.someMatch(averageAttackersRemaining, Matches.UnitIsLand), averageAttackersRemaining,
           averageDefendersRemaining, results.getAverageBattleRoundsFought());
     } else {
-      return new ProBattleResult(winPercentage, TUVswing, !averageAttackersRemaining.isEmpty(),
+      result = new ProBattleResult(winPercentage, TUVswing, !averageAttackersRemaining.isEmpty(),
           averageAttackersRemaining, averageDefendersRemaining, results.getAverageBattleRoundsFought());
     }
+    if (!isCanceled) {
+      cache.put(cacheKey, result);
+    }
+    return result;
   }
 
 }
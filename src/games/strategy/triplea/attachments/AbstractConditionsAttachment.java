@@ -230,8 +230,14 @@ public abstract class AbstractConditionsAttachment extends DefaultAttachment imp
     }
     for (final ICondition c : rules) {
       if (!allConditionsTestedSoFar.containsKey(c)) {
-        testAllConditionsRecursive(new HashSet<ICondition>(c.getConditions()), allConditionsTestedSoFar, aBridge);
-        allConditionsTestedSoFar.put(c, c.isSatisfied(allConditionsTestedSoFar, aBridge));
+        final List<RulesAttachment> conditions = c.getConditions();
+        if (!conditions.isEmpty()) {
+          testAllConditionsRecursive(new HashSet<ICondition>(conditions), allConditionsTestedSoFar, aBridge);
+        }
+        final boolean satisfied = c instanceof RulesAttachment
+            ? ((RulesAttachment) c).isSatisfiedRemembering(allConditionsTestedSoFar, aBridge)
+            : c.isSatisfied(allConditionsTestedSoFar, aBridge);
+        allConditionsTestedSoFar.put(c, satisfied);
       }
     }
     return allConditionsTestedSoFar;
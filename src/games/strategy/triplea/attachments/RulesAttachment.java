@@ -45,6 +45,8 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment implements IC
   private static final long serialVersionUID = 7301965634079412516L;
   // condition for having techs
   private ArrayList<TechAdvance> m_techs = null;
+  // the result of the last test of this condition
+  private transient volatile TestResult m_lastTest = null;
   @InternalDoNotExport
   // Do Not Export (do not include in IAttachment).
   private int m_techCount = -1;
@@ -653,6 +655,65 @@ public class RulesAttachment extends AbstractPlayerRulesAttachment implements IC
     return testedConditions.get(this);
   }
 
+  /**
+   * Same as isSatisfied(testedConditions, aBridge), but remembers the result, and gives the remembered result again
+   * until the game data changes or the game moves on to another step. Used when all the conditions of the game are
+   * tested at once, such as for triggers and national objectives, which can happen several times in a step.
+   */
+  boolean isSatisfiedRemembering(final HashMap<ICondition, Boolean> testedConditions, final IDelegateBridge aBridge) {
+    // a condition that rolls for its chance, or holds one that does, has to be tested every time
+    if (!hasNoChanceIncludingConditions()) {
+      return isSatisfied(testedConditions, aBridge);
+    }
+    final GameData data = aBridge.getData();
+    final TestResult lastTest = m_lastTest;
+    if (lastTest != null && lastTest.isStillValid(data)) {
+      return lastTest.m_satisfied;
+    }
+    final boolean satisfied = isSatisfied(testedConditions, aBridge);
+    m_lastTest = new TestResult(data, satisfied);
+    return satisfied;
+  }
+
+  /**
+   * @return true if neither this condition nor any it holds has a chance to roll for
+   */
+  private boolean hasNoChanceIncludingConditions() {
+    if (getChanceToHit() != getChanceDiceSides() || getChanceIncrementOnFailure() != 0
+        || getChanceDecrementOnSuccess() != 0) {
+      return false;
+    }
+    for (final RulesAttachment condition : m_conditions) {
+      if (!condition.hasNoChanceIncludingConditions()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The result of testing a condition, which stays right until the game data changes or the game moves on to another
+   * step.
+   */
+  private static class TestResult {
+    private final long m_changeCount;
+    private final int m_round;
+    private final int m_stepIndex;
+    private final boolean m_satisfied;
+
+    TestResult(final GameData data, final boolean satisfied) {
+      m_changeCount = data.getChangeCount();
+      m_round = data.getSequence().getRound();
+      m_stepIndex = data.getSequence().getStepIndex();
+      m_satisfied = satisfied;
+    }
+
+    boolean isStillValid(final GameData data) {
+      return m_changeCount == data.getChangeCount() && m_round == data.getSequence().getRound()
+          && m_stepIndex == data.getSequence().getStepIndex();
+    }
+  }
+
   @Override
   public boolean isSatisfied(HashMap<ICondition, Boolean> testedConditions, final IDelegateBridge aBridge) {
     if (testedConditions != null) {
@@ -8,7 +8,6 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import games.strategy.engine.data.Attachable;
@@ -17,7 +16,6 @@ import games.strategy.engine.data.ChangeFactory;
 import games.strategy.engine.data.CompositeChange;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.GameParseException;
-import games.strategy.engine.data.IAttachment;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.ProductionFrontier;
 import games.strategy.engine.data.ProductionRule;
@@ -136,14 +134,25 @@ public class TriggerAttachment extends AbstractTriggerAttachment implements ICon
   public static Set<TriggerAttachment> getTriggers(final PlayerID player, final GameData data,
       final Match<TriggerAttachment> cond) {
     final Set<TriggerAttachment> trigs = new HashSet<TriggerAttachment>();
-    final Map<String, IAttachment> map = player.getAttachments();
-    final Iterator<String> iter = map.keySet().iterator();
-    while (iter.hasNext()) {
-      final IAttachment a = map.get(iter.next());
-      if (a instanceof TriggerAttachment) {
-        if (cond == null || cond.match((TriggerAttachment) a)) {
-          trigs.add((TriggerAttachment) a);
-        }
+    for (final TriggerAttachment t : player.getAttachments(TriggerAttachment.class)) {
+      if (cond == null || cond.match(t)) {
+        trigs.add(t);
+      }
+    }
+    return trigs;
+  }
+
+  /**
+   * Like getTriggers(player, data, cond), but only the triggers that fire at the given 'when' are tested against the
+   * match condition, so the many triggers set to fire in other steps cost next to nothing.
+   */
+  public static Set<TriggerAttachment> getTriggers(final PlayerID player, final String beforeOrAfter,
+      final String stepName, final Match<TriggerAttachment> cond) {
+    final Match<TriggerAttachment> when = whenOrDefaultMatch(beforeOrAfter, stepName);
+    final Set<TriggerAttachment> trigs = new HashSet<TriggerAttachment>();
+    for (final TriggerAttachment t : player.getAttachments(TriggerAttachment.class)) {
+      if (when.match(t) && (cond == null || cond.match(t))) {
+        trigs.add(t);
       }
     }
     return trigs;
@@ -153,6 +162,8 @@ public class TriggerAttachment extends AbstractTriggerAttachment implements ICon
    * This will collect all triggers for the desired players, based on a match provided,
    * and then it will gather all the conditions necessary, then test all the conditions,
    * and then it will fire all the conditions which are satisfied.
+   * Only triggers whose when is set to the given beforeOrAfter and stepName are collected, so the match does not need
+   * to check that.
    *
    * @param players
    * @param triggerMatch
@@ -161,7 +172,10 @@ public class TriggerAttachment extends AbstractTriggerAttachment implements ICon
   public static void collectAndFireTriggers(final HashSet<PlayerID> players,
       final Match<TriggerAttachment> triggerMatch, final IDelegateBridge aBridge, final String beforeOrAfter,
       final String stepName) {
-    final HashSet<TriggerAttachment> toFirePossible = collectForAllTriggersMatching(players, triggerMatch, aBridge);
+    final HashSet<TriggerAttachment> toFirePossible = new HashSet<TriggerAttachment>();
+    for (final PlayerID player : players) {
+      toFirePossible.addAll(getTriggers(player, beforeOrAfter, stepName, triggerMatch));
+    }
     if (toFirePossible.isEmpty()) {
       return;
     }
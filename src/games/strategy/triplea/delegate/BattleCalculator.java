@@ -646,6 +646,21 @@ public class BattleCalculator {
     return killed;
   }
 
+  /**
+   * Returns all of the targets in the order they would be selected as default casualties, first casualty first.
+   * Taking casualties from the front of this list leaves the remaining units in the order they would be sorted in
+   * if they were sorted again, so the order only needs to be worked out once per battle.
+   */
+  public static List<Unit> getDefaultCasualtyOrder(final Collection<Unit> targets, final boolean defending,
+      final PlayerID player, final Collection<Unit> enemyUnits, final Territory battlesite,
+      final Collection<TerritoryEffect> territoryEffects, final GameData data) {
+    if (targets.isEmpty()) {
+      return new ArrayList<Unit>();
+    }
+    return sortUnitsForCasualtiesWithSupport(targets, targets.size(), defending, player, enemyUnits, false,
+        Collections.<Unit>emptyList(), battlesite, getCostsForTUV(player, data), territoryEffects, data, true, true);
+  }
+
   /**
    * A unit with two hitpoints will be listed twice if they will die. The first time they are listed it is as damaged.
    * The second time they
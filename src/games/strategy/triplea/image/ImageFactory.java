@@ -14,7 +14,7 @@ public class ImageFactory {
   private final Map<String, Image> m_images = new HashMap<String, Image>();
   private ResourceLoader m_resourceLoader;
 
-  public void setResourceLoader(final ResourceLoader loader) {
+  public synchronized void setResourceLoader(final ResourceLoader loader) {
     m_resourceLoader = loader;
     m_images.clear();
   }
@@ -27,7 +27,7 @@ public class ImageFactory {
     return getImage(key2, throwIfNotFound);
   }
 
-  protected Image getImage(final String key, final boolean throwIfNotFound) {
+  protected synchronized Image getImage(final String key, final boolean throwIfNotFound) {
     if (!m_images.containsKey(key)) {
       final URL url = m_resourceLoader.getResource(key);
       if (url == null && throwIfNotFound) {
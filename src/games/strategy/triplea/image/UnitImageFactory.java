@@ -99,7 +99,7 @@ public class UnitImageFactory {
   }
 
   // Clear the image and icon cache
-  private void clearImageCache() {
+  private synchronized void clearImageCache() {
     m_images.clear();
     m_icons.clear();
   }
@@ -107,8 +107,8 @@ public class UnitImageFactory {
   /**
    * Return the appropriate unit image.
    */
-  public Image getImage(final UnitType type, final PlayerID player, final GameData data, final boolean damaged,
-      final boolean disabled) {
+  public synchronized Image getImage(final UnitType type, final PlayerID player, final GameData data,
+      final boolean damaged, final boolean disabled) {
     final String baseName = getBaseImageName(type, player, data, damaged, disabled);
     final String fullName = baseName + player.getName();
     if (m_images.containsKey(fullName)) {
@@ -177,8 +177,8 @@ public class UnitImageFactory {
   /**
    * Return a icon image for a unit.
    */
-  public ImageIcon getIcon(final UnitType type, final PlayerID player, final GameData data, final boolean damaged,
-      final boolean disabled) {
+  public synchronized ImageIcon getIcon(final UnitType type, final PlayerID player, final GameData data,
+      final boolean damaged, final boolean disabled) {
     final String baseName = getBaseImageName(type, player, data, damaged, disabled);
     final String fullName = baseName + player.getName();
     if (m_icons.containsKey(fullName)) {
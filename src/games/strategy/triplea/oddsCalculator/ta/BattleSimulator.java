@@ -0,0 +1,627 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.TerritoryEffect;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.random.LocalRandomSource;
+import games.strategy.triplea.TripleAUnit;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.attachments.UnitSupportAttachment;
+import games.strategy.triplea.delegate.BattleCalculator;
+import games.strategy.triplea.delegate.DiceRoll;
+import games.strategy.triplea.delegate.IBattle.WhoWon;
+import games.strategy.triplea.delegate.Matches;
+import games.strategy.util.IntegerMap;
+import games.strategy.util.LinkedIntegerMap;
+import games.strategy.util.Tuple;
+
+/**
+ * Fights simple battles for the battle calculator without going through MustFightBattle.
+ * <p>
+ * Each side is compiled once into the order its units will be taken as casualties. Since casualties always come off
+ * the front of that order (after any extra hit points are used up), the units left on a side are fully described by
+ * the number of hits it has taken, and the dice each side rolls only need to be worked out once for each number of
+ * casualties. A trial is then just a loop over primitive arrays: it never changes the game data, and never creates
+ * changes, delegates or bridges.
+ * <p>
+ * The same compiled sides can also be solved exactly, giving the odds of every possible outcome without rolling any
+ * dice.
+ * <p>
+ * Only battles that the real battle code would fight as a plain exchange of fire can be simulated: no bombardment,
+ * amphibious assault, subs, AA, suicide or infrastructure units, transports or enemy support. compile() returns null
+ * for anything else, and the calculator then falls back to fighting a MustFightBattle.
+ * <p>
+ * A simulator is not thread safe, each calculator worker compiles its own.
+ */
+final class BattleSimulator {
+  private static final String ANNOTATION = "battle simulator";
+  // roughly how many state transitions an exact solution may take before it is quicker to just fight the battle
+  private static final long MAX_EXACT_WORK = 20000000;
+  private final GameData m_data;
+  private final Side m_attacker;
+  private final Side m_defender;
+  private final int m_diceSides;
+  private final boolean m_lowLuck;
+  private final int m_maxRounds;
+  // negative = do not retreat
+  private final int m_retreatAfterRound;
+  // negative = do not retreat
+  private final int m_retreatAfterXUnitsLeft;
+  private final boolean m_retreatWhenOnlyAirLeft;
+  private final boolean m_retreatWhenMetaPowerIsLower;
+
+  private BattleSimulator(final GameData data, final Side attacker, final Side defender, final int maxRounds,
+      final int retreatAfterRound, final int retreatAfterXUnitsLeft, final boolean retreatWhenOnlyAirLeft,
+      final boolean retreatWhenMetaPowerIsLower) {
+    m_data = data;
+    m_attacker = attacker;
+    m_defender = defender;
+    m_diceSides = data.getDiceSides();
+    m_lowLuck = games.strategy.triplea.Properties.getLow_Luck(data);
+    m_maxRounds = maxRounds;
+    m_retreatAfterRound = retreatAfterRound;
+    m_retreatAfterXUnitsLeft = retreatAfterXUnitsLeft;
+    m_retreatWhenOnlyAirLeft = retreatWhenOnlyAirLeft;
+    m_retreatWhenMetaPowerIsLower = retreatWhenMetaPowerIsLower;
+  }
+
+  /**
+   * Compiles a battle, or returns null if the battle has anything in it that this simulator does not handle.
+   *
+   * @param attackerOrderOfLosses
+   *        may be null, in which case the default casualty order is used
+   * @param defenderOrderOfLosses
+   *        may be null, in which case the default casualty order is used
+   */
+  static BattleSimulator compile(final GameData data, final PlayerID attacker, final PlayerID defender,
+      final Territory location, final Collection<Unit> attackingUnits, final Collection<Unit> defendingUnits,
+      final Collection<Unit> bombardingUnits, final Collection<TerritoryEffect> territoryEffects,
+      final boolean amphibious, final boolean keepOneAttackingLandUnit, final List<Unit> attackerOrderOfLosses,
+      final List<Unit> defenderOrderOfLosses, final int retreatAfterRound, final int retreatAfterXUnitsLeft,
+      final boolean retreatWhenOnlyAirLeft, final boolean retreatWhenMetaPowerIsLower) {
+    if (amphibious || keepOneAttackingLandUnit || !bombardingUnits.isEmpty() || attackingUnits.isEmpty()
+        || defendingUnits.isEmpty()) {
+      return null;
+    }
+    if (!canSimulate(attackingUnits, false, attacker, location, data)
+        || !canSimulate(defendingUnits, true, attacker, location, data)) {
+      return null;
+    }
+    if (hasEnemySupport(defendingUnits, false, data) || hasEnemySupport(attackingUnits, true, data)) {
+      return null;
+    }
+    final Side attackingSide = new Side(getCasualtyOrder(attackingUnits, false, attacker, defendingUnits, location,
+        territoryEffects, attackerOrderOfLosses, data), defendingUnits, false, location, territoryEffects, data);
+    final Side defendingSide = new Side(getCasualtyOrder(defendingUnits, true, defender, attackingUnits, location,
+        territoryEffects, defenderOrderOfLosses, data), attackingUnits, true, location, territoryEffects, data);
+    final int maxRounds = location.isWater() ? games.strategy.triplea.Properties.getSeaBattleRounds(data)
+        : games.strategy.triplea.Properties.getLandBattleRounds(data);
+    return new BattleSimulator(data, attackingSide, defendingSide, maxRounds, retreatAfterRound,
+        retreatAfterXUnitsLeft, retreatWhenOnlyAirLeft, retreatWhenMetaPowerIsLower);
+  }
+
+  /**
+   * Fights one battle to the end using the given dice.
+   */
+  BattleResults fight(final LocalRandomSource random) {
+    int attackerHits = 0;
+    int defenderHits = 0;
+    int round = 1;
+    while (true) {
+      final int attackerCasualties = m_attacker.getCasualties(attackerHits);
+      final int defenderCasualties = m_defender.getCasualties(defenderHits);
+      final int hitsOnDefender = roll(m_attacker, attackerCasualties, random);
+      final int hitsOnAttacker = roll(m_defender, defenderCasualties, random);
+      if (hitsOnDefender == 0 && hitsOnAttacker == 0 && m_attacker.getPower(attackerCasualties) == 0
+          && m_defender.getPower(defenderCasualties) == 0) {
+        // neither side can ever hit the other
+        return getResults(round, attackerCasualties, defenderCasualties, WhoWon.DRAW);
+      }
+      attackerHits = Math.min(attackerHits + hitsOnAttacker, m_attacker.m_totalHitPoints);
+      defenderHits = Math.min(defenderHits + hitsOnDefender, m_defender.m_totalHitPoints);
+      final WhoWon whoWon = getWinner(round, attackerHits, defenderHits);
+      if (whoWon != null) {
+        return getResults(round, m_attacker.getCasualties(attackerHits), m_defender.getCasualties(defenderHits),
+            whoWon);
+      }
+      round++;
+    }
+  }
+
+  /**
+   * Works out the exact odds of every way the battle can end, or returns null if the battle has too many possible
+   * states to be worth solving exactly.
+   * <p>
+   * Between rounds a battle is fully described by the hits each side has taken, and a round can only move it to a
+   * state with at least as many hits on both sides. With no round limit the states are solved in that order, and a
+   * round in which nobody is hit is folded into the state it repeats. With a round limit the odds of each state are
+   * instead carried forward one round at a time until the last round.
+   */
+  ExactAggregateResults solve() {
+    final int lastRound = getLastRound();
+    long work = (long) (m_attacker.m_totalHitPoints + 1) * (m_defender.m_totalHitPoints + 1)
+        * getHitOdds(m_attacker, 0).length * getHitOdds(m_defender, 0).length;
+    if (lastRound > 0) {
+      work *= lastRound;
+    }
+    if (work > MAX_EXACT_WORK) {
+      return null;
+    }
+    final Outcomes outcomes = new Outcomes();
+    if (lastRound > 0) {
+      solveRoundByRound(lastRound, outcomes);
+    } else {
+      solveInOrder(outcomes);
+    }
+    return outcomes.getResults();
+  }
+
+  private void solveInOrder(final Outcomes outcomes) {
+    final double[][] odds = new double[m_attacker.m_totalHitPoints + 1][m_defender.m_totalHitPoints + 1];
+    // the rounds fought to reach each state, weighted by the odds of each way of reaching it
+    final double[][] rounds = new double[odds.length][odds[0].length];
+    odds[0][0] = 1;
+    for (int attackerHits = 0; attackerHits < odds.length; attackerHits++) {
+      for (int defenderHits = 0; defenderHits < odds[0].length; defenderHits++) {
+        final double stateOdds = odds[attackerHits][defenderHits];
+        if (stateOdds == 0) {
+          continue;
+        }
+        final int attackerCasualties = m_attacker.getCasualties(attackerHits);
+        final int defenderCasualties = m_defender.getCasualties(defenderHits);
+        final double stateRounds = rounds[attackerHits][defenderHits];
+        if (m_attacker.getPower(attackerCasualties) == 0 && m_defender.getPower(defenderCasualties) == 0) {
+          outcomes.add(attackerCasualties, defenderCasualties, WhoWon.DRAW, stateOdds, stateRounds + stateOdds);
+          continue;
+        }
+        final double[] hitsOnDefender = getHitOdds(m_attacker, attackerCasualties);
+        final double[] hitsOnAttacker = getHitOdds(m_defender, defenderCasualties);
+        // a round in which nobody is hit just repeats this state, unless the attacker retreats after it
+        final WhoWon noHitsWinner = getWinner(1, attackerHits, defenderHits);
+        final double leaveOdds = noHitsWinner == null ? 1 - hitsOnDefender[0] * hitsOnAttacker[0] : 1;
+        final double roundsOut = stateRounds + stateOdds / leaveOdds;
+        for (int i = 0; i < hitsOnDefender.length; i++) {
+          for (int j = 0; j < hitsOnAttacker.length; j++) {
+            final double transition = hitsOnDefender[i] * hitsOnAttacker[j] / leaveOdds;
+            if (transition == 0 || (i == 0 && j == 0 && noHitsWinner == null)) {
+              continue;
+            }
+            final int nextAttackerHits = Math.min(attackerHits + j, m_attacker.m_totalHitPoints);
+            final int nextDefenderHits = Math.min(defenderHits + i, m_defender.m_totalHitPoints);
+            final WhoWon whoWon =
+                (i == 0 && j == 0) ? noHitsWinner : getWinner(1, nextAttackerHits, nextDefenderHits);
+            if (whoWon == null) {
+              odds[nextAttackerHits][nextDefenderHits] += stateOdds * transition;
+              rounds[nextAttackerHits][nextDefenderHits] += roundsOut * transition;
+            } else {
+              outcomes.add(m_attacker.getCasualties(nextAttackerHits), m_defender.getCasualties(nextDefenderHits),
+                  whoWon, stateOdds * transition, roundsOut * transition);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private void solveRoundByRound(final int lastRound, final Outcomes outcomes) {
+    double[][] odds = new double[m_attacker.m_totalHitPoints + 1][m_defender.m_totalHitPoints + 1];
+    odds[0][0] = 1;
+    for (int round = 1; round <= lastRound; round++) {
+      final double[][] nextOdds = new double[odds.length][odds[0].length];
+      for (int attackerHits = 0; attackerHits < odds.length; attackerHits++) {
+        for (int defenderHits = 0; defenderHits < odds[0].length; defenderHits++) {
+          final double stateOdds = odds[attackerHits][defenderHits];
+          if (stateOdds == 0) {
+            continue;
+          }
+          final int attackerCasualties = m_attacker.getCasualties(attackerHits);
+          final int defenderCasualties = m_defender.getCasualties(defenderHits);
+          if (m_attacker.getPower(attackerCasualties) == 0 && m_defender.getPower(defenderCasualties) == 0) {
+            outcomes.add(attackerCasualties, defenderCasualties, WhoWon.DRAW, stateOdds, stateOdds * round);
+            continue;
+          }
+          final double[] hitsOnDefender = getHitOdds(m_attacker, attackerCasualties);
+          final double[] hitsOnAttacker = getHitOdds(m_defender, defenderCasualties);
+          for (int i = 0; i < hitsOnDefender.length; i++) {
+            for (int j = 0; j < hitsOnAttacker.length; j++) {
+              final double transitionOdds = stateOdds * hitsOnDefender[i] * hitsOnAttacker[j];
+              if (transitionOdds == 0) {
+                continue;
+              }
+              final int nextAttackerHits = Math.min(attackerHits + j, m_attacker.m_totalHitPoints);
+              final int nextDefenderHits = Math.min(defenderHits + i, m_defender.m_totalHitPoints);
+              final WhoWon whoWon = getWinner(round, nextAttackerHits, nextDefenderHits);
+              if (whoWon == null) {
+                nextOdds[nextAttackerHits][nextDefenderHits] += transitionOdds;
+              } else {
+                outcomes.add(m_attacker.getCasualties(nextAttackerHits), m_defender.getCasualties(nextDefenderHits),
+                    whoWon, transitionOdds, transitionOdds * round);
+              }
+            }
+          }
+        }
+      }
+      odds = nextOdds;
+    }
+  }
+
+  /**
+   * The round by which every battle will have ended, or 0 if there is no such round.
+   */
+  private int getLastRound() {
+    int lastRound = m_maxRounds > 0 ? m_maxRounds : Integer.MAX_VALUE;
+    if (m_retreatAfterRound > -1) {
+      lastRound = Math.min(lastRound, Math.max(1, m_retreatAfterRound));
+    }
+    return lastRound == Integer.MAX_VALUE ? 0 : lastRound;
+  }
+
+  /**
+   * The odds of a side scoring each number of hits in one round.
+   */
+  private double[] getHitOdds(final Side side, final int casualties) {
+    if (side.m_hitOdds[casualties] != null) {
+      return side.m_hitOdds[casualties];
+    }
+    double[] odds;
+    if (m_lowLuck) {
+      final int power = side.getPower(casualties);
+      final double rollFor = (double) (power % m_diceSides) / m_diceSides;
+      odds = new double[power / m_diceSides + 2];
+      odds[power / m_diceSides] = 1 - rollFor;
+      odds[power / m_diceSides + 1] = rollFor;
+    } else {
+      final int[] strengths = side.getStrengths(casualties);
+      final int[] rolls = side.getRolls(casualties);
+      final boolean[] chooseBestRoll = side.getChooseBestRoll(casualties);
+      odds = new double[] {1};
+      for (int i = 0; i < strengths.length; i++) {
+        final double miss = (double) Math.max(0, m_diceSides - strengths[i]) / m_diceSides;
+        if (chooseBestRoll[i]) {
+          odds = addDie(odds, 1 - Math.pow(miss, rolls[i]));
+        } else {
+          for (int j = 0; j < rolls[i]; j++) {
+            odds = addDie(odds, 1 - miss);
+          }
+        }
+      }
+    }
+    side.m_hitOdds[casualties] = odds;
+    return odds;
+  }
+
+  private static double[] addDie(final double[] odds, final double hit) {
+    final double[] result = new double[odds.length + 1];
+    for (int i = 0; i < odds.length; i++) {
+      result[i] += odds[i] * (1 - hit);
+      result[i + 1] += odds[i] * hit;
+    }
+    return result;
+  }
+
+  /**
+   * Returns who has won once the sides have taken the given hits in the given round, or null if the battle goes on.
+   */
+  private WhoWon getWinner(final int round, final int attackerHits, final int defenderHits) {
+    final int attackersLost = m_attacker.getCasualties(attackerHits);
+    final int defendersLost = m_defender.getCasualties(defenderHits);
+    if (attackersLost == m_attacker.m_units.length) {
+      return WhoWon.DEFENDER;
+    }
+    if (defendersLost == m_defender.m_units.length) {
+      return WhoWon.ATTACKER;
+    }
+    if (m_maxRounds > 0 && m_maxRounds <= round) {
+      return WhoWon.DRAW;
+    }
+    if (shouldAttackerRetreat(round, attackersLost, defendersLost, attackerHits, defenderHits)) {
+      // retreating units still count as remaining, but the defender has won
+      return WhoWon.DEFENDER;
+    }
+    return null;
+  }
+
+  private int roll(final Side side, final int casualties, final LocalRandomSource random) {
+    if (m_lowLuck) {
+      final int power = side.getPower(casualties);
+      int hits = power / m_diceSides;
+      final int rollFor = power % m_diceSides;
+      if (rollFor > 0 && rollFor > random.getRandom(m_diceSides, ANNOTATION)) {
+        hits++;
+      }
+      return hits;
+    }
+    final int[] strengths = side.getStrengths(casualties);
+    final int[] rolls = side.getRolls(casualties);
+    final boolean[] chooseBestRoll = side.getChooseBestRoll(casualties);
+    int hits = 0;
+    for (int i = 0; i < strengths.length; i++) {
+      if (chooseBestRoll[i]) {
+        int best = m_diceSides;
+        for (int j = 0; j < rolls[i]; j++) {
+          best = Math.min(best, random.getRandom(m_diceSides, ANNOTATION));
+        }
+        if (strengths[i] > best) {
+          hits++;
+        }
+      } else {
+        for (int j = 0; j < rolls[i]; j++) {
+          if (strengths[i] > random.getRandom(m_diceSides, ANNOTATION)) {
+            hits++;
+          }
+        }
+      }
+    }
+    return hits;
+  }
+
+  /**
+   * Mirrors the retreat decisions made by the battle calculator's dummy player.
+   */
+  private boolean shouldAttackerRetreat(final int round, final int attackersLost, final int defendersLost,
+      final int attackerHits, final int defenderHits) {
+    if (m_retreatAfterRound > -1 && round >= m_retreatAfterRound) {
+      return true;
+    }
+    final int unitsLeft = m_attacker.m_units.length - attackersLost;
+    if (m_retreatWhenOnlyAirLeft) {
+      int retreatNum = m_attacker.m_airLeft[attackersLost];
+      if (m_retreatAfterXUnitsLeft > 0) {
+        retreatNum += m_retreatAfterXUnitsLeft;
+      }
+      if (retreatNum >= unitsLeft) {
+        return true;
+      }
+    }
+    if (m_retreatAfterXUnitsLeft > -1 && m_retreatAfterXUnitsLeft >= unitsLeft) {
+      return true;
+    }
+    if (m_retreatWhenMetaPowerIsLower) {
+      final int ourMetaPower = BattleCalculator.getNormalizedMetaPower(m_attacker.getPower(attackersLost),
+          m_attacker.m_totalHitPoints - attackerHits, m_diceSides);
+      final int enemyMetaPower = BattleCalculator.getNormalizedMetaPower(m_defender.getPower(defendersLost),
+          m_defender.m_totalHitPoints - defenderHits, m_diceSides);
+      if (ourMetaPower < enemyMetaPower) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private BattleResults getResults(final int round, final int attackersLost, final int defendersLost,
+      final WhoWon whoWon) {
+    return new BattleResults(round, m_attacker.getRemainingUnits(attackersLost),
+        m_defender.getRemainingUnits(defendersLost), whoWon, m_data);
+  }
+
+  /**
+   * Collects the odds of each way a battle can end.
+   */
+  private final class Outcomes {
+    private final double[][][] m_odds =
+        new double[m_attacker.m_units.length + 1][m_defender.m_units.length + 1][WhoWon.values().length];
+    private final double[][][] m_rounds =
+        new double[m_attacker.m_units.length + 1][m_defender.m_units.length + 1][WhoWon.values().length];
+
+    void add(final int attackersLost, final int defendersLost, final WhoWon whoWon, final double odds,
+        final double rounds) {
+      m_odds[attackersLost][defendersLost][whoWon.ordinal()] += odds;
+      m_rounds[attackersLost][defendersLost][whoWon.ordinal()] += rounds;
+    }
+
+    ExactAggregateResults getResults() {
+      final List<BattleResults> outcomes = new ArrayList<BattleResults>();
+      final List<Double> odds = new ArrayList<Double>();
+      double rounds = 0;
+      for (int attackersLost = 0; attackersLost < m_odds.length; attackersLost++) {
+        for (int defendersLost = 0; defendersLost < m_odds[0].length; defendersLost++) {
+          for (final WhoWon whoWon : WhoWon.values()) {
+            final double outcomeOdds = m_odds[attackersLost][defendersLost][whoWon.ordinal()];
+            if (outcomeOdds <= 0) {
+              continue;
+            }
+            final double outcomeRounds = m_rounds[attackersLost][defendersLost][whoWon.ordinal()];
+            outcomes.add(BattleSimulator.this.getResults((int) Math.max(1, Math.round(outcomeRounds / outcomeOdds)),
+                attackersLost, defendersLost, whoWon));
+            odds.add(outcomeOdds);
+            rounds += outcomeRounds;
+          }
+        }
+      }
+      final double[] oddsArray = new double[odds.size()];
+      for (int i = 0; i < oddsArray.length; i++) {
+        oddsArray[i] = odds.get(i);
+      }
+      return new ExactAggregateResults(outcomes, oddsArray, rounds);
+    }
+  }
+
+  private static boolean canSimulate(final Collection<Unit> units, final boolean defending, final PlayerID attacker,
+      final Territory location, final GameData data) {
+    final boolean isWater = location.isWater();
+    for (final Unit unit : units) {
+      final UnitAttachment ua = UnitAttachment.get(unit.getType());
+      if (ua.getIsSub() || ua.getIsAAforCombatOnly() || ua.getIsInfrastructure() || ua.getIsSuicide()
+          || ua.getIsAirTransport() || (ua.getIsSea() && ua.getTransportCapacity() > 0)) {
+        return false;
+      }
+      if (isWater ? Matches.UnitIsLand.match(unit) : ua.getIsSea()) {
+        return false;
+      }
+      // units that can not hit would need the rules for units that can not roll
+      final int strength = defending ? ua.getDefense(unit.getOwner()) : ua.getAttack(unit.getOwner());
+      final int rolls = defending ? ua.getDefenseRolls(unit.getOwner()) : ua.getAttackRolls(unit.getOwner());
+      if (strength <= 0 || rolls <= 0) {
+        return false;
+      }
+      if (Matches.UnitIsDisabled.match(unit) || Matches.unitIsBeingTransported().match(unit)
+          || Matches.UnitWasInAirBattle.match(unit) || ((TripleAUnit) unit).getWasAmphibious()
+          || Matches.UnitCanBeCapturedOnEnteringToInThisTerritory(attacker, location, data).match(unit)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Support given by enemy units would make each side's dice depend on the other side's casualties as well.
+   */
+  private static boolean hasEnemySupport(final Collection<Unit> supportingUnits, final boolean receiverIsDefending,
+      final GameData data) {
+    final Set<List<UnitSupportAttachment>> supportRules = new HashSet<List<UnitSupportAttachment>>();
+    DiceRoll.getSupport(new ArrayList<Unit>(supportingUnits), supportRules, new IntegerMap<UnitSupportAttachment>(),
+        new HashMap<UnitSupportAttachment, LinkedIntegerMap<Unit>>(), data, receiverIsDefending, false);
+    return !supportRules.isEmpty();
+  }
+
+  private static List<Unit> getCasualtyOrder(final Collection<Unit> units, final boolean defending,
+      final PlayerID player, final Collection<Unit> enemyUnits, final Territory location,
+      final Collection<TerritoryEffect> territoryEffects, final List<Unit> orderOfLosses, final GameData data) {
+    final List<Unit> order = new ArrayList<Unit>();
+    if (orderOfLosses != null) {
+      for (final Unit unit : orderOfLosses) {
+        if (units.contains(unit)) {
+          order.add(unit);
+        }
+      }
+    }
+    for (final Unit unit : BattleCalculator.getDefaultCasualtyOrder(units, defending, player, enemyUnits, location,
+        territoryEffects, data)) {
+      if (!order.contains(unit)) {
+        order.add(unit);
+      }
+    }
+    return order;
+  }
+
+  /**
+   * One side of the battle. Everything that depends on which units are left is indexed by the number of units lost,
+   * and is only worked out the first time a trial reaches that many casualties.
+   */
+  private static final class Side {
+    private final Unit[] m_units;
+    private final List<Unit> m_enemyUnits;
+    private final boolean m_defending;
+    private final Territory m_location;
+    private final Collection<TerritoryEffect> m_territoryEffects;
+    private final GameData m_data;
+    // hits that only damage units, and are taken before any unit is lost
+    private final int m_extraHitPoints;
+    private final int m_totalHitPoints;
+    private final int[] m_airLeft;
+    private final int[][] m_strengths;
+    private final int[][] m_rolls;
+    private final boolean[][] m_chooseBestRoll;
+    private final int[] m_power;
+    private final List<Unit>[] m_remainingUnits;
+    // only filled in when the battle is solved exactly
+    private final double[][] m_hitOdds;
+
+    @SuppressWarnings("unchecked")
+    Side(final List<Unit> casualtyOrder, final Collection<Unit> enemyUnits, final boolean defending,
+        final Territory location, final Collection<TerritoryEffect> territoryEffects, final GameData data) {
+      m_units = casualtyOrder.toArray(new Unit[casualtyOrder.size()]);
+      m_enemyUnits = new ArrayList<Unit>(enemyUnits);
+      m_defending = defending;
+      m_location = location;
+      m_territoryEffects = territoryEffects;
+      m_data = data;
+      int extraHitPoints = 0;
+      for (final Unit unit : m_units) {
+        extraHitPoints += Math.max(0, UnitAttachment.get(unit.getType()).getHitPoints() - (1 + unit.getHits()));
+      }
+      m_extraHitPoints = extraHitPoints;
+      m_totalHitPoints = extraHitPoints + m_units.length;
+      m_airLeft = new int[m_units.length + 1];
+      for (int i = m_units.length - 1; i >= 0; i--) {
+        m_airLeft[i] = m_airLeft[i + 1] + (Matches.UnitIsAir.match(m_units[i]) ? 1 : 0);
+      }
+      m_strengths = new int[m_units.length + 1][];
+      m_rolls = new int[m_units.length + 1][];
+      m_chooseBestRoll = new boolean[m_units.length + 1][];
+      m_power = new int[m_units.length + 1];
+      m_remainingUnits = new List[m_units.length + 1];
+      m_hitOdds = new double[m_units.length + 1][];
+    }
+
+    int getCasualties(final int hits) {
+      return Math.min(Math.max(0, hits - m_extraHitPoints), m_units.length);
+    }
+
+    int[] getStrengths(final int casualties) {
+      compile(casualties);
+      return m_strengths[casualties];
+    }
+
+    int[] getRolls(final int casualties) {
+      compile(casualties);
+      return m_rolls[casualties];
+    }
+
+    boolean[] getChooseBestRoll(final int casualties) {
+      compile(casualties);
+      return m_chooseBestRoll[casualties];
+    }
+
+    int getPower(final int casualties) {
+      compile(casualties);
+      return m_power[casualties];
+    }
+
+    List<Unit> getRemainingUnits(final int casualties) {
+      if (m_remainingUnits[casualties] == null) {
+        final List<Unit> remaining = new ArrayList<Unit>(m_units.length - casualties);
+        for (int i = casualties; i < m_units.length; i++) {
+          remaining.add(m_units[i]);
+        }
+        // shared by every result that ends with these units left
+        m_remainingUnits[casualties] = Collections.unmodifiableList(remaining);
+      }
+      return m_remainingUnits[casualties];
+    }
+
+    private void compile(final int casualties) {
+      if (m_strengths[casualties] != null) {
+        return;
+      }
+      final List<Unit> units = new ArrayList<Unit>(m_units.length - casualties);
+      for (int i = casualties; i < m_units.length; i++) {
+        units.add(m_units[i]);
+      }
+      // the same order the dice are rolled in, so support goes to the same units
+      DiceRoll.sortByStrength(units, m_defending);
+      final Map<Unit, Tuple<Integer, Integer>> powerAndRolls = DiceRoll.getUnitPowerAndRollsForNormalBattles(units,
+          m_enemyUnits, m_defending, false, m_data, m_location, m_territoryEffects, false, new ArrayList<Unit>());
+      final boolean lhtrBombers = games.strategy.triplea.Properties.getLHTR_Heavy_Bombers(m_data);
+      final int[] strengths = new int[units.size()];
+      final int[] rolls = new int[units.size()];
+      final boolean[] chooseBestRoll = new boolean[units.size()];
+      for (int i = 0; i < units.size(); i++) {
+        final Unit unit = units.get(i);
+        final Tuple<Integer, Integer> unitPowerAndRolls = powerAndRolls.get(unit);
+        if (unitPowerAndRolls.getFirst() <= 0 || unitPowerAndRolls.getSecond() <= 0) {
+          continue;
+        }
+        strengths[i] = unitPowerAndRolls.getFirst();
+        rolls[i] = unitPowerAndRolls.getSecond();
+        chooseBestRoll[i] =
+            rolls[i] > 1 && (lhtrBombers || UnitAttachment.get(unit.getType()).getChooseBestRoll());
+      }
+      m_power[casualties] = DiceRoll.getTotalPower(powerAndRolls, m_data);
+      m_rolls[casualties] = rolls;
+      m_chooseBestRoll[casualties] = chooseBestRoll;
+      m_strengths[casualties] = strengths;
+    }
+  }
+}
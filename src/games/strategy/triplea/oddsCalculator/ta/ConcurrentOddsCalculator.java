@@ -1,5 +1,6 @@
 package games.strategy.triplea.oddsCalculator.ta;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,7 +24,8 @@ import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.TerritoryEffect;
 import games.strategy.engine.data.Unit;
-import games.strategy.engine.framework.GameDataUtils;
+import games.strategy.engine.framework.GameDataSnapshot;
+import games.strategy.engine.random.LocalRandomSource;
 import games.strategy.util.CountUpAndDownLatch;
 
 /**
@@ -55,6 +57,9 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
   // do not let multiple calculations or setting calc data happen at same time
   private final Object m_mutexCalcIsRunning = new Object();
   private final List<OddsCalculatorListener> m_listeners = new ArrayList<OddsCalculatorListener>();
+  // null = seed the workers' dice randomly
+  private volatile Long m_randomSeed = null;
+  private volatile boolean m_calculateExactOdds = false;
 
   public ConcurrentOddsCalculator(final String threadNamePrefix) {
     m_executor = Executors.newFixedThreadPool(MAX_THREADS,
@@ -136,60 +141,64 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
       // see how long 1 copy takes (some games can get REALLY big)
       final long startTime = System.currentTimeMillis();
       final long startMemory = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+      final GameDataSnapshot snapshot;
       final GameData newData;
-      try { // make first copy, then release lock on it so game can continue (ie: we don't want to lock on it while we
-            // copy it 16 times,
-            // when once is enough)
-        // don't let the data change while we make the first copy
-        data.acquireReadLock();
-        newData = GameDataUtils.cloneGameData(data, false);
-      } finally {
-        data.releaseReadLock();
+      try {
+        // the data is only locked while the snapshot is taken, the copies are all made from the snapshot afterwards
+        // (without any history, which the workers do not need)
+        snapshot = data.snapshot();
+        newData = snapshot.newGameData();
+      } catch (final IOException e) {
+        s_logger.log(Level.SEVERE, "Could not copy game data for battle calculator workers", e);
+        finishCreatingWorkers(false);
+        return;
       }
       m_currentThreads = getThreadsToUse((System.currentTimeMillis() - startTime), startMemory);
-      try {
-        // make sure all workers are using the same data
-        newData.acquireReadLock();
-        int i = 0;
-        if (m_currentThreads <= 2 || MAX_THREADS <= 2) // we are already in 1 executor thread, so we have MAX_THREADS-1
-                                                       // threads left to use
-        { // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
-          // only 1 more copy to
-          // make)
-          while (m_cancelCurrentOperation >= 0 && i < m_currentThreads) {
-            // the last one will use our already copied data from above, without copying it again
-            m_workers.add(new OddsCalculator(newData, (m_currentThreads == ++i)));
-          }
-        } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
-          final CountDownLatch workerLatch = new CountDownLatch(m_currentThreads - 1);
-          while (i < (m_currentThreads - 1)) {
-            ++i;
-            m_executor.submit(new Runnable() {
-              @Override
-              public void run() {
+      int i = 0;
+      if (m_currentThreads <= 2 || MAX_THREADS <= 2) // we are already in 1 executor thread, so we have MAX_THREADS-1
+                                                     // threads left to use
+      { // if 2 or fewer threads, do not multi-thread the copying (we have already copied it once above, so at most
+        // only 1 more copy to
+        // make)
+        while (m_cancelCurrentOperation >= 0 && i < m_currentThreads) {
+          // the last one will use our already copied data from above, without copying it again
+          m_workers.add(new OddsCalculator((m_currentThreads == ++i) ? newData : copyOf(snapshot), true));
+        }
+      } else { // multi-thread our copying, cus why the heck not (it increases the speed of copying by about double)
+        final CountDownLatch workerLatch = new CountDownLatch(m_currentThreads - 1);
+        while (i < (m_currentThreads - 1)) {
+          ++i;
+          m_executor.submit(new Runnable() {
+            @Override
+            public void run() {
+              try {
                 if (m_cancelCurrentOperation >= 0) {
-                  m_workers.add(new OddsCalculator(newData, false));
+                  m_workers.add(new OddsCalculator(copyOf(snapshot), true));
                 }
+              } finally {
                 workerLatch.countDown();
               }
-            });
-          }
-          // the last one will use our already copied data from above, without copying it again
-          m_workers.add(new OddsCalculator(newData, true));
-          try {
-            workerLatch.await();
-          } catch (final InterruptedException e) {
-          }
+            }
+          });
+        }
+        // the last one will use our already copied data from above, without copying it again
+        m_workers.add(new OddsCalculator(newData, true));
+        try {
+          workerLatch.await();
+        } catch (final InterruptedException e) {
         }
-      } finally {
-        newData.releaseReadLock();
       }
     }
-    if (m_cancelCurrentOperation < 0 || data == null) {
+    finishCreatingWorkers(data != null);
+  }
+
+  private void finishCreatingWorkers(final boolean dataCopied) {
+    if (m_cancelCurrentOperation < 0 || !dataCopied) {
       // we could have cancelled while setting data, so clear the workers again if so
       m_workers.clear();
       m_isDataSet = false;
     } else {
+      seedWorkers();
       // should make sure that all workers have their game data set before we can call calculate and other things
       m_isDataSet = true;
       notifyListenersGameDataIsSet();
@@ -201,6 +210,26 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     s_logger.fine("Initialized worker thread pool with size: " + m_workers.size());
   }
 
+  private static GameData copyOf(final GameDataSnapshot snapshot) {
+    try {
+      return snapshot.newGameData();
+    } catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Gives every worker its own unshared dice, split off from one master source so that the workers never contend on
+   * a lock when rolling, and so that a seeded calculator always produces the same results.
+   */
+  private void seedWorkers() {
+    final Long seed = m_randomSeed;
+    final LocalRandomSource master = (seed == null ? new LocalRandomSource() : new LocalRandomSource(seed));
+    for (final OddsCalculator worker : m_workers) {
+      worker.setRandomSource(master.split());
+    }
+  }
+
   @Override
   public void shutdown() {
     m_isShutDown = true;
@@ -263,6 +292,14 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     synchronized (m_mutexCalcIsRunning) {
       awaitLatch();
       final long start = System.currentTimeMillis();
+      if (m_calculateExactOdds && getIsReady() && !m_workers.isEmpty()) {
+        // every worker has the same battle, so one of them can solve it on its own
+        final AggregateResults exact = m_workers.get(0).calculateExactly();
+        if (exact != null) {
+          exact.setTime(System.currentTimeMillis() - start);
+          return exact;
+        }
+      }
       // Create worker thread pool and start all workers
       int totalRunCount = 0;
       final List<Future<AggregateResults>> list = new ArrayList<Future<AggregateResults>>();
@@ -427,6 +464,20 @@ public class ConcurrentOddsCalculator implements IOddsCalculator {
     }
   }
 
+  @Override
+  public void setRandomSeed(final long seed) {
+    synchronized (m_mutexCalcIsRunning) {
+      awaitLatch();
+      m_randomSeed = seed;
+      seedWorkers();
+    }
+  }
+
+  @Override
+  public void setCalculateExactOdds(final boolean exact) {
+    m_calculateExactOdds = exact;
+  }
+
   // not on purpose, we need to be able to cancel at any time
   @Override
   public void cancel() {
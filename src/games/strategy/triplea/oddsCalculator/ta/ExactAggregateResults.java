@@ -0,0 +1,161 @@
+package games.strategy.triplea.oddsCalculator.ta;
+
+import java.util.List;
+
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.delegate.BattleCalculator;
+import games.strategy.util.IntegerMap;
+import games.strategy.util.Tuple;
+
+/**
+ * The odds of a battle that were worked out exactly instead of by fighting the battle many times.
+ * Every way the battle can end is held once, together with the odds of it ending that way, and all averages are
+ * weighted by those odds.
+ */
+public class ExactAggregateResults extends AggregateResults {
+  private static final long serialVersionUID = 4265170582361453823L;
+  private final double[] m_odds;
+  private final double m_averageBattleRoundsFought;
+
+  /**
+   * @param odds
+   *        the odds of each outcome, in the same order as the outcomes, adding up to 1
+   */
+  ExactAggregateResults(final List<BattleResults> outcomes, final double[] odds,
+      final double averageBattleRoundsFought) {
+    super(outcomes.size());
+    if (outcomes.size() != odds.length) {
+      throw new IllegalArgumentException("Need the odds of every outcome");
+    }
+    addResults(outcomes);
+    m_odds = odds;
+    m_averageBattleRoundsFought = averageBattleRoundsFought;
+  }
+
+  /**
+   * The odds of the battle ending like the given result from getResults().
+   */
+  public double getOdds(final int index) {
+    return m_odds[index];
+  }
+
+  @Override
+  public BattleResults GetBattleResultsClosestToAverage() {
+    final double averageAttackingUnitsLeft = getAverageAttackingUnitsLeft();
+    final double averageDefendingUnitsLeft = getAverageDefendingUnitsLeft();
+    double closestBattleDif = Integer.MAX_VALUE;
+    BattleResults closestBattle = null;
+    for (final BattleResults results : getResults()) {
+      double dif = Math.abs(results.getAttackingCombatUnitsLeft() - averageAttackingUnitsLeft);
+      dif += Math.abs(results.getDefendingCombatUnitsLeft() - averageDefendingUnitsLeft);
+      if (dif < closestBattleDif) {
+        closestBattleDif = dif;
+        closestBattle = results;
+      }
+    }
+    return closestBattle;
+  }
+
+  @Override
+  public double getAverageAttackingUnitsLeft() {
+    double count = 0;
+    for (int i = 0; i < m_odds.length; i++) {
+      count += m_odds[i] * getResults().get(i).getAttackingCombatUnitsLeft();
+    }
+    return count;
+  }
+
+  @Override
+  public double getAverageAttackingUnitsLeftWhenAttackerWon() {
+    double count = 0;
+    double total = 0;
+    for (int i = 0; i < m_odds.length; i++) {
+      final BattleResults result = getResults().get(i);
+      if (result.attackerWon()) {
+        count += m_odds[i] * result.getAttackingCombatUnitsLeft();
+        total += m_odds[i];
+      }
+    }
+    if (total <= 0) {
+      return 0;
+    }
+    return count / total;
+  }
+
+  @Override
+  public double getAverageDefendingUnitsLeft() {
+    double count = 0;
+    for (int i = 0; i < m_odds.length; i++) {
+      count += m_odds[i] * getResults().get(i).getDefendingCombatUnitsLeft();
+    }
+    return count;
+  }
+
+  @Override
+  public double getAverageDefendingUnitsLeftWhenDefenderWon() {
+    double count = 0;
+    double total = 0;
+    for (int i = 0; i < m_odds.length; i++) {
+      final BattleResults result = getResults().get(i);
+      if (result.defenderWon()) {
+        count += m_odds[i] * result.getDefendingCombatUnitsLeft();
+        total += m_odds[i];
+      }
+    }
+    if (total <= 0) {
+      return 0;
+    }
+    return count / total;
+  }
+
+  @Override
+  public Tuple<Double, Double> getAverageTUVofUnitsLeftOver(final IntegerMap<UnitType> attackerCostsForTUV,
+      final IntegerMap<UnitType> defenderCostsForTUV) {
+    double attackerTUV = 0;
+    double defenderTUV = 0;
+    for (int i = 0; i < m_odds.length; i++) {
+      final BattleResults result = getResults().get(i);
+      attackerTUV += m_odds[i] * BattleCalculator.getTUV(result.getRemainingAttackingUnits(), attackerCostsForTUV);
+      defenderTUV += m_odds[i] * BattleCalculator.getTUV(result.getRemainingDefendingUnits(), defenderCostsForTUV);
+    }
+    return Tuple.of(attackerTUV, defenderTUV);
+  }
+
+  @Override
+  public double getAttackerWinPercent() {
+    double count = 0;
+    for (int i = 0; i < m_odds.length; i++) {
+      if (getResults().get(i).attackerWon()) {
+        count += m_odds[i];
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public double getDefenderWinPercent() {
+    double count = 0;
+    for (int i = 0; i < m_odds.length; i++) {
+      if (getResults().get(i).defenderWon()) {
+        count += m_odds[i];
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public double getDrawPercent() {
+    double count = 0;
+    for (int i = 0; i < m_odds.length; i++) {
+      if (getResults().get(i).draw()) {
+        count += m_odds[i];
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public double getAverageBattleRoundsFought() {
+    return m_averageBattleRoundsFought;
+  }
+}
@@ -44,6 +44,18 @@ public interface IOddsCalculator {
 
   public void setDefenderOrderOfLosses(final String defenderOrderOfLosses);
 
+  /**
+   * Seeds the dice used by the calculator, so that the same sequence of calculations can be replayed with the same
+   * results.
+   */
+  public void setRandomSeed(final long seed);
+
+  /**
+   * Whether to work out the exact odds of battles that are simple enough, instead of fighting them the set number of
+   * times. Battles that can not be solved exactly are still fought as usual.
+   */
+  public void setCalculateExactOdds(final boolean exact);
+
   public void cancel();
 
   public void shutdown();
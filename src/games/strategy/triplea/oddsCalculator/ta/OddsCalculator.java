@@ -31,7 +31,8 @@ import games.strategy.engine.gamePlayer.IRemotePlayer;
 import games.strategy.engine.history.DelegateHistoryWriter;
 import games.strategy.engine.history.IDelegateHistoryWriter;
 import games.strategy.engine.random.IRandomStats.DiceType;
-import games.strategy.engine.random.PlainRandomSource;
+import games.strategy.engine.random.IRandomSource;
+import games.strategy.engine.random.LocalRandomSource;
 import games.strategy.net.GUID;
 import games.strategy.sound.DummySoundChannel;
 import games.strategy.sound.ISound;
@@ -83,13 +84,18 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
   private volatile boolean m_isCalcSet = false;
   private volatile boolean m_isRunning = false;
   private final List<OddsCalculatorListener> m_listeners = new ArrayList<OddsCalculatorListener>();
+  // each calculator is only ever run by one thread at a time, so it gets its own unshared dice
+  private LocalRandomSource m_randomSource = new LocalRandomSource();
+  private boolean m_useBattleSimulator = true;
+  private boolean m_calculateExactOdds = false;
 
   public OddsCalculator(final GameData data) {
     this(data, false);
   }
 
   public OddsCalculator(final GameData data, final boolean dataHasAlreadyBeenCloned) {
-    m_data = data == null ? null : (dataHasAlreadyBeenCloned ? data : GameDataUtils.cloneGameData(data, false));
+    m_data = data == null ? null
+        : (dataHasAlreadyBeenCloned ? data : GameDataUtils.cloneGameData(data, false, false));
     if (data != null) {
       m_isDataSet = true;
       notifyListenersGameDataIsSet();
@@ -103,7 +109,7 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
     }
     m_isDataSet = false;
     m_isCalcSet = false;
-    m_data = (data == null ? null : GameDataUtils.cloneGameData(data, false));
+    m_data = (data == null ? null : GameDataUtils.cloneGameData(data, false, false));
     // reset old data
     m_attacker = null;
     m_defender = null;
@@ -222,6 +228,28 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
     m_defenderOrderOfLosses = defenderOrderOfLosses;
   }
 
+  @Override
+  public void setRandomSeed(final long seed) {
+    m_randomSource.setSeed(seed);
+  }
+
+  void setRandomSource(final LocalRandomSource randomSource) {
+    m_randomSource = randomSource;
+  }
+
+  /**
+   * Whether plain battles may be fought by the BattleSimulator instead of a MustFightBattle. Only turned off to
+   * compare the two.
+   */
+  void setUseBattleSimulator(final boolean useBattleSimulator) {
+    m_useBattleSimulator = useBattleSimulator;
+  }
+
+  @Override
+  public void setCalculateExactOdds(final boolean exact) {
+    m_calculateExactOdds = exact;
+  }
+
   @Override
   public void cancel() {
     m_cancelled = true;
@@ -240,7 +268,45 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
     return 1;
   }
 
+  /**
+   * Works out the exact odds of the battle that has been set, or returns null if it is not a battle that can be solved
+   * exactly.
+   */
+  AggregateResults calculateExactly() {
+    if (!getIsReady()) {
+      throw new IllegalStateException("Called calculate before setting calculate data!");
+    }
+    m_isRunning = true;
+    final long start = System.currentTimeMillis();
+    final BattleSimulator simulator =
+        compileSimulator(OddsCalculator.getUnitListByOrderOfLoss(m_attackerOrderOfLosses, m_attackingUnits, m_data),
+            OddsCalculator.getUnitListByOrderOfLoss(m_defenderOrderOfLosses, m_defendingUnits, m_data));
+    final AggregateResults rVal = simulator == null ? null : simulator.solve();
+    if (rVal != null) {
+      rVal.setTime(System.currentTimeMillis() - start);
+    }
+    m_isRunning = false;
+    return rVal;
+  }
+
+  private BattleSimulator compileSimulator(final List<Unit> attackerOrderOfLosses,
+      final List<Unit> defenderOrderOfLosses) {
+    if (!m_useBattleSimulator) {
+      return null;
+    }
+    return BattleSimulator.compile(m_data, m_attacker, m_defender, m_location, m_attackingUnits, m_defendingUnits,
+        m_bombardingUnits, m_territoryEffects, m_amphibious, m_keepOneAttackingLandUnit, attackerOrderOfLosses,
+        defenderOrderOfLosses, m_retreatAfterRound, m_retreatAfterXUnitsLeft, m_retreatWhenOnlyAirLeft,
+        m_retreatWhenMetaPowerIsLower);
+  }
+
   private AggregateResults calculate(final int count) {
+    if (m_calculateExactOdds) {
+      final AggregateResults exact = calculateExactly();
+      if (exact != null) {
+        return exact;
+      }
+    }
     m_isRunning = true;
     final long start = System.currentTimeMillis();
     final AggregateResults rVal = new AggregateResults(count);
@@ -255,25 +321,14 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
         OddsCalculator.getUnitListByOrderOfLoss(m_attackerOrderOfLosses, m_attackingUnits, m_data);
     final List<Unit> defenderOrderOfLosses =
         OddsCalculator.getUnitListByOrderOfLoss(m_defenderOrderOfLosses, m_defendingUnits, m_data);
+    // plain battles are fought by the simulator, which is much faster as it never touches the game data
+    final BattleSimulator simulator = compileSimulator(attackerOrderOfLosses, defenderOrderOfLosses);
     for (int i = 0; i < count && !m_cancelled; i++) {
-      final CompositeChange allChanges = new CompositeChange();
-      final DummyDelegateBridge bridge1 = new DummyDelegateBridge(m_attacker, m_data, allChanges, attackerOrderOfLosses,
-          defenderOrderOfLosses, m_keepOneAttackingLandUnit, m_retreatAfterRound, m_retreatAfterXUnitsLeft,
-          m_retreatWhenOnlyAirLeft, m_retreatWhenMetaPowerIsLower);
-      final GameDelegateBridge bridge = new GameDelegateBridge(bridge1);
-      final MustFightBattle battle = new MustFightBattle(m_location, m_attacker, m_data, battleTracker);
-      battle.setHeadless(true);
-      battle.isAmphibious();
-      battle.setUnits(m_defendingUnits, m_attackingUnits, m_bombardingUnits,
-          (m_amphibious ? m_attackingUnits : new ArrayList<Unit>()), m_defender, m_territoryEffects);
-      // battle.setAttackingFromAndMap(attackingFromMap);
-      bridge1.setBattle(battle);
-      battle.fight(bridge);
-      rVal.addResult(new BattleResults(battle, m_data));
-      // restore the game to its original state
-      m_data.performChange(allChanges.invert());
-      battleTracker.clear();
-      battleTracker.clearBattleRecords();
+      if (simulator != null) {
+        rVal.addResult(simulator.fight(m_randomSource));
+      } else {
+        rVal.addResult(fightBattle(battleTracker, attackerOrderOfLosses, defenderOrderOfLosses));
+      }
     }
     // BattleCalculator.DisableCasualtySortingCaching();
     rVal.setTime(System.currentTimeMillis() - start);
@@ -282,6 +337,29 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
     return rVal;
   }
 
+  private BattleResults fightBattle(final BattleTracker battleTracker, final List<Unit> attackerOrderOfLosses,
+      final List<Unit> defenderOrderOfLosses) {
+    final CompositeChange allChanges = new CompositeChange();
+    final DummyDelegateBridge bridge1 = new DummyDelegateBridge(m_attacker, m_data, allChanges, m_randomSource,
+        attackerOrderOfLosses, defenderOrderOfLosses, m_keepOneAttackingLandUnit, m_retreatAfterRound,
+        m_retreatAfterXUnitsLeft, m_retreatWhenOnlyAirLeft, m_retreatWhenMetaPowerIsLower);
+    final GameDelegateBridge bridge = new GameDelegateBridge(bridge1);
+    final MustFightBattle battle = new MustFightBattle(m_location, m_attacker, m_data, battleTracker);
+    battle.setHeadless(true);
+    battle.isAmphibious();
+    battle.setUnits(m_defendingUnits, m_attackingUnits, m_bombardingUnits,
+        (m_amphibious ? m_attackingUnits : new ArrayList<Unit>()), m_defender, m_territoryEffects);
+    // battle.setAttackingFromAndMap(attackingFromMap);
+    bridge1.setBattle(battle);
+    battle.fight(bridge);
+    final BattleResults results = new BattleResults(battle, m_data);
+    // restore the game to its original state
+    m_data.performChange(allChanges.invert());
+    battleTracker.clear();
+    battleTracker.clearBattleRecords();
+    return results;
+  }
+
   public static boolean isValidOrderOfLoss(final String orderOfLoss, final GameData data) {
     if (orderOfLoss == null || orderOfLoss.trim().length() == 0) {
       return true;
@@ -386,7 +464,7 @@ public class OddsCalculator implements IOddsCalculator, Callable<AggregateResult
 
 
 class DummyDelegateBridge implements IDelegateBridge {
-  private final PlainRandomSource m_randomSource = new PlainRandomSource();
+  private final IRandomSource m_randomSource;
   private final DummyTripleADisplay m_display = new DummyTripleADisplay();
   private final DummySoundChannel m_soundChannel = new DummySoundChannel();
   private final DummyPlayer m_attackingPlayer;
@@ -398,7 +476,7 @@ class DummyDelegateBridge implements IDelegateBridge {
   private MustFightBattle m_battle = null;
 
   public DummyDelegateBridge(final PlayerID attacker, final GameData data, final CompositeChange allChanges,
-      final List<Unit> attackerOrderOfLosses, final List<Unit> defenderOrderOfLosses,
+      final IRandomSource randomSource, final List<Unit> attackerOrderOfLosses, final List<Unit> defenderOrderOfLosses,
       final boolean attackerKeepOneLandUnit, final int retreatAfterRound, final int retreatAfterXUnitsLeft,
       final boolean retreatWhenOnlyAirLeft, final boolean retreatWhenMetaPowerIsLower) {
     m_attackingPlayer =
@@ -409,6 +487,7 @@ class DummyDelegateBridge implements IDelegateBridge {
     m_data = data;
     m_attacker = attacker;
     m_allChanges = allChanges;
+    m_randomSource = randomSource;
   }
 
   @Override
@@ -497,6 +576,10 @@ class DummyDelegateBridge implements IDelegateBridge {
   public void setBattle(final MustFightBattle battle) {
     m_battle = battle;
   }
+
+  public IRandomSource getRandomSource() {
+    return m_randomSource;
+  }
 }
 
 
@@ -764,7 +847,7 @@ class DummyPlayer extends AbstractAI {
       final int diceSides) {
     final int[] dice = new int[numRolls];
     for (int i = 0; i < numRolls; i++) {
-      dice[i] = (int) Math.ceil(Math.random() * diceSides);
+      dice[i] = m_bridge.getRandomSource().getRandom(diceSides, message) + 1;
     }
     return dice;
   }
@@ -97,6 +97,7 @@ public class MapData {
   private Map<String, List<Point>> m_place;
   // maps String -> Collection of Polygons
   private Map<String, List<Polygon>> m_polys;
+  private TerritoryPolygonIndex m_territoryIndex;
   // maps String -> Point
   private Map<String, Point> m_centers;
   // maps String -> Point
@@ -160,6 +161,7 @@ public class MapData {
       m_territoryEffects =
           PointFileReaderWriter.readOneToMany(loader.getResourceAsStream(prefix + TERRITORY_EFFECT_FILE));
       m_polys = PointFileReaderWriter.readOneToManyPolygons(loader.getResourceAsStream(prefix + POLYGON_FILE));
+      m_territoryIndex = new TerritoryPolygonIndex(m_polys);
       m_centers = PointFileReaderWriter.readOneToOneCenters(loader.getResourceAsStream(prefix + CENTERS_FILE));
       m_vcPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + VC_MARKERS));
       m_convoyPlace = PointFileReaderWriter.readOneToOne(loader.getResourceAsStream(prefix + CONVOY_MARKERS));
@@ -304,7 +306,7 @@ public class MapData {
     return Math.max(0, Integer.parseInt(stack));
   }
 
-  public boolean shouldDrawTerritoryName(final String territoryName) {
+  public synchronized boolean shouldDrawTerritoryName(final String territoryName) {
     if (m_undrawnTerritoriesNames == null) {
       final String property = m_mapProperties.getProperty(PROPERTY_DONT_DRAW_TERRITORY_NAMES, "");
       m_undrawnTerritoriesNames = new HashSet<String>(Arrays.asList(property.split(",")));
@@ -419,7 +421,7 @@ public class MapData {
     return null;
   }
 
-  public Color getPlayerColor(final String playerName) {
+  public synchronized Color getPlayerColor(final String playerName) {
     // already loaded, just return
     if (m_playerColors.containsKey(playerName)) {
       return m_playerColors.get(playerName);
@@ -596,26 +598,7 @@ public class MapData {
    * Get the territory at the x,y co-ordinates could be null.
    */
   public String getTerritoryAt(final double x, final double y) {
-    String seaName = null;
-    // try to find a land territory.
-    // sea zones often surround a land territory
-    final Iterator<String> keyIter = m_polys.keySet().iterator();
-    while (keyIter.hasNext()) {
-      final String name = keyIter.next();
-      final Collection<Polygon> polygons = m_polys.get(name);
-      final Iterator<Polygon> polyIter = polygons.iterator();
-      while (polyIter.hasNext()) {
-        final Polygon poly = polyIter.next();
-        if (poly.contains(x, y)) {
-          if (Util.isTerritoryNameIndicatingWater(name)) {
-            seaName = name;
-          } else {
-            return name;
-          }
-        }
-      }
-    }
-    return seaName;
+    return m_territoryIndex.getTerritoryAt(x, y);
   }
 
   public Dimension getMapDimensions() {
@@ -730,7 +713,7 @@ public class MapData {
     return rVal;
   }
 
-  public Image getVCImage() {
+  public synchronized Image getVCImage() {
     if (m_vcImage != null) {
       return m_vcImage;
     }
@@ -738,7 +721,7 @@ public class MapData {
     return m_vcImage;
   }
 
-  public Image getBlockadeImage() {
+  public synchronized Image getBlockadeImage() {
     if (m_blockadeImage != null) {
       return m_blockadeImage;
     }
@@ -746,7 +729,7 @@ public class MapData {
     return m_blockadeImage;
   }
 
-  public Image getErrorImage() {
+  public synchronized Image getErrorImage() {
     if (m_errorImage != null) {
       return m_errorImage;
     }
@@ -754,7 +737,7 @@ public class MapData {
     return m_errorImage;
   }
 
-  public Image getWarningImage() {
+  public synchronized Image getWarningImage() {
     if (m_warningImage != null) {
       return m_warningImage;
     }
@@ -762,7 +745,7 @@ public class MapData {
     return m_warningImage;
   }
 
-  public Image getInfoImage() {
+  public synchronized Image getInfoImage() {
     if (m_infoImage != null) {
       return m_infoImage;
     }
@@ -770,7 +753,7 @@ public class MapData {
     return m_infoImage;
   }
 
-  public Image getHelpImage() {
+  public synchronized Image getHelpImage() {
     if (m_helpImage != null) {
       return m_helpImage;
     }
@@ -806,7 +789,7 @@ public class MapData {
     return m_territoryEffects.get(territory.getName());
   }
 
-  public Image getTerritoryEffectImage(final String m_effectName) {
+  public synchronized Image getTerritoryEffectImage(final String m_effectName) {
     if (m_effectImages.get(m_effectName) != null) {
       return m_effectImages.get(m_effectName);
     }
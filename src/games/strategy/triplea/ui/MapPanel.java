@@ -92,6 +92,8 @@ public class MapPanel extends ImageScrollerLargeView {
   private BufferedImage mouseShadowImage = null;
   private String movementLeftForCurrentUnits = "";
   private final IUIContext uiContext;
+  private static final int BACKGROUND_DRAWER_THREADS =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
   private final LinkedBlockingQueue<Tile> undrawnTiles = new LinkedBlockingQueue<Tile>();
   private Map<Territory, List<Unit>> highlightedUnits;
   private Cursor hiddenCursor = null;
@@ -105,9 +107,12 @@ public class MapPanel extends ImageScrollerLargeView {
     this.m_scale = this.uiContext.getScale();
     this.backgroundDrawer = new BackgroundDrawer(this);
     this.tileManager = new TileManager(this.uiContext);
-    final Thread t = new Thread(this.backgroundDrawer, "Map panel background drawer");
-    t.setDaemon(true);
-    t.start();
+    // tiles do not share anything that is not locked while they are drawn, so several can be drawn at once
+    for (int i = 0; i < BACKGROUND_DRAWER_THREADS; i++) {
+      final Thread t = new Thread(this.backgroundDrawer, "Map panel background drawer " + i);
+      t.setDaemon(true);
+      t.start();
+    }
     setDoubleBuffered(false);
     this.smallView = smallView;
     this.smallMapImageManager =
@@ -137,6 +142,8 @@ public class MapPanel extends ImageScrollerLargeView {
   }
 
   private void recreateTiles(final GameData data, final IUIContext uiContext) {
+    // the tiles waiting to be drawn are about to be replaced
+    clearUndrawn();
     this.tileManager.createTiles(new Rectangle(this.uiContext.getMapData().getMapDimensions()), data,
         this.uiContext.getMapData());
     this.tileManager.resetTiles(data, uiContext.getMapData());
@@ -880,6 +887,11 @@ class RouteDescription {
 }
 
 
+/**
+ * Draws the tiles waiting in the map panel's queue of undrawn tiles, then repaints the panel. Several threads can run
+ * the same drawer, each drawing a different tile. The panel puts the tiles on the screen at the front of the queue, and
+ * replaces the queue whenever it is painted, so tiles that have scrolled out of view are not drawn.
+ */
 class BackgroundDrawer implements Runnable {
   // use a weak reference, if we see the panel is gc'd, then we can stop this thread
   private final WeakReference<MapPanel> m_mapPanelRef;
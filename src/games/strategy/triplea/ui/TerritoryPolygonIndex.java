@@ -0,0 +1,106 @@
+package games.strategy.triplea.ui;
+
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.ui.Util;
+
+/**
+ * Finds the territory at a point on the map without testing every polygon of the map.
+ * <p>
+ * The map is divided into square cells, and each cell lists the territories with a polygon whose bounding box
+ * overlaps it, in the order the territories have in the map of polygons. Only the polygons of the territories listed
+ * for the cell holding a point have to be tested.
+ */
+class TerritoryPolygonIndex {
+  private static final int CELL_SIZE = 64;
+  private static final String[] NO_TERRITORIES = new String[0];
+  private final Map<String, List<Polygon>> m_polys;
+  private final int m_minX;
+  private final int m_minY;
+  private final int m_columns;
+  private final int m_rows;
+  private final String[][] m_cells;
+
+  TerritoryPolygonIndex(final Map<String, List<Polygon>> polys) {
+    m_polys = polys;
+    Rectangle bounds = null;
+    for (final List<Polygon> polygons : polys.values()) {
+      for (final Polygon polygon : polygons) {
+        if (bounds == null) {
+          bounds = polygon.getBounds();
+        } else {
+          bounds.add(polygon.getBounds());
+        }
+      }
+    }
+    if (bounds == null) {
+      bounds = new Rectangle();
+    }
+    m_minX = bounds.x;
+    m_minY = bounds.y;
+    m_columns = bounds.width / CELL_SIZE + 1;
+    m_rows = bounds.height / CELL_SIZE + 1;
+    final List<List<String>> cells = new ArrayList<List<String>>(m_columns * m_rows);
+    for (int i = 0; i < m_columns * m_rows; i++) {
+      cells.add(null);
+    }
+    for (final Map.Entry<String, List<Polygon>> entry : polys.entrySet()) {
+      for (final Polygon polygon : entry.getValue()) {
+        final Rectangle polygonBounds = polygon.getBounds();
+        final int firstColumn = (polygonBounds.x - m_minX) / CELL_SIZE;
+        final int lastColumn = (polygonBounds.x + polygonBounds.width - m_minX) / CELL_SIZE;
+        final int firstRow = (polygonBounds.y - m_minY) / CELL_SIZE;
+        final int lastRow = (polygonBounds.y + polygonBounds.height - m_minY) / CELL_SIZE;
+        for (int column = firstColumn; column <= lastColumn; column++) {
+          for (int row = firstRow; row <= lastRow; row++) {
+            final int cell = column * m_rows + row;
+            List<String> names = cells.get(cell);
+            if (names == null) {
+              names = new ArrayList<String>(4);
+              cells.set(cell, names);
+            }
+            // a territory with several polygons in the cell is only listed once
+            if (names.isEmpty() || !names.get(names.size() - 1).equals(entry.getKey())) {
+              names.add(entry.getKey());
+            }
+          }
+        }
+      }
+    }
+    m_cells = new String[cells.size()][];
+    for (int i = 0; i < m_cells.length; i++) {
+      final List<String> names = cells.get(i);
+      m_cells[i] = names == null ? NO_TERRITORIES : names.toArray(new String[names.size()]);
+    }
+  }
+
+  /**
+   * @return the name of the land territory at the point, or if there is none the name of the sea zone at the point,
+   *         or null if the point is in no territory
+   */
+  String getTerritoryAt(final double x, final double y) {
+    final double column = Math.floor((x - m_minX) / CELL_SIZE);
+    final double row = Math.floor((y - m_minY) / CELL_SIZE);
+    if (column < 0 || column >= m_columns || row < 0 || row >= m_rows) {
+      return null;
+    }
+    String seaName = null;
+    // sea zones often surround a land territory
+    for (final String name : m_cells[(int) column * m_rows + (int) row]) {
+      for (final Polygon polygon : m_polys.get(name)) {
+        if (polygon.contains(x, y)) {
+          if (Util.isTerritoryNameIndicatingWater(name)) {
+            seaName = name;
+          } else {
+            return name;
+          }
+        }
+      }
+    }
+    return seaName;
+  }
+}
@@ -43,7 +43,9 @@ import games.strategy.util.Tuple;
 public class TileManager {
   private static final Logger s_logger = Logger.getLogger(TileManager.class.getName());
   public final static int TILE_SIZE = 256;
+  // the tiles by column, then by row
   private List<Tile> m_tiles = new ArrayList<Tile>();
+  private int m_tileRows = 1;
   private final Lock m_lock = new ReentrantLock();
   private final Map<String, IDrawable> m_territoryOverlays = new HashMap<String, IDrawable>();
   // maps territoryname - collection of drawables
@@ -97,27 +99,12 @@ public class TileManager {
     Tile.S_TILE_LOCKUTIL.acquireLock(m_lock);
     try {
       final List<Tile> rVal = new ArrayList<Tile>();
-      for (final Tile tile : m_tiles) {
-        final Rectangle tileBounds = tile.getBounds();
-        if (bounds.contains(tileBounds) || tileBounds.intersects(bounds)) {
-          rVal.add(tile);
-        }
-      }
+      addTiles(bounds, rVal);
       if (boundsXshift != null) {
-        for (final Tile tile : m_tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsXshift.contains(tileBounds) || tileBounds.intersects(boundsXshift)) {
-            rVal.add(tile);
-          }
-        }
+        addTiles(boundsXshift, rVal);
       }
       if (boundsYshift != null) {
-        for (final Tile tile : m_tiles) {
-          final Rectangle tileBounds = tile.getBounds();
-          if (boundsYshift.contains(tileBounds) || tileBounds.intersects(boundsYshift)) {
-            rVal.add(tile);
-          }
-        }
+        addTiles(boundsYshift, rVal);
       }
       return rVal;
     } finally {
@@ -125,6 +112,26 @@ public class TileManager {
     }
   }
 
+  /**
+   * Adds the tiles that overlap the bounds. The tiles are laid out in a grid, so the tiles are found from the rows and
+   * columns the bounds cover, without looking at the other tiles.
+   */
+  private void addTiles(final Rectangle2D bounds, final List<Tile> tiles) {
+    if (bounds.getWidth() <= 0 || bounds.getHeight() <= 0 || m_tiles.isEmpty()) {
+      return;
+    }
+    final int columns = m_tiles.size() / m_tileRows;
+    final int firstColumn = Math.max(0, (int) Math.floor(bounds.getMinX() / TILE_SIZE));
+    final int lastColumn = Math.min(columns - 1, (int) Math.ceil(bounds.getMaxX() / TILE_SIZE) - 1);
+    final int firstRow = Math.max(0, (int) Math.floor(bounds.getMinY() / TILE_SIZE));
+    final int lastRow = Math.min(m_tileRows - 1, (int) Math.ceil(bounds.getMaxY() / TILE_SIZE) - 1);
+    for (int x = firstColumn; x <= lastColumn; x++) {
+      for (int y = firstRow; y <= lastRow; y++) {
+        tiles.add(m_tiles.get(x * m_tileRows + y));
+      }
+    }
+  }
+
   public Collection<UnitsDrawer> getUnitDrawables() {
     Tile.S_TILE_LOCKUTIL.acquireLock(m_lock);
     try {
@@ -139,6 +146,7 @@ public class TileManager {
     try {
       // create our tiles
       m_tiles = new ArrayList<Tile>();
+      m_tileRows = Math.max(1, (bounds.height + TILE_SIZE - 1) / TILE_SIZE);
       for (int x = 0; (x) * TILE_SIZE < bounds.width; x++) {
         for (int y = 0; (y) * TILE_SIZE < bounds.height; y++) {
           m_tiles.add(new Tile(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE), x, y,
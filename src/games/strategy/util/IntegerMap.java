@@ -1,32 +1,64 @@
 package games.strategy.util;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 /**
  * A utility class for mapping Objects to ints. <br>
  * Supports adding and comparing of maps.
+ * <p>
+ * The keys and values are kept in two parallel arrays using open addressing, so values are never boxed, adding to a
+ * value looks the key up only once, and copying a map copies two arrays. The collections returned by keySet(),
+ * values() and entrySet() are views of the map, like those of a HashMap.
+ * <p>
+ * The map is still written to streams as a HashMap&lt;T, Integer&gt; named mapValues, which is how it was stored
+ * before, so saved games can be read by either version.
  */
 public class IntegerMap<T> implements Cloneable, Serializable {
   private static final long serialVersionUID = 6856531659284300930L;
-  private final HashMap<T, Integer> mapValues;
+  private static final ObjectStreamField[] serialPersistentFields =
+      {new ObjectStreamField("mapValues", HashMap.class)};
+  // stands in for a null key, since an empty slot is null
+  private static final Object NULL_KEY = new Object();
+  // marks the slot of a removed key, so keys placed after it can still be found
+  private static final Object REMOVED = new Object();
+  private static final int MIN_CAPACITY = 8;
+  private transient Object[] keys;
+  private transient int[] values;
+  private transient int size;
+  // slots that are not empty, counting removed ones
+  private transient int used;
+  private transient int modCount;
 
   /** Creates new IntegerMap */
   public IntegerMap() {
-    mapValues = new HashMap<T, Integer>();
+    this(0);
   }
 
   public IntegerMap(final int size) {
-    mapValues = new HashMap<T, Integer>(size);
+    init(size);
   }
 
+  /**
+   * The load factor is no longer used, the map always keeps at least half its slots empty.
+   */
   public IntegerMap(final int size, final float loadFactor) {
-    mapValues = new HashMap<T, Integer>(size, loadFactor);
+    this(size);
   }
 
   public IntegerMap(final T object, final int value) {
@@ -46,10 +78,10 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * @param integerMap
    */
   public IntegerMap(final IntegerMap<T> integerMap) {
-    mapValues = new HashMap<T, Integer>(integerMap.size());
-    for (final T t : integerMap.keySet()) {
-      mapValues.put(t, integerMap.getInt(t));
-    }
+    keys = integerMap.keys.clone();
+    values = integerMap.values.clone();
+    size = integerMap.size;
+    used = integerMap.used;
   }
 
   /**
@@ -59,30 +91,33 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * @param integerMaps
    */
   public IntegerMap(final IntegerMap<T>[] integerMaps) {
-    mapValues = new HashMap<T, Integer>();
+    this();
     for (final IntegerMap<T> integerMap : integerMaps) {
       this.add(integerMap);
     }
   }
 
   public int size() {
-    return mapValues.size();
+    return size;
   }
 
   public void put(final T key, final Integer value) {
-    mapValues.put(key, value);
+    put(key, value.intValue());
   }
 
   public void put(final T key, final int value) {
-    final Integer obj = Integer.valueOf(value);
-    mapValues.put(key, obj);
+    final int slot = findSlotForInsert(key);
+    if (slot >= 0) {
+      values[slot] = value;
+    } else {
+      insert(-slot - 1, key, value);
+    }
   }
 
   public void putAll(final Collection<T> keys, final int value) {
-    final Integer obj = Integer.valueOf(value);
     final Iterator<T> iter = keys.iterator();
     while (iter.hasNext()) {
-      put(iter.next(), obj);
+      put(iter.next(), value);
     }
   }
 
@@ -97,11 +132,11 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * returns 0 if no key found.
    */
   public int getInt(final T key) {
-    final Integer val = mapValues.get(key);
-    if (val == null) {
+    final int slot = findSlot(key);
+    if (slot == -1) {
       return 0;
     }
-    return val.intValue();
+    return values[slot];
   }
 
   public void add(final T key, final Integer value) {
@@ -109,12 +144,11 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public void add(final T key, final int value) {
-    if (mapValues.get(key) == null) {
-      put(key, value);
+    final int slot = findSlotForInsert(key);
+    if (slot >= 0) {
+      values[slot] += value;
     } else {
-      final Integer oldVal = mapValues.get(key);
-      final int newVal = oldVal.intValue() + value;
-      put(key, newVal);
+      insert(-slot - 1, key, value);
     }
   }
 
@@ -128,8 +162,11 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    *        (1 = floor, 2 = round, 3 = ceil)
    */
   public void multiplyAllValuesBy(final double multiplyBy, final int RoundType) {
-    for (final T t : keySet()) {
-      double val = mapValues.get(t);
+    for (int i = 0; i < keys.length; i++) {
+      if (!isKey(keys[i])) {
+        continue;
+      }
+      double val = values[i];
       switch (RoundType) {
         case 1:
           val = Math.floor(val * multiplyBy);
@@ -144,20 +181,78 @@ public class IntegerMap<T> implements Cloneable, Serializable {
           val = val * multiplyBy;
           break;
       }
-      put(t, (int) val);
+      values[i] = (int) val;
     }
   }
 
   public void clear() {
-    mapValues.clear();
+    Arrays.fill(keys, null);
+    size = 0;
+    used = 0;
+    modCount++;
   }
 
   public Set<T> keySet() {
-    return mapValues.keySet();
+    return new AbstractSet<T>() {
+      @Override
+      public Iterator<T> iterator() {
+        return new SlotIterator<T>() {
+          @Override
+          T get(final int slot) {
+            return getKey(slot);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public boolean contains(final Object o) {
+        return findSlot(o) != -1;
+      }
+
+      @Override
+      public boolean remove(final Object o) {
+        final int slot = findSlot(o);
+        if (slot == -1) {
+          return false;
+        }
+        removeSlot(slot);
+        return true;
+      }
+
+      @Override
+      public void clear() {
+        IntegerMap.this.clear();
+      }
+    };
   }
 
   public Collection<Integer> values() {
-    return mapValues.values();
+    return new AbstractCollection<Integer>() {
+      @Override
+      public Iterator<Integer> iterator() {
+        return new SlotIterator<Integer>() {
+          @Override
+          Integer get(final int slot) {
+            return values[slot];
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public void clear() {
+        IntegerMap.this.clear();
+      }
+    };
   }
 
   /**
@@ -166,16 +261,10 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * @return true if at least one value and all values are the same.
    */
   public boolean allValuesAreSame() {
-    if (mapValues.isEmpty()) {
+    if (isEmpty()) {
       return false;
     }
-    final int first = mapValues.values().iterator().next();
-    for (final int value : mapValues.values()) {
-      if (first != value) {
-        return false;
-      }
-    }
-    return true;
+    return allValuesEqual(values[nextSlot(0)]);
   }
 
   /**
@@ -184,11 +273,11 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * @return true if all values are equal to the given integer.
    */
   public boolean allValuesEqual(final int integer) {
-    if (mapValues.isEmpty()) {
+    if (isEmpty()) {
       return false;
     }
-    for (final int value : mapValues.values()) {
-      if (integer != value) {
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i]) && integer != values[i]) {
         return false;
       }
     }
@@ -199,13 +288,13 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return zero if empty.
    */
   public int highestValue() {
-    if (mapValues.isEmpty()) {
+    if (isEmpty()) {
       return 0;
     }
     int max = Integer.MIN_VALUE;
-    for (final int value : mapValues.values()) {
-      if (value > max) {
-        max = value;
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i]) && values[i] > max) {
+        max = values[i];
       }
     }
     return max;
@@ -215,13 +304,13 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return zero if empty.
    */
   public int lowestValue() {
-    if (mapValues.isEmpty()) {
+    if (isEmpty()) {
       return 0;
     }
     int min = Integer.MAX_VALUE;
-    for (final int value : mapValues.values()) {
-      if (value < min) {
-        min = value;
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i]) && values[i] < min) {
+        min = values[i];
       }
     }
     return min;
@@ -231,15 +320,15 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return null if empty.
    */
   public T highestKey() {
-    if (mapValues.isEmpty()) {
+    if (isEmpty()) {
       return null;
     }
     int max = Integer.MIN_VALUE;
     T rVal = null;
-    for (final Entry<T, Integer> entry : mapValues.entrySet()) {
-      if (entry.getValue() > max) {
-        max = entry.getValue();
-        rVal = entry.getKey();
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i]) && values[i] > max) {
+        max = values[i];
+        rVal = getKey(i);
       }
     }
     return rVal;
@@ -249,15 +338,15 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Will return null if empty.
    */
   public T lowestKey() {
-    if (mapValues.isEmpty()) {
+    if (isEmpty()) {
       return null;
     }
     int min = Integer.MAX_VALUE;
     T rVal = null;
-    for (final Entry<T, Integer> entry : mapValues.entrySet()) {
-      if (entry.getValue() < min) {
-        min = entry.getValue();
-        rVal = entry.getKey();
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i]) && values[i] < min) {
+        min = values[i];
+        rVal = getKey(i);
       }
     }
     return rVal;
@@ -268,22 +357,20 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    */
   public int totalValues() {
     int sum = 0;
-    for (final Integer value : mapValues.values()) {
-      sum += value.intValue();
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i])) {
+        sum += values[i];
+      }
     }
     return sum;
   }
 
   public void add(final IntegerMap<T> map) {
-    for (final T key : map.keySet()) {
-      add(key, map.getInt(key));
-    }
+    addMultiple(map, 1);
   }
 
   public void subtract(final IntegerMap<T> map) {
-    for (final T key : map.keySet()) {
-      add(key, -map.getInt(key));
-    }
+    addMultiple(map, -1);
   }
 
   /**
@@ -295,8 +382,8 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * that a and b are not equal.
    */
   public boolean greaterThanOrEqualTo(final IntegerMap<T> map) {
-    for (final T key : map.keySet()) {
-      if (!(this.getInt(key) >= map.getInt(key))) {
+    for (int i = 0; i < map.keys.length; i++) {
+      if (isKey(map.keys[i]) && !(this.getInt(map.getKey(i)) >= map.values[i])) {
         return false;
       }
     }
@@ -307,8 +394,8 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * True if all values are >= 0.
    */
   public boolean isPositive() {
-    for (final T key : mapValues.keySet()) {
-      if (getInt(key) < 0) {
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i]) && values[i] < 0) {
         return false;
       }
     }
@@ -316,9 +403,7 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public IntegerMap<T> copy() {
-    final IntegerMap<T> copy = new IntegerMap<T>();
-    copy.add(this);
-    return copy;
+    return new IntegerMap<T>(this);
   }
 
   @Override
@@ -330,14 +415,18 @@ public class IntegerMap<T> implements Cloneable, Serializable {
    * Add map * multiple
    */
   public void addMultiple(final IntegerMap<T> map, final int multiple) {
-    for (final T key : map.keySet()) {
-      add(key, map.getInt(key) * multiple);
+    // adding a map to itself may grow the arrays being read
+    final IntegerMap<T> source = map == this ? copy() : map;
+    for (int i = 0; i < source.keys.length; i++) {
+      if (isKey(source.keys[i])) {
+        add(source.getKey(i), source.values[i] * multiple);
+      }
     }
   }
 
   public boolean someKeysMatch(final Match<T> matcher) {
-    for (final T obj : mapValues.keySet()) {
-      if (matcher.match(obj)) {
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i]) && matcher.match(getKey(i))) {
         return true;
       }
     }
@@ -345,8 +434,8 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public boolean allKeysMatch(final Match<T> matcher) {
-    for (final T obj : mapValues.keySet()) {
-      if (!matcher.match(obj)) {
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i]) && !matcher.match(getKey(i))) {
         return false;
       }
     }
@@ -355,9 +444,9 @@ public class IntegerMap<T> implements Cloneable, Serializable {
 
   public Collection<T> getKeyMatches(final Match<T> matcher) {
     final Collection<T> values = new ArrayList<T>();
-    for (final T obj : mapValues.keySet()) {
-      if (matcher.match(obj)) {
-        values.add(obj);
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i]) && matcher.match(getKey(i))) {
+        values.add(getKey(i));
       }
     }
     return values;
@@ -365,9 +454,9 @@ public class IntegerMap<T> implements Cloneable, Serializable {
 
   public int sumMatches(final Match<T> matcher) {
     int sum = 0;
-    for (final T obj : mapValues.keySet()) {
-      if (matcher.match(obj)) {
-        sum += getInt(obj);
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i]) && matcher.match(getKey(i))) {
+        sum += values[i];
       }
     }
     return sum;
@@ -384,7 +473,10 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public void removeKey(final T key) {
-    mapValues.remove(key);
+    final int slot = findSlot(key);
+    if (slot != -1) {
+      removeSlot(slot);
+    }
   }
 
   private void removeKeys(final Collection<T> keys) {
@@ -394,35 +486,64 @@ public class IntegerMap<T> implements Cloneable, Serializable {
   }
 
   public boolean containsKey(final T key) {
-    return mapValues.containsKey(key);
+    return findSlot(key) != -1;
   }
 
   public boolean isEmpty() {
-    return mapValues.isEmpty();
+    return size == 0;
   }
 
   public Set<Entry<T, Integer>> entrySet() {
-    return mapValues.entrySet();
+    return new AbstractSet<Entry<T, Integer>>() {
+      @Override
+      public Iterator<Entry<T, Integer>> iterator() {
+        return new SlotIterator<Entry<T, Integer>>() {
+          @Override
+          Entry<T, Integer> get(final int slot) {
+            return new SlotEntry(slot);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public void clear() {
+        IntegerMap.this.clear();
+      }
+    };
   }
 
   @Override
   public String toString() {
     final StringBuilder buf = new StringBuilder();
     buf.append("IntegerMap:\n");
-    final Iterator<T> iter = mapValues.keySet().iterator();
-    if (!iter.hasNext()) {
+    if (isEmpty()) {
       buf.append("empty\n");
     }
-    while (iter.hasNext()) {
-      final T current = iter.next();
-      buf.append(current).append(" -> ").append(getInt(current)).append("\n");
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i])) {
+        buf.append(getKey(i)).append(" -> ").append(values[i]).append("\n");
+      }
     }
     return buf.toString();
   }
 
+  /**
+   * The same hash code a HashMap&lt;T, Integer&gt; with the same entries would have.
+   */
   @Override
   public int hashCode() {
-    return mapValues.hashCode();
+    int hash = 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i])) {
+        hash += (keys[i] == NULL_KEY ? 0 : keys[i].hashCode()) ^ values[i];
+      }
+    }
+    return hash;
   }
 
   /**
@@ -440,17 +561,264 @@ public class IntegerMap<T> implements Cloneable, Serializable {
       return false;
     }
     final IntegerMap<T> map = (IntegerMap<T>) o;
-    if (!map.keySet().equals(this.keySet())) {
-      return false;
-    }
-    if (!map.mapValues.equals(this.mapValues)) {
+    if (map.size != size) {
       return false;
     }
-    for (final T key : map.keySet()) {
-      if (!(this.getInt(key) == map.getInt(key))) {
+    for (int i = 0; i < map.keys.length; i++) {
+      if (!isKey(map.keys[i])) {
+        continue;
+      }
+      final int slot = findSlot(map.getKey(i));
+      if (slot == -1 || values[slot] != map.values[i]) {
         return false;
       }
     }
     return true;
   }
+
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    final HashMap<T, Integer> mapValues = new HashMap<T, Integer>(Math.max(2 * size, 16));
+    for (int i = 0; i < keys.length; i++) {
+      if (isKey(keys[i])) {
+        mapValues.put(getKey(i), values[i]);
+      }
+    }
+    final ObjectOutputStream.PutField fields = out.putFields();
+    fields.put("mapValues", mapValues);
+    out.writeFields();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+    final ObjectInputStream.GetField fields = in.readFields();
+    final Map<T, Integer> mapValues = (Map<T, Integer>) fields.get("mapValues", null);
+    init(mapValues == null ? 0 : mapValues.size());
+    if (mapValues != null) {
+      for (final Entry<T, Integer> entry : mapValues.entrySet()) {
+        if (entry.getValue() != null) {
+          put(entry.getKey(), entry.getValue().intValue());
+        }
+      }
+    }
+  }
+
+  private void init(final int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity < 2 * expectedSize && capacity < (1 << 30)) {
+      capacity <<= 1;
+    }
+    keys = new Object[capacity];
+    values = new int[capacity];
+    size = 0;
+    used = 0;
+  }
+
+  private static boolean isKey(final Object slotKey) {
+    return slotKey != null && slotKey != REMOVED;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T getKey(final int slot) {
+    final Object key = keys[slot];
+    return key == NULL_KEY ? null : (T) key;
+  }
+
+  private static int firstSlot(final Object maskedKey, final int mask) {
+    // spread the bits, as many hash codes differ only in their high bits
+    final int hash = maskedKey.hashCode() * 0x9E3779B9;
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+
+  /**
+   * @return the slot of the key, or -1 if the key is not in the map
+   */
+  private int findSlot(final Object key) {
+    final Object maskedKey = key == null ? NULL_KEY : key;
+    final int mask = keys.length - 1;
+    for (int i = firstSlot(maskedKey, mask);; i = (i + 1) & mask) {
+      final Object slotKey = keys[i];
+      if (slotKey == null) {
+        return -1;
+      }
+      if (slotKey != REMOVED && (slotKey == maskedKey || slotKey.equals(maskedKey))) {
+        return i;
+      }
+    }
+  }
+
+  /**
+   * @return the slot of the key if it is in the map, otherwise -(slot to put it in) - 1
+   */
+  private int findSlotForInsert(final Object key) {
+    final Object maskedKey = key == null ? NULL_KEY : key;
+    final int mask = keys.length - 1;
+    int firstRemoved = -1;
+    for (int i = firstSlot(maskedKey, mask);; i = (i + 1) & mask) {
+      final Object slotKey = keys[i];
+      if (slotKey == null) {
+        return -(firstRemoved == -1 ? i : firstRemoved) - 1;
+      }
+      if (slotKey == REMOVED) {
+        if (firstRemoved == -1) {
+          firstRemoved = i;
+        }
+      } else if (slotKey == maskedKey || slotKey.equals(maskedKey)) {
+        return i;
+      }
+    }
+  }
+
+  private void insert(final int slot, final Object key, final int value) {
+    if (keys[slot] == null) {
+      used++;
+    }
+    keys[slot] = key == null ? NULL_KEY : key;
+    values[slot] = value;
+    size++;
+    modCount++;
+    if (2 * used > keys.length) {
+      // grow if the keys fill more than a quarter of the slots, otherwise just clear out the removed slots
+      rehash(4 * size > keys.length ? keys.length * 2 : keys.length);
+    }
+  }
+
+  private void removeSlot(final int slot) {
+    // a removed slot only has to be marked if a later key may have been placed past it
+    if (keys[(slot + 1) & (keys.length - 1)] == null) {
+      keys[slot] = null;
+      used--;
+    } else {
+      keys[slot] = REMOVED;
+    }
+    size--;
+    modCount++;
+  }
+
+  private void rehash(final int capacity) {
+    final Object[] oldKeys = keys;
+    final int[] oldValues = values;
+    keys = new Object[capacity];
+    values = new int[capacity];
+    final int mask = capacity - 1;
+    for (int j = 0; j < oldKeys.length; j++) {
+      final Object key = oldKeys[j];
+      if (!isKey(key)) {
+        continue;
+      }
+      int i = firstSlot(key, mask);
+      while (keys[i] != null) {
+        i = (i + 1) & mask;
+      }
+      keys[i] = key;
+      values[i] = oldValues[j];
+    }
+    used = size;
+  }
+
+  /**
+   * @return the first slot at or after the given one that holds a key, or the number of slots if there is none
+   */
+  private int nextSlot(final int slot) {
+    int i = slot;
+    while (i < keys.length && !isKey(keys[i])) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Iterates over the slots holding keys. Like the iterators of a HashMap, it fails if keys are put in or removed
+   * from the map other than through the iterator.
+   */
+  private abstract class SlotIterator<E> implements Iterator<E> {
+    private int m_next = nextSlot(0);
+    private int m_last = -1;
+    private int m_expectedModCount = modCount;
+
+    abstract E get(int slot);
+
+    @Override
+    public boolean hasNext() {
+      return m_next < keys.length;
+    }
+
+    @Override
+    public E next() {
+      if (m_expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (m_next >= keys.length) {
+        throw new NoSuchElementException();
+      }
+      m_last = m_next;
+      m_next = nextSlot(m_next + 1);
+      return get(m_last);
+    }
+
+    @Override
+    public void remove() {
+      if (m_last == -1) {
+        throw new IllegalStateException();
+      }
+      if (m_expectedModCount != modCount) {
+        throw new ConcurrentModificationException();
+      }
+      // always mark the slot, so the keys still to come do not move
+      keys[m_last] = REMOVED;
+      size--;
+      modCount++;
+      m_expectedModCount = modCount;
+      m_last = -1;
+    }
+  }
+
+  /**
+   * An entry reading and writing its slot of the map.
+   */
+  private class SlotEntry implements Entry<T, Integer> {
+    private final int m_slot;
+
+    SlotEntry(final int slot) {
+      m_slot = slot;
+    }
+
+    @Override
+    public T getKey() {
+      return IntegerMap.this.getKey(m_slot);
+    }
+
+    @Override
+    public Integer getValue() {
+      return values[m_slot];
+    }
+
+    @Override
+    public Integer setValue(final Integer value) {
+      final int old = values[m_slot];
+      values[m_slot] = value.intValue();
+      return old;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      final Entry<?, ?> other = (Entry<?, ?>) o;
+      final T key = getKey();
+      return (key == null ? other.getKey() == null : key.equals(other.getKey()))
+          && getValue().equals(other.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      final T key = getKey();
+      return (key == null ? 0 : key.hashCode()) ^ values[m_slot];
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + values[m_slot];
+    }
+  }
 }
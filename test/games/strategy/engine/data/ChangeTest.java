@@ -9,6 +9,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import junit.framework.TestCase;
@@ -147,6 +148,31 @@ public class ChangeTest extends TestCase {
     assertEquals(greenland.getUnits().getUnitCount(), 0);
   }
 
+  public void testSquash() {
+    final Territory canada = m_data.getMap().getTerritory("canada");
+    final Territory greenland = m_data.getMap().getTerritory("greenland");
+    final List<Unit> units =
+        new ArrayList<Unit>(canada.getUnits().getUnits(m_data.getUnitTypeList().getUnitType("inf"), 3));
+    final Unit stays = units.remove(2);
+    final List<Change> changes = new ArrayList<Change>();
+    changes.add(ChangeFactory.moveUnits(canada, greenland, units));
+    changes.add(ChangeFactory.unitPropertyChange(stays, 1, "hits"));
+    changes.add(ChangeFactory.moveUnits(greenland, canada, units.subList(0, 1)));
+    changes.add(ChangeFactory.unitPropertyChange(stays, 2, "hits"));
+    final Change squashed = ChangeFactory.squash(changes);
+    // the unit that came back is not moved at all, and the hits are only set once
+    assertEquals(3, ((CompositeChange) squashed).getChanges().size());
+    m_data.performChange(squashed);
+    assertEquals(4, canada.getUnits().getUnitCount());
+    assertEquals(1, greenland.getUnits().getUnitCount());
+    assertTrue(greenland.getUnits().getUnits().contains(units.get(1)));
+    assertEquals(2, stays.getHits());
+    m_data.performChange(squashed.invert());
+    assertEquals(5, canada.getUnits().getUnitCount());
+    assertEquals(0, greenland.getUnits().getUnitCount());
+    assertEquals(0, stays.getHits());
+  }
+
   public void testProductionFrontierChange() {
     final PlayerID can = m_data.getPlayerList().getPlayerID("chretian");
     final ProductionFrontier uspf = m_data.getProductionFrontierList().getProductionFrontier("usProd");
@@ -2,6 +2,7 @@ package games.strategy.engine.data;
 
 import java.util.Set;
 
+import games.strategy.triplea.delegate.Matches;
 import games.strategy.util.Match;
 import junit.framework.TestCase;
 
@@ -221,4 +222,59 @@ public class MapTest extends TestCase {
     assertTrue(neighbors.contains(bb));
     assertTrue(neighbors.contains(ca));
   }
+
+  public void testIndexedDistancesMatchSearch() {
+    // not the same instance as Matches.TerritoryIsLand, so these are searched for instead of looked up
+    final Match<Territory> land = new Match<Territory>() {
+      @Override
+      public boolean match(final Territory t) {
+        return !t.isWater();
+      }
+    };
+    for (final Territory from : map.getTerritories()) {
+      for (final Territory to : map.getTerritories()) {
+        assertEquals(from + " to " + to, map.getDistance(from, to, land), map.getLandDistance(from, to));
+        assertEquals(from + " to " + to, map.getDistance_IgnoreEndForCondition(from, to, land),
+            map.getDistance_IgnoreEndForCondition(from, to, Matches.TerritoryIsLand));
+      }
+      assertEquals(map.getNeighbors(from, 3, land), map.getNeighbors(from, 3, Matches.TerritoryIsLand));
+    }
+  }
+
+  public void testIndexUpdatedWhenConnectionAdded() {
+    assertEquals(6, map.getLandDistance(ad, da));
+    assertFalse(map.getNeighbors(ac, 2).contains(da));
+    map.addConnection(ad, da);
+    assertEquals(1, map.getLandDistance(ad, da));
+    assertTrue(map.getNeighbors(ac, 2).contains(da));
+  }
+
+  public void testRoutesAreShortest() {
+    final Match<Territory> notCb = new Match<Territory>() {
+      @Override
+      public boolean match(final Territory t) {
+        return t != cb;
+      }
+    };
+    for (final Territory from : map.getTerritories()) {
+      for (final Territory to : map.getTerritories()) {
+        if (from == to) {
+          continue;
+        }
+        final Route route = map.getRoute(from, to, notCb);
+        final int distance = map.getDistance(from, to, notCb);
+        if (distance == -1) {
+          assertNull(route);
+          continue;
+        }
+        assertEquals(from + " to " + to, distance, route.numberOfSteps());
+        assertEquals(from, route.getStart());
+        assertEquals(to, route.getEnd());
+        assertTrue(map.isValidRoute(route));
+        assertFalse(route.getSteps().contains(cb));
+        assertEquals(map.getLandDistance(from, to), map.getLandRoute(from, to) == null ? -1
+            : map.getLandRoute(from, to).numberOfSteps());
+      }
+    }
+  }
 }
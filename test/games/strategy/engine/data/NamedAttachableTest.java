@@ -0,0 +1,74 @@
+package games.strategy.engine.data;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import games.strategy.triplea.attachments.AbstractConditionsAttachment;
+import games.strategy.triplea.attachments.RulesAttachment;
+import games.strategy.triplea.attachments.TriggerAttachment;
+import games.strategy.triplea.attachments.UnitAttachment;
+import games.strategy.triplea.xml.LoadGameUtil;
+import junit.framework.TestCase;
+
+public class NamedAttachableTest extends TestCase {
+  private GameData m_data;
+  private NamedAttachable m_attachable;
+  private RulesAttachment m_condition;
+  private TriggerAttachment m_trigger;
+
+  @Override
+  protected void setUp() throws Exception {
+    m_data = LoadGameUtil.loadTestGame("revised_test.xml");
+    m_attachable = new NamedAttachable("test", m_data);
+    m_condition = new RulesAttachment("conditionAttachmentTest", m_attachable, m_data);
+    m_trigger = new TriggerAttachment("triggerAttachmentTest", m_attachable, m_data);
+    m_attachable.addAttachment(m_condition.getName(), m_condition);
+    m_attachable.addAttachment(m_trigger.getName(), m_trigger);
+  }
+
+  public void testAttachmentsOfType() {
+    assertEquals(Arrays.asList(m_trigger), m_attachable.getAttachments(TriggerAttachment.class));
+    assertEquals(Arrays.asList(m_condition), m_attachable.getAttachments(RulesAttachment.class));
+    assertEquals(new HashSet<IAttachment>(Arrays.asList(m_condition, m_trigger)),
+        new HashSet<IAttachment>(m_attachable.getAttachments(AbstractConditionsAttachment.class)));
+    assertTrue(m_attachable.getAttachments(UnitAttachment.class).isEmpty());
+  }
+
+  public void testAttachmentsOfTypeAreKeptUntilChanged() {
+    final List<TriggerAttachment> triggers = m_attachable.getAttachments(TriggerAttachment.class);
+    assertSame(triggers, m_attachable.getAttachments(TriggerAttachment.class));
+    try {
+      triggers.clear();
+      fail("the kept list must not be changeable");
+    } catch (final UnsupportedOperationException e) {
+      // expected
+    }
+  }
+
+  public void testAddingAnAttachmentIsSeen() {
+    final List<TriggerAttachment> triggers = m_attachable.getAttachments(TriggerAttachment.class);
+    final TriggerAttachment other = new TriggerAttachment("triggerAttachmentOther", m_attachable, m_data);
+    m_attachable.addAttachment(other.getName(), other);
+    assertEquals(new HashSet<TriggerAttachment>(Arrays.asList(m_trigger, other)),
+        new HashSet<TriggerAttachment>(m_attachable.getAttachments(TriggerAttachment.class)));
+    // lists handed out before are not changed
+    assertEquals(Arrays.asList(m_trigger), triggers);
+  }
+
+  public void testReplacingAnAttachmentIsSeen() {
+    m_attachable.getAttachments(TriggerAttachment.class);
+    final RulesAttachment replacement = new RulesAttachment(m_trigger.getName(), m_attachable, m_data);
+    m_attachable.addAttachment(m_trigger.getName(), replacement);
+    assertTrue(m_attachable.getAttachments(TriggerAttachment.class).isEmpty());
+    assertEquals(2, m_attachable.getAttachments(RulesAttachment.class).size());
+  }
+
+  public void testRemovingAnAttachmentIsSeen() {
+    m_attachable.getAttachments(TriggerAttachment.class);
+    m_attachable.getAttachments(RulesAttachment.class);
+    m_attachable.removeAttachment(m_trigger.getName());
+    assertTrue(m_attachable.getAttachments(TriggerAttachment.class).isEmpty());
+    assertEquals(Arrays.asList(m_condition), m_attachable.getAttachments(RulesAttachment.class));
+  }
+}
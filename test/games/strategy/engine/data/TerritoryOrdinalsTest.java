@@ -0,0 +1,103 @@
+package games.strategy.engine.data;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+
+import junit.framework.TestCase;
+
+public class TerritoryOrdinalsTest extends TestCase {
+  private GameMap m_map;
+  private Territory m_land1;
+  private Territory m_land2;
+  private Territory m_sea;
+  private Territory m_island;
+
+  @Override
+  public void setUp() {
+    m_map = new GameMap(null);
+    m_land1 = new Territory("land1", false, null);
+    m_land2 = new Territory("land2", false, null);
+    m_sea = new Territory("sea", true, null);
+    m_island = new Territory("island", false, null);
+    m_map.addTerritory(m_land1);
+    m_map.addTerritory(m_land2);
+    m_map.addTerritory(m_sea);
+    m_map.addTerritory(m_island);
+    m_map.addConnection(m_land1, m_land2);
+    m_map.addConnection(m_land2, m_sea);
+    m_map.addOneWayConnection(m_sea, m_island);
+  }
+
+  public void testOrdinalsFollowTerritoryList() {
+    for (int i = 0; i < m_map.getTerritories().size(); i++) {
+      final Territory t = m_map.getTerritories().get(i);
+      assertEquals(i, m_map.getOrdinal(t));
+      assertSame(t, m_map.getTerritoryOrdinals().getTerritory(i));
+    }
+    assertEquals(-1, m_map.getOrdinal(new Territory("nowhere", false, null)));
+  }
+
+  public void testConnections() {
+    final TerritoryOrdinals ordinals = m_map.getTerritoryOrdinals();
+    for (final Territory t : m_map) {
+      final int ordinal = ordinals.getOrdinal(t);
+      final HashSet<Territory> neighbors = new HashSet<Territory>();
+      for (int k = ordinals.getConnectionOffsets()[ordinal]; k < ordinals.getConnectionOffsets()[ordinal + 1]; k++) {
+        neighbors.add(ordinals.getTerritory(ordinals.getConnections()[k]));
+      }
+      assertEquals(m_map.getNeighbors(t), neighbors);
+    }
+    final int island = ordinals.getOrdinal(m_island);
+    assertEquals(1, ordinals.getConnectedFromOffsets()[island + 1] - ordinals.getConnectedFromOffsets()[island]);
+    assertSame(m_sea, ordinals.getTerritory(ordinals.getConnectedFrom()[ordinals.getConnectedFromOffsets()[island]]));
+  }
+
+  public void testOrdinalsChangeWithMap() {
+    final Territory added = new Territory("added", false, null);
+    m_map.addTerritory(added);
+    assertEquals(4, m_map.getOrdinal(added));
+    m_map.removeTerritory(m_land1);
+    assertEquals(0, m_map.getOrdinal(m_land2));
+    assertEquals(-1, m_map.getOrdinal(m_land1));
+  }
+
+  public void testBitSet() {
+    final TerritoryBitSet set = new TerritoryBitSet(m_map, Arrays.asList(m_land1, m_sea));
+    assertEquals(2, set.size());
+    assertTrue(set.contains(m_sea));
+    assertFalse(set.contains(m_land2));
+    assertFalse(set.contains(new Territory("nowhere", false, null)));
+    assertFalse(set.add(m_sea));
+    final TerritoryBitSet other = new TerritoryBitSet(m_map, Arrays.asList(m_sea, m_island));
+    set.retainAll(other);
+    assertEquals(new HashSet<Territory>(Arrays.asList(m_sea)), set);
+    set.addAll(other);
+    assertEquals(new HashSet<Territory>(Arrays.asList(m_sea, m_island)), set);
+    final Iterator<Territory> iter = set.iterator();
+    iter.next();
+    iter.remove();
+    assertEquals(1, set.size());
+    try {
+      set.add(new Territory("nowhere", false, null));
+      fail("Added a territory that is not on the map");
+    } catch (final IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  public void testIntMap() {
+    final TerritoryIntMap map = new TerritoryIntMap(m_map);
+    assertEquals(0, map.getInt(m_land1));
+    map.put(m_land1, 3);
+    map.add(m_land1, 2);
+    map.add(m_sea, -1);
+    assertEquals(5, map.getInt(m_land1));
+    assertEquals(2, map.size());
+    assertEquals(4, map.totalValues());
+    assertEquals(5, map.toIntegerMap().getInt(m_land1));
+    map.removeKey(m_land1);
+    assertFalse(map.containsKey(m_land1));
+    assertEquals(-1, map.totalValues());
+  }
+}
@@ -0,0 +1,29 @@
+package games.strategy.engine.data.properties;
+
+import games.strategy.engine.data.GameData;
+import junit.framework.TestCase;
+
+public class GamePropertiesTest extends TestCase {
+  private static final GameProperties.Key CONSTANT = new GameProperties.Key("constant");
+  private static final GameProperties.Key EDITABLE = new GameProperties.Key("editable");
+
+  public void testKeyFollowsSetProperties() {
+    final GameProperties properties = new GameProperties(new GameData());
+    assertEquals(3, properties.get(CONSTANT, 3));
+    properties.set("constant", 5);
+    assertEquals(5, properties.get(CONSTANT, 3));
+    properties.set("constant", null);
+    assertEquals(3, properties.get(CONSTANT, 3));
+  }
+
+  public void testKeyFollowsEditedProperties() {
+    final GameProperties properties = new GameProperties(new GameData());
+    assertFalse(properties.get(EDITABLE, false));
+    final BooleanProperty editable = new BooleanProperty("editable", null, true);
+    properties.addEditableProperty(editable);
+    assertTrue(properties.get(EDITABLE, false));
+    // editable properties are changed in place
+    editable.setValue(false);
+    assertFalse(properties.get(EDITABLE, true));
+  }
+}
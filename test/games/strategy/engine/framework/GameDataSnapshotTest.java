@@ -0,0 +1,69 @@
+package games.strategy.engine.framework;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.xml.LoadGameUtil;
+import junit.framework.TestCase;
+
+public class GameDataSnapshotTest extends TestCase {
+  private GameData m_data;
+
+  @Override
+  public void setUp() throws Exception {
+    m_data = LoadGameUtil.loadTestGame("revised_test.xml");
+    final PlayerID germans = m_data.getPlayerList().getPlayerID("Germans");
+    m_data.getHistory().getHistoryWriter().startNextStep("germanBattle", "battle", germans, "Germans Battle");
+    m_data.getHistory().getHistoryWriter().startEvent("test event");
+  }
+
+  public void testCopiesAreIndependent() throws Exception {
+    final GameDataSnapshot snapshot = new GameDataSnapshot(m_data, false, true);
+    final GameData first = snapshot.newGameData();
+    final GameData second = snapshot.newGameData();
+    assertNotSame(first, second);
+    assertEquals(m_data.getMap().getTerritories().size(), first.getMap().getTerritories().size());
+    final Territory germany = first.getMap().getTerritory("Germany");
+    assertNotSame(germany, second.getMap().getTerritory("Germany"));
+    assertEquals(germany.getUnits().size(), second.getMap().getTerritory("Germany").getUnits().size());
+    assertEquals(m_data.getProperties().get(GameData.GAME_UUID), first.getProperties().get(GameData.GAME_UUID));
+  }
+
+  public void testHistoryIsDroppedUnlessRequested() throws Exception {
+    final GameData withHistory = new GameDataSnapshot(m_data, false, true).newGameData();
+    assertTrue(withHistory.getHistory().getLastNode().getLevel() > 0);
+    final GameDataSnapshot snapshot = new GameDataSnapshot(m_data, false, false);
+    final GameData withoutHistory = snapshot.newGameData();
+    assertEquals(0, withoutHistory.getHistory().getLastNode().getLevel());
+    assertEquals(m_data.getMap().getTerritories().size(), withoutHistory.getMap().getTerritories().size());
+    assertTrue(snapshot.size() < new GameDataSnapshot(m_data, false, true).size());
+  }
+
+  public void testSaveGameReplacesFile() throws Exception {
+    final File dir = File.createTempFile("snapshotTest", "");
+    dir.delete();
+    dir.mkdir();
+    final File save = new File(dir, "autosave.tsvg");
+    try {
+      try (final FileOutputStream out = new FileOutputStream(save)) {
+        out.write(new byte[] {1, 2, 3});
+      }
+      final AutoSaveWriter writer = new AutoSaveWriter();
+      writer.save(new GameDataSnapshot(m_data, true, true), save);
+      writer.shutDown();
+      final GameData loaded = new GameDataManager().loadGame(save);
+      assertEquals(m_data.getMap().getTerritories().size(), loaded.getMap().getTerritories().size());
+      assertEquals(m_data.getProperties().get(GameData.GAME_UUID), loaded.getProperties().get(GameData.GAME_UUID));
+      // nothing but the save is left behind
+      assertEquals(1, dir.listFiles().length);
+    } finally {
+      for (final File f : dir.listFiles()) {
+        f.delete();
+      }
+      dir.delete();
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package games.strategy.engine.framework;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Collection;
+
+import games.strategy.engine.data.Change;
+import games.strategy.engine.data.ChangeFactory;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.history.HistoryJournal;
+import games.strategy.engine.history.HistoryWriter;
+import games.strategy.triplea.xml.LoadGameUtil;
+import junit.framework.TestCase;
+
+public class JournaledSaveTest extends TestCase {
+  private GameData m_data;
+  private HistoryWriter m_historyWriter;
+  private HistoryJournal m_journal;
+  private File m_dir;
+  private File m_save;
+
+  @Override
+  public void setUp() throws Exception {
+    m_data = LoadGameUtil.loadTestGame("revised_test.xml");
+    m_journal = new HistoryJournal();
+    m_historyWriter = m_data.getHistory().getHistoryWriter();
+    m_historyWriter.setJournal(m_journal);
+    final PlayerID germans = m_data.getPlayerList().getPlayerID("Germans");
+    m_historyWriter.startNextStep("germanBattle", "battle", germans, "Germans Battle");
+    m_historyWriter.startEvent("before the base");
+    m_dir = File.createTempFile("journaledSaveTest", "");
+    m_dir.delete();
+    m_dir.mkdir();
+    m_save = new File(m_dir, "autosave.tsvg");
+  }
+
+  @Override
+  public void tearDown() {
+    for (final File f : m_dir.listFiles()) {
+      f.delete();
+    }
+    m_dir.delete();
+  }
+
+  private void addInfantry(final String territoryName, final int count) {
+    final PlayerID germans = m_data.getPlayerList().getPlayerID("Germans");
+    final Collection<Unit> units = m_data.getUnitTypeList().getUnitType("infantry").create(count, germans);
+    final Change change = ChangeFactory.addUnits(m_data.getMap().getTerritory(territoryName), units);
+    m_data.performChange(change);
+    m_historyWriter.addChange(change);
+  }
+
+  public void testRecordsAreReplayed() throws Exception {
+    final AutoSaveWriter writer = new AutoSaveWriter();
+    final JournaledSave save = new JournaledSave(m_save, m_journal, writer);
+    save.save(m_data);
+    m_historyWriter.startEvent("Germans add infantry");
+    addInfantry("Germany", 3);
+    m_data.getSequence().next();
+    m_data.getSequence().getStep().incrementRunCount();
+    save.save(m_data);
+    m_historyWriter.startEvent("Germans add more infantry");
+    addInfantry("Manchuria", 2);
+    save.save(m_data);
+    writer.shutDown();
+    assertEquals(m_journal.getPosition(), save.getPosition());
+    final GameData loaded = new GameDataManager().loadGame(m_save);
+    for (final String name : new String[] {"Germany", "Manchuria"}) {
+      final Territory territory = m_data.getMap().getTerritory(name);
+      assertEquals(territory.getUnits().size(), loaded.getMap().getTerritory(name).getUnits().size());
+    }
+    assertEquals(m_data.getSequence().getStepIndex(), loaded.getSequence().getStepIndex());
+    assertEquals(1, loaded.getSequence().getStep().getRunCount());
+    assertEquals("Germans add more infantry", loaded.getHistory().getLastNode().getTitle());
+  }
+
+  public void testPartlyWrittenRecordIsIgnored() throws Exception {
+    final AutoSaveWriter writer = new AutoSaveWriter();
+    final JournaledSave save = new JournaledSave(m_save, m_journal, writer);
+    save.save(m_data);
+    m_historyWriter.startEvent("Germans add infantry");
+    addInfantry("Germany", 3);
+    save.save(m_data);
+    writer.shutDown();
+    final int germanyUnits = m_data.getMap().getTerritory("Germany").getUnits().size();
+    // a crash part way through the next record
+    try (final FileOutputStream out = new FileOutputStream(m_save, true)) {
+      out.write(new byte[] {0, 0, 1, 0, 5, 5});
+    }
+    final GameData loaded = new GameDataManager().loadGame(m_save);
+    assertEquals(germanyUnits, loaded.getMap().getTerritory("Germany").getUnits().size());
+    assertEquals("Germans add infantry", loaded.getHistory().getLastNode().getTitle());
+  }
+
+  public void testNewBaseOnceRecordsGrow() throws Exception {
+    final AutoSaveWriter writer = new AutoSaveWriter();
+    // once shut down, the writer writes straight away
+    writer.shutDown();
+    final JournaledSave save = new JournaledSave(m_save, m_journal, writer);
+    save.save(m_data);
+    long length = m_save.length();
+    boolean rebased = false;
+    for (int i = 0; i < 500 && !rebased; i++) {
+      m_historyWriter.startEvent("Germans add infantry " + i);
+      addInfantry("Germany", 5);
+      save.save(m_data);
+      rebased = m_save.length() < length;
+      length = m_save.length();
+    }
+    assertTrue(rebased);
+    final GameData loaded = new GameDataManager().loadGame(m_save);
+    assertEquals(m_data.getMap().getTerritory("Germany").getUnits().size(),
+        loaded.getMap().getTerritory("Germany").getUnits().size());
+  }
+}
@@ -0,0 +1,56 @@
+package games.strategy.engine.framework.headlessGameServer;
+
+import games.strategy.engine.data.ChangeFactory;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.Territory;
+import games.strategy.triplea.xml.LoadGameUtil;
+import junit.framework.TestCase;
+
+public class AvailableGameTemplatesTest extends TestCase {
+  private GameData m_data;
+
+  @Override
+  public void setUp() throws Exception {
+    m_data = LoadGameUtil.loadTestGame("revised_test.xml");
+  }
+
+  public void testCopiesAreIndependent() {
+    final AvailableGameTemplates templates = new AvailableGameTemplates(2);
+    templates.put("Revised", m_data);
+    final GameData first = templates.newGameData("Revised");
+    final GameData second = templates.newGameData("Revised");
+    assertNotSame(first, second);
+    final Territory germany = first.getMap().getTerritory("Germany");
+    final int units = germany.getUnits().size();
+    first.performChange(ChangeFactory.removeUnits(germany, germany.getUnits().getUnits()));
+    assertEquals(0, germany.getUnits().size());
+    assertEquals(units, second.getMap().getTerritory("Germany").getUnits().size());
+    assertEquals(units, m_data.getMap().getTerritory("Germany").getUnits().size());
+  }
+
+  public void testEveryGameHasItsOwnUUID() {
+    final AvailableGameTemplates templates = new AvailableGameTemplates(2);
+    final Object parsedUUID = m_data.getProperties().get(GameData.GAME_UUID);
+    templates.put("Revised", m_data);
+    final Object hostedUUID = m_data.getProperties().get(GameData.GAME_UUID);
+    final Object firstUUID = templates.newGameData("Revised").getProperties().get(GameData.GAME_UUID);
+    final Object secondUUID = templates.newGameData("Revised").getProperties().get(GameData.GAME_UUID);
+    assertNotNull(firstUUID);
+    assertFalse(firstUUID.equals(secondUUID));
+    assertFalse(firstUUID.equals(parsedUUID));
+    assertFalse(firstUUID.equals(hostedUUID));
+    assertFalse(hostedUUID.equals(parsedUUID));
+  }
+
+  public void testLeastRecentlyUsedTemplateIsDropped() {
+    final AvailableGameTemplates templates = new AvailableGameTemplates(2);
+    assertNull(templates.newGameData("a"));
+    templates.put("a", m_data);
+    templates.put("b", m_data);
+    assertNotNull(templates.newGameData("a"));
+    templates.put("c", m_data);
+    assertNotNull(templates.newGameData("a"));
+    assertNull(templates.newGameData("b"));
+    assertNotNull(templates.newGameData("c"));
+  }
+}
@@ -0,0 +1,73 @@
+package games.strategy.engine.framework.headlessGameServer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+public class AvailableGamesIndexTest extends TestCase {
+  private File m_indexFile;
+  private File m_mapFile;
+
+  @Override
+  public void setUp() throws Exception {
+    m_indexFile = File.createTempFile("availableGames", ".cache");
+    m_indexFile.delete();
+    m_mapFile = File.createTempFile("map", ".xml");
+    write(m_mapFile, "<game/>");
+  }
+
+  @Override
+  public void tearDown() {
+    m_indexFile.delete();
+    m_mapFile.delete();
+  }
+
+  private static void write(final File file, final String content) throws IOException {
+    try (FileOutputStream out = new FileOutputStream(file)) {
+      out.write(content.getBytes("UTF-8"));
+    }
+  }
+
+  private void putAndSave(final String engineVersion) {
+    final AvailableGamesIndex index = new AvailableGamesIndex(m_indexFile, engineVersion);
+    index.put(m_mapFile, Collections.singletonList(new AvailableGamesIndex.Game("Big World", "bigWorld", "file:/x")));
+    index.save();
+  }
+
+  public void testUnchangedMapFileIsNotParsedAgain() {
+    final AvailableGamesIndex empty = new AvailableGamesIndex(m_indexFile, "1.8.0.9");
+    assertNull(empty.get(m_mapFile));
+    putAndSave("1.8.0.9");
+    final List<AvailableGamesIndex.Game> games = new AvailableGamesIndex(m_indexFile, "1.8.0.9").get(m_mapFile);
+    assertEquals(1, games.size());
+    assertEquals("Big World", games.get(0).getName());
+    assertEquals("bigWorld", games.get(0).getMapName());
+    assertEquals("file:/x", games.get(0).getUri());
+  }
+
+  public void testChangedMapFileOrEngineIsParsedAgain() throws IOException {
+    putAndSave("1.8.0.9");
+    assertNull(new AvailableGamesIndex(m_indexFile, "1.9.0.0").get(m_mapFile));
+    write(m_mapFile, "<game></game>");
+    assertNull(new AvailableGamesIndex(m_indexFile, "1.8.0.9").get(m_mapFile));
+  }
+
+  public void testMapFilesNotPutAreForgotten() {
+    putAndSave("1.8.0.9");
+    new AvailableGamesIndex(m_indexFile, "1.8.0.9").save();
+    assertNull(new AvailableGamesIndex(m_indexFile, "1.8.0.9").get(m_mapFile));
+  }
+
+  public void testSaveLeavesNoTemporaryFiles() {
+    putAndSave("1.8.0.9");
+    putAndSave("1.8.0.9");
+    assertTrue(m_indexFile.exists());
+    for (final File f : m_indexFile.getAbsoluteFile().getParentFile().listFiles()) {
+      assertFalse(f.getName(), f.getName().startsWith(m_indexFile.getName()) && f.getName().endsWith(".tmp"));
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package games.strategy.engine.history;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import games.strategy.engine.data.ChangeFactory;
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Resource;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.LoadGameUtil;
+import junit.framework.TestCase;
+
+public class HistoryTest extends TestCase {
+  // enough changes in each round for every round to start a checkpoint
+  private static final int CHANGES_PER_ROUND = 300;
+  private GameData m_data;
+  private History m_history;
+  private HistoryWriter m_writer;
+  private PlayerID m_germans;
+  private Territory m_germany;
+  private Resource m_pus;
+  // the state of the game at the start of each round, and at the end, as it was when the changes were made
+  private final Map<HistoryNode, String> m_states = new HashMap<HistoryNode, String>();
+
+  @Override
+  protected void setUp() throws Exception {
+    m_data = LoadGameUtil.loadTestGame("revised_test.xml");
+    m_history = m_data.getHistory();
+    m_writer = m_history.getHistoryWriter();
+    m_germans = m_data.getPlayerList().getPlayerID("Germans");
+    m_germany = m_data.getMap().getTerritory("Germany");
+    m_pus = m_data.getResourceList().getResource(Constants.PUS);
+  }
+
+  /**
+   * Plays a round in which germans add and remove units of the given type in germany and collect PUs. The history
+   * is kept at its last node while the round is played, so the changes are performed as they are added.
+   */
+  private HistoryNode playRound(final int round, final UnitType unitType) {
+    m_writer.startNextRound(round);
+    final HistoryNode roundNode = m_history.getLastNode();
+    m_writer.startNextStep("germanPurchase", "purchase", m_germans, "Germans Purchase");
+    m_writer.startEvent("Germans purchase " + unitType.getName());
+    m_history.gotoNode(m_history.getLastNode());
+    m_states.put(roundNode, getState());
+    for (int i = 0; i < CHANGES_PER_ROUND / 3; i++) {
+      final List<Unit> units = unitType.create(2, m_germans);
+      m_writer.addChange(ChangeFactory.addUnits(m_germany, units));
+      m_writer.addChange(ChangeFactory.removeUnits(m_germany, Collections.singletonList(units.get(0))));
+      m_writer.addChange(ChangeFactory.changeResourcesChange(m_germans, m_pus, 1));
+    }
+    return roundNode;
+  }
+
+  private List<HistoryNode> playRounds(final int firstRound, final int count, final UnitType unitType) {
+    final List<HistoryNode> rounds = new ArrayList<HistoryNode>();
+    for (int i = 0; i < count; i++) {
+      rounds.add(playRound(firstRound + i, unitType));
+    }
+    m_states.put(m_history.getLastNode(), getState());
+    return rounds;
+  }
+
+  private String getState() {
+    final Map<String, Integer> unitCounts = new HashMap<String, Integer>();
+    for (final Unit u : m_germany.getUnits().getUnits()) {
+      final Integer count = unitCounts.get(u.getType().getName());
+      unitCounts.put(u.getType().getName(), count == null ? 1 : count + 1);
+    }
+    return unitCounts + " PUs:" + m_germans.getResources().getQuantity(m_pus);
+  }
+
+  private void assertStateAt(final HistoryNode node) {
+    m_history.gotoNode(node);
+    assertEquals(m_states.get(node), getState());
+  }
+
+  public void testGotoNodeMatchesGameAsPlayed() {
+    final List<HistoryNode> rounds = playRounds(1, 5, m_data.getUnitTypeList().getUnitType("infantry"));
+    final HistoryNode end = m_history.getLastNode();
+    for (final int round : new int[] {4, 0, 2, -1, 1, 3, 0, -1, 4, 3, 2, 1, 0}) {
+      assertStateAt(round == -1 ? end : rounds.get(round));
+    }
+  }
+
+  public void testRemovingHistoryForgetsCheckpoints() {
+    final List<HistoryNode> rounds = playRounds(1, 5, m_data.getUnitTypeList().getUnitType("infantry"));
+    // going back to the start and forward again squashes the changes between every checkpoint
+    assertStateAt(rounds.get(0));
+    assertStateAt(rounds.get(4));
+    m_history.removeAllHistoryAfterNode(rounds.get(2));
+    // the new rounds have as many changes as the old ones, so their checkpoints are at the same places
+    final List<HistoryNode> newRounds = playRounds(3, 2, m_data.getUnitTypeList().getUnitType("armour"));
+    final HistoryNode end = m_history.getLastNode();
+    assertStateAt(rounds.get(0));
+    assertStateAt(end);
+    assertStateAt(newRounds.get(0));
+    assertStateAt(rounds.get(1));
+    assertStateAt(newRounds.get(1));
+  }
+}
@@ -0,0 +1,57 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import games.strategy.util.Util;
+import junit.framework.TestCase;
+
+public class BanAndMuteIndexTest extends TestCase {
+  public void testPermanentMute() {
+    final MutedMacController controller = new MutedMacController();
+    final String mac = Util.createUniqueTimeStamp();
+    controller.addMutedMac(mac);
+    assertTrue(controller.isMacMuted(mac));
+    assertEquals(BanAndMuteIndex.FOREVER, controller.getMacUnmuteTime(mac));
+    controller.removeMutedMac(mac);
+    assertFalse(controller.isMacMuted(mac));
+    assertEquals(-1, controller.getMacUnmuteTime(mac));
+  }
+
+  public void testMuteExpires() {
+    final MutedUsernameController controller = new MutedUsernameController();
+    final String username = Util.createUniqueTimeStamp();
+    final String stillMuted = Util.createUniqueTimeStamp();
+    controller.addMutedUsername(username, new Date(System.currentTimeMillis() - 5000));
+    controller.addMutedUsername(stillMuted, new Date(System.currentTimeMillis() + 60000));
+    assertFalse(controller.isUsernameMuted(username));
+    assertEquals(Collections.singletonList(stillMuted),
+        controller.getUsernamesThatAreStillMuted(Arrays.asList(username, stillMuted)));
+    // muting again replaces the expired mute
+    controller.addMutedUsername(username);
+    assertTrue(controller.isUsernameMuted(username));
+  }
+
+  public void testBanIsWrittenThrough() throws Exception {
+    final String ip = Util.createUniqueTimeStamp();
+    final Date banTill = new Date(System.currentTimeMillis() + 60000);
+    new BannedIpController().addBannedIp(ip, banTill);
+    assertEquals(banTill.getTime(), BanAndMuteIndex.getInstance().getExpiry(BanAndMuteIndex.Table.BANNED_IPS, ip));
+    final Connection con = Database.getConnection();
+    try {
+      final PreparedStatement ps = con.prepareStatement("select ban_till from banned_ips where ip = ?");
+      ps.setString(1, ip);
+      final ResultSet rs = ps.executeQuery();
+      assertTrue(rs.next());
+      assertEquals(banTill.getTime(), rs.getTimestamp(1).getTime());
+      rs.close();
+      ps.close();
+    } finally {
+      DbUtil.closeConnection(con);
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package games.strategy.engine.lobby.server.userDB;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+public class DbConnectionPoolTest extends TestCase {
+  private final AtomicInteger m_opened = new AtomicInteger();
+  private final DbConnectionPool m_pool = new DbConnectionPool(new Callable<Connection>() {
+    @Override
+    public Connection call() throws SQLException {
+      m_opened.incrementAndGet();
+      return DriverManager.getConnection(Database.URL, Database.getDbProps());
+    }
+  });
+
+  @Override
+  protected void setUp() throws Exception {
+    // sets up the database and its tables
+    Database.getConnection().close();
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    m_pool.clear();
+  }
+
+  public void testConnectionsAreReused() throws Exception {
+    final Connection first = m_pool.getConnection();
+    first.close();
+    assertTrue(first.isClosed());
+    assertEquals(1, m_pool.getIdleCount());
+    final Connection second = m_pool.getConnection();
+    assertFalse(second.isClosed());
+    assertEquals(1, m_opened.get());
+    second.close();
+    try {
+      first.createStatement();
+      fail("Used a closed connection");
+    } catch (final SQLException e) {
+      // expected
+    }
+  }
+
+  public void testIdleConnectionsAreLimited() throws Exception {
+    final List<Connection> connections = new ArrayList<Connection>();
+    for (int i = 0; i < DbConnectionPool.MAX_IDLE_CONNECTIONS + 2; i++) {
+      connections.add(m_pool.getConnection());
+    }
+    for (final Connection connection : connections) {
+      connection.close();
+    }
+    assertEquals(DbConnectionPool.MAX_IDLE_CONNECTIONS + 2, m_opened.get());
+    assertEquals(DbConnectionPool.MAX_IDLE_CONNECTIONS, m_pool.getIdleCount());
+  }
+
+  public void testPreparedStatementsAreCachedAndTimed() throws Exception {
+    final String sql = "select count(*) from ta_users where userName = ?";
+    for (int i = 0; i < 3; i++) {
+      final Connection connection = m_pool.getConnection();
+      final PreparedStatement ps = connection.prepareStatement(sql);
+      ps.setString(1, "nobody" + i);
+      final ResultSet rs = ps.executeQuery();
+      assertTrue(rs.next());
+      assertEquals(0, rs.getInt(1));
+      rs.close();
+      ps.close();
+      connection.close();
+    }
+    assertEquals(1, m_opened.get());
+    assertEquals(1, m_pool.getQueryTimings().size());
+    final DbConnectionPool.QueryTiming timing = m_pool.getQueryTimings().get(0);
+    assertEquals(sql, timing.getSql());
+    assertEquals(3, timing.getCount());
+  }
+
+  public void testStatementsCanNotBeUsedAfterTheConnectionIsClosed() throws Exception {
+    final String sql = "select count(*) from ta_users where userName = ?";
+    final Connection first = m_pool.getConnection();
+    final PreparedStatement stale = first.prepareStatement(sql);
+    stale.setString(1, "somebody");
+    final ResultSet staleResults = stale.executeQuery();
+    first.close();
+    assertTrue(stale.isClosed());
+    assertTrue(staleResults.isClosed());
+    final Connection second = m_pool.getConnection();
+    final PreparedStatement ps = second.prepareStatement(sql);
+    ps.setString(1, "nobody");
+    try {
+      stale.setString(1, "somebody");
+      fail("Used a statement of a closed connection");
+    } catch (final SQLException e) {
+      // expected
+    }
+    final ResultSet rs = ps.executeQuery();
+    assertTrue(rs.next());
+    ps.close();
+    assertTrue(rs.isClosed());
+    second.close();
+  }
+
+  public void testSameSqlTwiceOnOneConnectionGivesSeparateStatements() throws Exception {
+    final String sql = "select userName from ta_users where userName <> ?";
+    final Connection connection = m_pool.getConnection();
+    final PreparedStatement first = connection.prepareStatement(sql);
+    first.setString(1, "nobody");
+    final ResultSet firstResults = first.executeQuery();
+    final PreparedStatement second = connection.prepareStatement(sql);
+    second.setString(1, "somebody");
+    second.executeQuery().close();
+    assertFalse(firstResults.isClosed());
+    second.close();
+    first.close();
+    connection.close();
+    assertEquals(1, m_opened.get());
+  }
+}
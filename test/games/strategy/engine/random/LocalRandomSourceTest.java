@@ -0,0 +1,47 @@
+package games.strategy.engine.random;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+public class LocalRandomSourceTest extends TestCase {
+  public LocalRandomSourceTest(final String name) {
+    super(name);
+  }
+
+  public void testSameSeedSameNumbers() {
+    final int[] first = new LocalRandomSource(1234).getRandom(6, 100, null);
+    final int[] second = new LocalRandomSource(1234).getRandom(6, 100, null);
+    assertTrue(Arrays.equals(first, second));
+  }
+
+  public void testSetSeedRestartsSequence() {
+    final LocalRandomSource random = new LocalRandomSource(42);
+    final int[] first = random.getRandom(6, 50, null);
+    random.setSeed(42);
+    assertTrue(Arrays.equals(first, random.getRandom(6, 50, null)));
+  }
+
+  public void testSplitIsReproducible() {
+    final LocalRandomSource master1 = new LocalRandomSource(99);
+    final LocalRandomSource master2 = new LocalRandomSource(99);
+    final LocalRandomSource child1a = master1.split();
+    final LocalRandomSource child1b = master1.split();
+    final LocalRandomSource child2a = master2.split();
+    final int[] a = child1a.getRandom(1000, 50, null);
+    assertTrue(Arrays.equals(a, child2a.getRandom(1000, 50, null)));
+    assertFalse(Arrays.equals(a, child1b.getRandom(1000, 50, null)));
+  }
+
+  public void testRange() {
+    final LocalRandomSource random = new LocalRandomSource();
+    final int[] counts = new int[6];
+    for (final int number : random.getRandom(6, 6000, null)) {
+      assertTrue(number >= 0 && number < 6);
+      counts[number]++;
+    }
+    for (final int count : counts) {
+      assertTrue(count > 0);
+    }
+  }
+}
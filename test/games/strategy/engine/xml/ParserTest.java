@@ -3,6 +3,7 @@ package games.strategy.engine.xml;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import games.strategy.engine.data.DelegateList;
@@ -17,7 +18,9 @@ import games.strategy.engine.data.Resource;
 import games.strategy.engine.data.ResourceList;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.UnitTypeList;
+import games.strategy.engine.data.properties.IEditableProperty;
 import games.strategy.triplea.Constants;
+import games.strategy.triplea.xml.LoadGameUtil;
 import junit.framework.TestCase;
 
 public class ParserTest extends TestCase {
@@ -141,4 +144,34 @@ public class ParserTest extends TestCase {
     final Resource resource = gameData.getResourceList().getResource("silver");
     assertEquals(200, chretian.getResources().getQuantity(resource));
   }
+
+  public void testDelayedParsingReadsWhatIsNeededToSelectTheGame() {
+    final String game = "ww2global40_test.xml";
+    final GameData full = LoadGameUtil.loadTestGame(game, false);
+    final GameData selection = LoadGameUtil.loadTestGame(game, true);
+    assertEquals(full.getGameName(), selection.getGameName());
+    assertEquals(full.getGameVersion(), selection.getGameVersion());
+    assertEquals(full.getGameLoader().getClass(), selection.getGameLoader().getClass());
+    assertEquals(full.getDiceSides(), selection.getDiceSides());
+    assertEquals(full.getPlayerList().getNames().length, selection.getPlayerList().getNames().length);
+    for (final PlayerID player : full.getPlayerList()) {
+      final PlayerID selected = selection.getPlayerList().getPlayerID(player.getName());
+      assertNotNull(selected);
+      assertEquals(player.getOptional(), selected.getOptional());
+      assertEquals(full.getAllianceTracker().getAlliancesPlayerIsIn(player),
+          selection.getAllianceTracker().getAlliancesPlayerIsIn(selected));
+    }
+    final List<IEditableProperty> fullProperties = full.getProperties().getEditableProperties();
+    final List<IEditableProperty> selectionProperties = selection.getProperties().getEditableProperties();
+    assertEquals(fullProperties.size(), selectionProperties.size());
+    for (int i = 0; i < fullProperties.size(); i++) {
+      assertEquals(fullProperties.get(i).getName(), selectionProperties.get(i).getName());
+      assertEquals(fullProperties.get(i).getValue(), selectionProperties.get(i).getValue());
+    }
+    assertEquals(full.getProperties().get(Constants.TWO_HIT_BATTLESHIP_PROPERTY),
+        selection.getProperties().get(Constants.TWO_HIT_BATTLESHIP_PROPERTY));
+    // the rest of the game is not read
+    assertTrue(selection.getMap().getTerritories().isEmpty());
+    assertEquals(0, selection.getUnitTypeList().size());
+  }
 }
@@ -133,6 +133,20 @@ public class MessengerTest extends TestCase {
     assertEquals(m_serverListener.getMessageCount(), 0);
   }
 
+  public void testServerBroadcastLargeMessage() {
+    // written in many parts, each client from its own position in the shared buffer
+    final int count = 1 * 1000 * 1000;
+    final StringBuilder builder = new StringBuilder(count);
+    for (int i = 0; i < count; i++) {
+      builder.append('a');
+    }
+    final String message = builder.toString();
+    m_server.broadcast(message);
+    assertEquals(m_client1Listener.getLastMessage(), message);
+    assertEquals(m_client2Listener.getLastMessage(), message);
+    assertEquals(m_serverListener.getMessageCount(), 0);
+  }
+
   public void testClientBroadcast() {
     final String message = "Hello";
     m_client1.broadcast(message);
@@ -0,0 +1,49 @@
+package games.strategy.net.nio;
+
+import java.nio.ByteBuffer;
+
+import junit.framework.TestCase;
+
+public class ByteBufferPoolTest extends TestCase {
+  public void testBuffersAreReused() {
+    final ByteBufferPool pool = new ByteBufferPool();
+    final ByteBuffer first = pool.acquire(100);
+    assertTrue(first.isDirect());
+    assertEquals(0, first.position());
+    assertEquals(100, first.limit());
+    assertEquals(ByteBufferPool.SMALLEST_SIZE, first.capacity());
+    first.put((byte) 1);
+    pool.release(first);
+    assertEquals(1, pool.getPooledCount());
+    final ByteBuffer second = pool.acquire(ByteBufferPool.SMALLEST_SIZE);
+    assertSame(first, second);
+    assertEquals(0, second.position());
+    assertEquals(ByteBufferPool.SMALLEST_SIZE, second.limit());
+    assertEquals(0, pool.getPooledCount());
+  }
+
+  public void testSizeClasses() {
+    final ByteBufferPool pool = new ByteBufferPool();
+    assertEquals(ByteBufferPool.SMALLEST_SIZE * 2, pool.acquire(ByteBufferPool.SMALLEST_SIZE + 1).capacity());
+    assertEquals(ByteBufferPool.LARGEST_SIZE, pool.acquire(ByteBufferPool.LARGEST_SIZE).capacity());
+    final ByteBuffer huge = pool.acquire(ByteBufferPool.LARGEST_SIZE + 1);
+    assertFalse(huge.isDirect());
+    pool.release(huge);
+    pool.release(ByteBuffer.allocateDirect(1000));
+    assertEquals(0, pool.getPooledCount());
+  }
+
+  public void testInputStreamReadsRemainingBytes() throws Exception {
+    final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, (byte) 200, 4});
+    buffer.position(1);
+    final ByteBufferInputStream in = new ByteBufferInputStream(buffer);
+    assertEquals(3, in.available());
+    assertEquals(2, in.read());
+    final byte[] bytes = new byte[5];
+    assertEquals(2, in.read(bytes, 1, 5));
+    assertEquals((byte) 200, bytes[1]);
+    assertEquals(4, bytes[2]);
+    assertEquals(-1, in.read());
+    assertEquals(-1, in.read(bytes, 0, 1));
+  }
+}
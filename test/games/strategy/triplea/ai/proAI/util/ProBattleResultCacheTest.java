@@ -0,0 +1,86 @@
+package games.strategy.triplea.ai.proAI.util;
+
+import games.strategy.engine.data.GameData;
+import games.strategy.engine.data.PlayerID;
+import games.strategy.engine.data.Territory;
+import games.strategy.engine.data.Unit;
+import games.strategy.triplea.ai.proAI.data.ProBattleResult;
+import games.strategy.triplea.delegate.GameDataTestUtil;
+import games.strategy.triplea.xml.LoadGameUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+public class ProBattleResultCacheTest extends TestCase {
+  private GameData m_data;
+  private Territory m_germany;
+  private PlayerID m_russians;
+  private PlayerID m_germans;
+
+  @Override
+  protected void setUp() throws Exception {
+    m_data = LoadGameUtil.loadTestGame("revised_test.xml");
+    m_germany = m_data.getMap().getTerritory("Germany");
+    m_russians = GameDataTestUtil.russians(m_data);
+    m_germans = GameDataTestUtil.germans(m_data);
+  }
+
+  public void testSameArmiesOfDifferentUnitsShareAResult() {
+    final List<Unit> attackers = GameDataTestUtil.infantry(m_data).create(2, m_russians);
+    attackers.addAll(GameDataTestUtil.armour(m_data).create(1, m_russians));
+    final List<Unit> defenders = GameDataTestUtil.infantry(m_data).create(2, m_germans);
+    final List<Unit> otherAttackers = GameDataTestUtil.armour(m_data).create(1, m_russians);
+    otherAttackers.addAll(GameDataTestUtil.infantry(m_data).create(2, m_russians));
+    final List<Unit> otherDefenders = GameDataTestUtil.infantry(m_data).create(2, m_germans);
+    final List<Unit> none = Collections.emptyList();
+    final String key = ProBattleResultCache.getKey(m_russians, m_germans, m_germany, attackers, defenders, none, false);
+    assertEquals(key,
+        ProBattleResultCache.getKey(m_russians, m_germans, m_germany, otherAttackers, otherDefenders, none, false));
+    assertFalse(key.equals(
+        ProBattleResultCache.getKey(m_russians, m_germans, m_germany, otherAttackers, otherDefenders, none, true)));
+    final List<Unit> fewerAttackers = attackers.subList(0, 2);
+    assertFalse(key.equals(
+        ProBattleResultCache.getKey(m_russians, m_germans, m_germany, fewerAttackers, defenders, none, false)));
+
+    final ProBattleResultCache cache = new ProBattleResultCache();
+    assertNull(cache.get(key, attackers, defenders));
+    cache.put(key, new ProBattleResult(60, 5, true, new ArrayList<>(attackers.subList(1, 3)), new ArrayList<>(), 2));
+    final ProBattleResult result = cache.get(key, otherAttackers, otherDefenders);
+    assertEquals(60.0, result.getWinPercentage());
+    assertEquals(5.0, result.getTUVSwing());
+    // the remaining infantry and armour are swapped for the asker's own units
+    assertEquals(2, result.getAverageAttackersRemaining().size());
+    assertTrue(otherAttackers.containsAll(result.getAverageAttackersRemaining()));
+    assertTrue(result.getAverageAttackersRemaining().contains(otherAttackers.get(0)));
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+  }
+
+  public void testSameUnitsForDifferentPlayersDoNotShareAResult() {
+    final PlayerID british = GameDataTestUtil.british(m_data);
+    final List<Unit> attackers = GameDataTestUtil.infantry(m_data).create(1, m_russians);
+    attackers.addAll(GameDataTestUtil.infantry(m_data).create(1, british));
+    final List<Unit> defenders = GameDataTestUtil.infantry(m_data).create(2, m_germans);
+    final List<Unit> none = Collections.emptyList();
+    // the battle is fought as whoever owns the first unit, which the sorted units of the key do not show
+    assertFalse(ProBattleResultCache.getKey(m_russians, m_germans, m_germany, attackers, defenders, none, false).equals(
+        ProBattleResultCache.getKey(british, m_germans, m_germany, attackers, defenders, none, false)));
+  }
+
+  public void testLeastRecentlyUsedResultIsDropped() {
+    final ProBattleResultCache cache = new ProBattleResultCache(2);
+    final List<Unit> none = Collections.emptyList();
+    cache.put("a", new ProBattleResult());
+    cache.put("b", new ProBattleResult());
+    assertNotNull(cache.get("a", none, none));
+    cache.put("c", new ProBattleResult());
+    assertEquals(2, cache.size());
+    assertNotNull(cache.get("a", none, none));
+    assertNull(cache.get("b", none, none));
+    cache.clear();
+    assertNull(cache.get("c", none, none));
+  }
+}
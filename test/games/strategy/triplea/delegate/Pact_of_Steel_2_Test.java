@@ -2,14 +2,19 @@ package games.strategy.triplea.delegate;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 
+import games.strategy.engine.data.ChangeFactory;
 import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.ITestDelegateBridge;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
 import games.strategy.engine.data.UnitType;
+import games.strategy.triplea.attachments.AbstractConditionsAttachment;
+import games.strategy.triplea.attachments.ICondition;
 import games.strategy.triplea.attachments.RulesAttachment;
 import games.strategy.triplea.xml.LoadGameUtil;
 import games.strategy.util.IntegerMap;
@@ -93,6 +98,25 @@ public class Pact_of_Steel_2_Test extends TestCase {
     assertTrue(russian_easternEurope.isSatisfied(null, bridge));
   }
 
+  public void testTestedConditionsFollowChanges() {
+    final PlayerID russians = GameDataTestUtil.russians(m_data);
+    final ITestDelegateBridge bridge = getDelegateBridge(russians);
+    // russia has to own at least 3 of Norway, Eastern Europe, East Balkans, Ukraine and Belorussia
+    final RulesAttachment russian_easternEurope =
+        RulesAttachment.get(russians, "objectiveAttachmentRussians1_EasternEurope");
+    final HashSet<ICondition> conditions = new HashSet<ICondition>(Collections.singleton(russian_easternEurope));
+    assertFalse(AbstractConditionsAttachment.testAllConditionsRecursive(conditions, null, bridge)
+        .get(russian_easternEurope));
+    // the result is remembered until the game data changes
+    assertFalse(AbstractConditionsAttachment.testAllConditionsRecursive(conditions, null, bridge)
+        .get(russian_easternEurope));
+    for (final String name : new String[] {"Norway", "Eastern Europe", "East Balkans"}) {
+      m_data.performChange(ChangeFactory.changeOwner(m_data.getMap().getTerritory(name), russians));
+    }
+    assertTrue(AbstractConditionsAttachment.testAllConditionsRecursive(conditions, null, bridge)
+        .get(russian_easternEurope));
+  }
+
   public void testSupportAttachments() {
     // TODO
   }
@@ -14,6 +14,7 @@ import games.strategy.engine.data.GameData;
 import games.strategy.engine.data.PlayerID;
 import games.strategy.engine.data.Territory;
 import games.strategy.engine.data.Unit;
+import games.strategy.triplea.Constants;
 import games.strategy.triplea.delegate.GameDataTestUtil;
 import games.strategy.triplea.delegate.TerritoryEffectHelper;
 import games.strategy.triplea.xml.LoadGameUtil;
@@ -151,4 +152,171 @@ public class OddsCalculatorTest extends TestCase {
     assertEquals(results.getAttackerWinPercent(), 1.0);
     assertEquals(results.getDefenderWinPercent(), 0.0);
   }
+
+  public void testSeededCalculationsCanBeReplayed() {
+    final Territory eastCanada = m_data.getMap().getTerritory("Eastern Canada");
+    final List<Unit> defendingUnits = new ArrayList<Unit>(eastCanada.getUnits().getUnits());
+    final PlayerID germans = GameDataTestUtil.germans(m_data);
+    final PlayerID british = GameDataTestUtil.british(m_data);
+    final List<Unit> attackingUnits = GameDataTestUtil.armour(m_data).create(1, germans, false);
+    final List<Unit> bombardingUnits = Collections.emptyList();
+    final IOddsCalculator calculator = new ConcurrentOddsCalculator("Test");
+    calculator.setGameData(m_data);
+    calculator.setRandomSeed(12345);
+    final AggregateResults first = calculator.setCalculateDataAndCalculate(germans, british, eastCanada,
+        attackingUnits, defendingUnits, bombardingUnits, TerritoryEffectHelper.getEffects(eastCanada), 200);
+    calculator.setRandomSeed(12345);
+    final AggregateResults second = calculator.setCalculateDataAndCalculate(germans, british, eastCanada,
+        attackingUnits, defendingUnits, bombardingUnits, TerritoryEffectHelper.getEffects(eastCanada), 200);
+    calculator.shutdown();
+    assertEquals(first.getAttackerWinPercent(), second.getAttackerWinPercent());
+    assertEquals(first.getDefenderWinPercent(), second.getDefenderWinPercent());
+    assertEquals(first.getAverageBattleRoundsFought(), second.getAverageBattleRoundsFought());
+  }
+
+  public void testSimulatedLandBattleMatchesRealBattle() {
+    final Territory germany = m_data.getMap().getTerritory("Germany");
+    final PlayerID russians = GameDataTestUtil.russians(m_data);
+    final PlayerID germans = GameDataTestUtil.germans(m_data);
+    final List<Unit> attackingUnits = GameDataTestUtil.infantry(m_data).create(4, russians);
+    attackingUnits.addAll(m_data.getUnitTypeList().getUnitType("artillery").create(2, russians));
+    attackingUnits.addAll(GameDataTestUtil.armour(m_data).create(2, russians));
+    attackingUnits.addAll(GameDataTestUtil.fighter(m_data).create(1, russians));
+    final List<Unit> defendingUnits = GameDataTestUtil.infantry(m_data).create(5, germans);
+    defendingUnits.addAll(GameDataTestUtil.armour(m_data).create(1, germans));
+    defendingUnits.addAll(GameDataTestUtil.fighter(m_data).create(1, germans));
+    assertSimulatorMatchesRealBattle(russians, germans, germany, attackingUnits, defendingUnits, -1);
+  }
+
+  public void testSimulatedSeaBattleWithRetreatMatchesRealBattle() {
+    final Territory sz2 = m_data.getMap().getTerritory("2 Sea Zone");
+    final PlayerID germans = GameDataTestUtil.germans(m_data);
+    final PlayerID british = GameDataTestUtil.british(m_data);
+    final List<Unit> attackingUnits = GameDataTestUtil.battleship(m_data).create(2, germans);
+    attackingUnits.addAll(GameDataTestUtil.fighter(m_data).create(2, germans));
+    final List<Unit> defendingUnits = GameDataTestUtil.battleship(m_data).create(1, british);
+    defendingUnits.addAll(GameDataTestUtil.carrier(m_data).create(1, british));
+    defendingUnits.addAll(GameDataTestUtil.fighter(m_data).create(2, british));
+    assertSimulatorMatchesRealBattle(germans, british, sz2, attackingUnits, defendingUnits, 2);
+  }
+
+  public void testSimulatedLowLuckBattleMatchesRealBattle() {
+    m_data.getProperties().set(Constants.LOW_LUCK, true);
+    final Territory germany = m_data.getMap().getTerritory("Germany");
+    final PlayerID russians = GameDataTestUtil.russians(m_data);
+    final PlayerID germans = GameDataTestUtil.germans(m_data);
+    final List<Unit> attackingUnits = GameDataTestUtil.infantry(m_data).create(3, russians);
+    attackingUnits.addAll(GameDataTestUtil.armour(m_data).create(3, russians));
+    final List<Unit> defendingUnits = GameDataTestUtil.infantry(m_data).create(5, germans);
+    assertSimulatorMatchesRealBattle(russians, germans, germany, attackingUnits, defendingUnits, -1);
+  }
+
+  public void testExactOddsOfBalancedFight() {
+    final Territory eastCanada = m_data.getMap().getTerritory("Eastern Canada");
+    final List<Unit> defendingUnits = new ArrayList<Unit>(eastCanada.getUnits().getUnits());
+    final PlayerID germans = GameDataTestUtil.germans(m_data);
+    final PlayerID british = GameDataTestUtil.british(m_data);
+    final List<Unit> attackingUnits = GameDataTestUtil.armour(m_data).create(1, germans, false);
+    final List<Unit> bombardingUnits = Collections.emptyList();
+    final IOddsCalculator calculator = new ConcurrentOddsCalculator("Test");
+    calculator.setGameData(m_data);
+    calculator.setCalculateExactOdds(true);
+    final AggregateResults results = calculator.setCalculateDataAndCalculate(germans, british, eastCanada,
+        attackingUnits, defendingUnits, bombardingUnits, TerritoryEffectHelper.getEffects(eastCanada), 500);
+    calculator.shutdown();
+    assertTrue(results instanceof ExactAggregateResults);
+    assertEquals(1.0 / 3, results.getAttackerWinPercent(), 0.000001);
+    assertEquals(1.0 / 3, results.getDefenderWinPercent(), 0.000001);
+    assertEquals(1.0 / 3, results.getDrawPercent(), 0.000001);
+    assertEquals(4.0 / 3, results.getAverageBattleRoundsFought(), 0.000001);
+  }
+
+  public void testExactOddsMatchSimulatedLandBattle() {
+    final Territory germany = m_data.getMap().getTerritory("Germany");
+    final PlayerID russians = GameDataTestUtil.russians(m_data);
+    final PlayerID germans = GameDataTestUtil.germans(m_data);
+    final List<Unit> attackingUnits = GameDataTestUtil.infantry(m_data).create(4, russians);
+    attackingUnits.addAll(m_data.getUnitTypeList().getUnitType("artillery").create(2, russians));
+    attackingUnits.addAll(GameDataTestUtil.armour(m_data).create(2, russians));
+    attackingUnits.addAll(GameDataTestUtil.fighter(m_data).create(1, russians));
+    final List<Unit> defendingUnits = GameDataTestUtil.infantry(m_data).create(5, germans);
+    defendingUnits.addAll(GameDataTestUtil.armour(m_data).create(1, germans));
+    defendingUnits.addAll(GameDataTestUtil.fighter(m_data).create(1, germans));
+    assertExactOddsMatchSimulation(russians, germans, germany, attackingUnits, defendingUnits, -1);
+  }
+
+  public void testExactOddsMatchSimulatedSeaBattleWithRetreat() {
+    final Territory sz2 = m_data.getMap().getTerritory("2 Sea Zone");
+    final PlayerID germans = GameDataTestUtil.germans(m_data);
+    final PlayerID british = GameDataTestUtil.british(m_data);
+    final List<Unit> attackingUnits = GameDataTestUtil.battleship(m_data).create(2, germans);
+    attackingUnits.addAll(GameDataTestUtil.fighter(m_data).create(2, germans));
+    final List<Unit> defendingUnits = GameDataTestUtil.battleship(m_data).create(1, british);
+    defendingUnits.addAll(GameDataTestUtil.carrier(m_data).create(1, british));
+    defendingUnits.addAll(GameDataTestUtil.fighter(m_data).create(2, british));
+    assertExactOddsMatchSimulation(germans, british, sz2, attackingUnits, defendingUnits, 2);
+  }
+
+  public void testExactOddsMatchSimulatedLowLuckBattle() {
+    m_data.getProperties().set(Constants.LOW_LUCK, true);
+    final Territory germany = m_data.getMap().getTerritory("Germany");
+    final PlayerID russians = GameDataTestUtil.russians(m_data);
+    final PlayerID germans = GameDataTestUtil.germans(m_data);
+    final List<Unit> attackingUnits = GameDataTestUtil.infantry(m_data).create(3, russians);
+    attackingUnits.addAll(GameDataTestUtil.armour(m_data).create(3, russians));
+    final List<Unit> defendingUnits = GameDataTestUtil.infantry(m_data).create(5, germans);
+    assertExactOddsMatchSimulation(russians, germans, germany, attackingUnits, defendingUnits, -1);
+  }
+
+  private void assertExactOddsMatchSimulation(final PlayerID attacker, final PlayerID defender,
+      final Territory location, final List<Unit> attackingUnits, final List<Unit> defendingUnits,
+      final int retreatAfterRound) {
+    final List<Unit> bombardingUnits = Collections.emptyList();
+    final OddsCalculator exactCalculator = new OddsCalculator(m_data);
+    exactCalculator.setRetreatAfterRound(retreatAfterRound);
+    exactCalculator.setCalculateExactOdds(true);
+    final AggregateResults exact = exactCalculator.setCalculateDataAndCalculate(attacker, defender, location,
+        attackingUnits, defendingUnits, bombardingUnits, TerritoryEffectHelper.getEffects(location), 1);
+    assertTrue(exact instanceof ExactAggregateResults);
+    double odds = 0;
+    for (int i = 0; i < exact.getResults().size(); i++) {
+      odds += ((ExactAggregateResults) exact).getOdds(i);
+    }
+    assertEquals(1.0, odds, 0.000001);
+    final OddsCalculator simulated = new OddsCalculator(m_data);
+    simulated.setRetreatAfterRound(retreatAfterRound);
+    final AggregateResults expected = simulated.setCalculateDataAndCalculate(attacker, defender, location,
+        attackingUnits, defendingUnits, bombardingUnits, TerritoryEffectHelper.getEffects(location), 10000);
+    assertEquals(expected.getAttackerWinPercent(), exact.getAttackerWinPercent(), 0.03);
+    assertEquals(expected.getDefenderWinPercent(), exact.getDefenderWinPercent(), 0.03);
+    assertEquals(expected.getDrawPercent(), exact.getDrawPercent(), 0.03);
+    assertEquals(expected.getAverageBattleRoundsFought(), exact.getAverageBattleRoundsFought(), 0.1);
+    assertEquals(expected.getAverageAttackingUnitsLeft(), exact.getAverageAttackingUnitsLeft(), 0.15);
+    assertEquals(expected.getAverageDefendingUnitsLeft(), exact.getAverageDefendingUnitsLeft(), 0.15);
+    assertEquals(expected.getAverageTUVswing(attacker, attackingUnits, defender, defendingUnits, m_data),
+        exact.getAverageTUVswing(attacker, attackingUnits, defender, defendingUnits, m_data), 1.0);
+  }
+
+  private void assertSimulatorMatchesRealBattle(final PlayerID attacker, final PlayerID defender,
+      final Territory location, final List<Unit> attackingUnits, final List<Unit> defendingUnits,
+      final int retreatAfterRound) {
+    final List<Unit> bombardingUnits = Collections.emptyList();
+    // seeded so that the comparison of two samples can not fail by chance
+    final OddsCalculator simulated = new OddsCalculator(m_data);
+    simulated.setRandomSeed(12345);
+    simulated.setRetreatAfterRound(retreatAfterRound);
+    final AggregateResults expected = simulated.setCalculateDataAndCalculate(attacker, defender, location,
+        attackingUnits, defendingUnits, bombardingUnits, TerritoryEffectHelper.getEffects(location), 2000);
+    final OddsCalculator real = new OddsCalculator(m_data);
+    real.setRandomSeed(12345);
+    real.setRetreatAfterRound(retreatAfterRound);
+    real.setUseBattleSimulator(false);
+    final AggregateResults actual = real.setCalculateDataAndCalculate(attacker, defender, location, attackingUnits,
+        defendingUnits, bombardingUnits, TerritoryEffectHelper.getEffects(location), 2000);
+    assertEquals(actual.getAttackerWinPercent(), expected.getAttackerWinPercent(), 0.05);
+    assertEquals(actual.getDefenderWinPercent(), expected.getDefenderWinPercent(), 0.05);
+    assertEquals(actual.getAverageBattleRoundsFought(), expected.getAverageBattleRoundsFought(), 0.2);
+    assertEquals(actual.getAverageAttackingUnitsLeft(), expected.getAverageAttackingUnitsLeft(), 0.3);
+    assertEquals(actual.getAverageDefendingUnitsLeft(), expected.getAverageDefendingUnitsLeft(), 0.3);
+  }
 }
@@ -0,0 +1,83 @@
+package games.strategy.triplea.ui;
+
+import java.awt.Polygon;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import games.strategy.ui.Util;
+import junit.framework.TestCase;
+
+public class TerritoryPolygonIndexTest extends TestCase {
+  private Map<String, List<Polygon>> m_polys;
+
+  @Override
+  public void setUp() {
+    m_polys = new LinkedHashMap<String, List<Polygon>>();
+    // a sea zone around an island, and two land territories next to each other
+    m_polys.put("Sea Zone 1", Arrays.asList(new Polygon(new int[] {0, 300, 300, 0}, new int[] {0, 0, 300, 300}, 4)));
+    m_polys.put("Island",
+        Arrays.asList(new Polygon(new int[] {100, 200, 200, 100}, new int[] {100, 100, 200, 200}, 4)));
+    m_polys.put("West", Arrays.asList(new Polygon(new int[] {300, 500, 500, 300}, new int[] {0, 0, 300, 300}, 4)));
+    m_polys.put("East", Arrays.asList(new Polygon(new int[] {500, 700, 700, 500}, new int[] {0, 0, 300, 300}, 4),
+        new Polygon(new int[] {800, 900, 850}, new int[] {0, 0, 100}, 3)));
+  }
+
+  public void testLandBeforeSea() {
+    final TerritoryPolygonIndex index = new TerritoryPolygonIndex(m_polys);
+    assertEquals("Island", index.getTerritoryAt(150, 150));
+    assertEquals("Sea Zone 1", index.getTerritoryAt(50, 250));
+    assertEquals("West", index.getTerritoryAt(400, 10));
+    assertEquals("East", index.getTerritoryAt(850, 20));
+    assertNull(index.getTerritoryAt(750, 200));
+    assertNull(index.getTerritoryAt(-10, 10));
+    assertNull(index.getTerritoryAt(5000, 10));
+  }
+
+  public void testSameAsTestingEveryPolygon() {
+    final Random random = new Random(42);
+    final Map<String, List<Polygon>> polys = new LinkedHashMap<String, List<Polygon>>();
+    for (int i = 0; i < 200; i++) {
+      final List<Polygon> polygons = new ArrayList<Polygon>();
+      for (int j = 0; j < 1 + random.nextInt(3); j++) {
+        final Polygon polygon = new Polygon();
+        final int x = random.nextInt(2000);
+        final int y = random.nextInt(1000);
+        for (int k = 0; k < 3 + random.nextInt(4); k++) {
+          polygon.addPoint(x + random.nextInt(150), y + random.nextInt(150));
+        }
+        polygons.add(polygon);
+      }
+      polys.put((i % 3 == 0 ? "Sea Zone " : "Land ") + i, polygons);
+    }
+    final TerritoryPolygonIndex index = new TerritoryPolygonIndex(polys);
+    for (int i = 0; i < 5000; i++) {
+      final double x = random.nextDouble() * 2300 - 100;
+      final double y = random.nextDouble() * 1300 - 100;
+      final String expected = getTerritoryAt(polys, x, y);
+      assertEquals(expected, index.getTerritoryAt(x, y));
+    }
+  }
+
+  /**
+   * Tests every polygon, the way territories were found before there was an index.
+   */
+  private static String getTerritoryAt(final Map<String, List<Polygon>> polys, final double x, final double y) {
+    String seaName = null;
+    for (final Map.Entry<String, List<Polygon>> entry : polys.entrySet()) {
+      for (final Polygon polygon : entry.getValue()) {
+        if (polygon.contains(x, y)) {
+          if (Util.isTerritoryNameIndicatingWater(entry.getKey())) {
+            seaName = entry.getKey();
+          } else {
+            return entry.getKey();
+          }
+        }
+      }
+    }
+    return seaName;
+  }
+}
@@ -21,6 +21,14 @@ public class LoadGameUtil {
     return loadGame(game, new String[] {"test_data"});
   }
 
+  /**
+   * @param delayParsing
+   *        should only what is needed to select the game be parsed, as the game chooser does?
+   */
+  public static GameData loadTestGame(final String game, final boolean delayParsing) {
+    return loadGame(game, new String[] {"test_data"}, delayParsing);
+  }
+
   /**
    * @deprecated drop the first parameter and call either loadGame(String game)
    *             or LoadTestGame(String game) instead
@@ -31,12 +39,15 @@ public class LoadGameUtil {
   }
 
   private static GameData loadGame(final String game, final String[] possibleFolders) {
+    return loadGame(game, possibleFolders, false);
+  }
 
+  private static GameData loadGame(final String game, final String[] possibleFolders, final boolean delayParsing) {
     try (final InputStream is = openInputStream(game, possibleFolders)) {
       if (is == null) {
         throw new IllegalStateException(game + " does not exist");
       }
-      return (new GameParser()).parse(is, new AtomicReference<String>(), false);
+      return (new GameParser()).parse(is, new AtomicReference<String>(), delayParsing);
     } catch (final Exception e) {
       throw new IllegalStateException(e);
     }
@@ -1,5 +1,13 @@
 package games.strategy.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
 import junit.framework.TestCase;
 
 public class IntegerMapTest extends TestCase {
@@ -64,4 +72,86 @@ public class IntegerMapTest extends TestCase {
     map1.add(v3, 3);
     assertTrue(map1.greaterThanOrEqualTo(map2));
   }
+
+  public void testManyKeysAddedAndRemoved() {
+    final IntegerMap<Integer> map = new IntegerMap<Integer>();
+    final HashMap<Integer, Integer> expected = new HashMap<Integer, Integer>();
+    for (int i = 0; i < 5000; i++) {
+      // multiples of 1024 all have the same low bits
+      final Integer key = Integer.valueOf((i % 700) * 1024);
+      if (i % 3 == 0) {
+        map.removeKey(key);
+        expected.remove(key);
+      } else {
+        map.add(key, i);
+        final Integer old = expected.get(key);
+        expected.put(key, (old == null ? 0 : old.intValue()) + i);
+      }
+    }
+    assertEquals(expected.size(), map.size());
+    for (final Entry<Integer, Integer> entry : expected.entrySet()) {
+      assertTrue(map.containsKey(entry.getKey()));
+      assertEquals(entry.getValue().intValue(), map.getInt(entry.getKey()));
+    }
+    assertEquals(expected.keySet(), map.keySet());
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertFalse(map.containsKey(Integer.valueOf(1)));
+    assertEquals(0, map.getInt(Integer.valueOf(1)));
+  }
+
+  public void testViewsChangeTheMap() {
+    final IntegerMap<Object> map = new IntegerMap<Object>();
+    map.put(v1, 1);
+    map.put(v2, 2);
+    map.put(null, 3);
+    assertEquals(3, map.getInt(null));
+    for (final Entry<Object, Integer> entry : map.entrySet()) {
+      entry.setValue(entry.getValue() * 10);
+    }
+    assertEquals(60, map.totalValues());
+    final Iterator<Object> iter = map.keySet().iterator();
+    while (iter.hasNext()) {
+      if (iter.next() == v1) {
+        iter.remove();
+      }
+    }
+    assertFalse(map.containsKey(v1));
+    assertEquals(2, map.size());
+    assertTrue(map.keySet().remove(v2));
+    assertEquals(1, map.size());
+    assertEquals(30, map.values().iterator().next().intValue());
+  }
+
+  public void testCopyAndEquals() {
+    final IntegerMap<Object> map = new IntegerMap<Object>();
+    map.add(v1, 5);
+    map.add(v2, 3);
+    final IntegerMap<Object> copy = map.copy();
+    assertEquals(map, copy);
+    copy.add(v1, 1);
+    assertFalse(map.equals(copy));
+    assertEquals(5, map.getInt(v1));
+    map.add(map);
+    assertEquals(10, map.getInt(v1));
+    assertEquals(6, map.getInt(v2));
+  }
+
+  @SuppressWarnings("unchecked")
+  public void testSerialization() throws Exception {
+    final IntegerMap<String> map = new IntegerMap<String>();
+    map.put("a", 1);
+    map.put("b", -2);
+    map.put("c", 0);
+    map.removeKey("c");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final ObjectOutputStream out = new ObjectOutputStream(bytes);
+    out.writeObject(map);
+    out.close();
+    final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    final IntegerMap<String> read = (IntegerMap<String>) in.readObject();
+    assertEquals(map, read);
+    assertFalse(read.containsKey("c"));
+    read.add("a", 1);
+    assertEquals(2, read.getInt("a"));
+  }
 }